@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedCounter;
+import org.jboss.weld.benchmarks.beans.DependentCounter;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link BeanManager#getReference(Bean, java.lang.reflect.Type, jakarta.enterprise.context.spi.CreationalContext)} for a normal-scoped and a
+ * dependent bean.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanManagerGetReferenceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        BeanManager beanManager;
+
+        Bean<?> applicationScopedBean;
+
+        Bean<?> dependentBean;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addBeanClasses(ApplicationScopedCounter.class, DependentCounter.class);
+        }
+
+        @Override
+        protected void init() {
+            beanManager = container.getBeanManager();
+            applicationScopedBean = beanManager.resolve(beanManager.getBeans(ApplicationScopedCounter.class));
+            dependentBean = beanManager.resolve(beanManager.getBeans(DependentCounter.class));
+        }
+    }
+
+    @Benchmark
+    public Object getReferenceApplicationScoped(ContainerState state) {
+        return state.beanManager.getReference(state.applicationScopedBean, ApplicationScopedCounter.class,
+                state.beanManager.createCreationalContext(state.applicationScopedBean));
+    }
+
+    @Benchmark
+    public Object getReferenceDependent(ContainerState state) {
+        return state.beanManager.getReference(state.dependentBean, DependentCounter.class, state.beanManager.createCreationalContext(state.dependentBean));
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.control.RequestContextController;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedCounter;
+import org.jboss.weld.benchmarks.beans.RequestScopedCounter;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Invocation of a business method through a client proxy of an {@code @ApplicationScoped} and a {@code @RequestScoped} bean.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientProxyInvocationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        ApplicationScopedCounter applicationScopedCounter;
+
+        RequestScopedCounter requestScopedCounter;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addBeanClasses(ApplicationScopedCounter.class, RequestScopedCounter.class);
+        }
+
+        @Override
+        protected void init() {
+            applicationScopedCounter = container.select(ApplicationScopedCounter.class).get();
+            requestScopedCounter = container.select(RequestScopedCounter.class).get();
+        }
+    }
+
+    /**
+     * The request context is active on each benchmark thread for the whole trial.
+     */
+    @State(Scope.Thread)
+    public static class RequestContextState {
+
+        private RequestContextController controller;
+
+        @Setup
+        public void activate(ContainerState containerState) {
+            controller = containerState.container.select(RequestContextController.class).get();
+            controller.activate();
+        }
+
+        @TearDown
+        public void deactivate() {
+            controller.deactivate();
+        }
+    }
+
+    @Benchmark
+    public int invokeApplicationScoped(ContainerState state) {
+        return state.applicationScopedCounter.increment();
+    }
+
+    @Benchmark
+    public int invokeRequestScoped(ContainerState state, RequestContextState requestContext) {
+        return state.requestScopedCounter.increment();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+
+import org.jboss.weld.benchmarks.beans.BenchmarkEvent;
+import org.jboss.weld.benchmarks.beans.ObserverRegistrar;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Firing an event through {@code Event.select()} with a qualifier, compared to firing through an event obtained once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSelectBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        @Param({ "1", "10" })
+        public int observers;
+
+        Event<Object> root;
+
+        Event<BenchmarkEvent> event;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addExtension(new ObserverRegistrar(observers));
+        }
+
+        @Override
+        protected void init() {
+            root = container.event();
+            event = root.select(BenchmarkEvent.class);
+        }
+    }
+
+    @Benchmark
+    public int fire(ContainerState state) {
+        BenchmarkEvent payload = new BenchmarkEvent();
+        state.event.fire(payload);
+        return payload.getNotified();
+    }
+
+    @Benchmark
+    public int selectAndFire(ContainerState state) {
+        BenchmarkEvent payload = new BenchmarkEvent();
+        state.root.select(BenchmarkEvent.class, NamedLiteral.of("tenant")).fire(payload);
+        return payload.getNotified();
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedCounter;
+import org.jboss.weld.benchmarks.beans.DependentCounter;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dynamic lookup via {@code Instance.select().get()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstanceSelectBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        Instance<Object> instance;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addBeanClasses(ApplicationScopedCounter.class, DependentCounter.class);
+        }
+
+        @Override
+        protected void init() {
+            instance = container;
+        }
+    }
+
+    @Benchmark
+    public Object selectApplicationScoped(ContainerState state) {
+        return state.instance.select(ApplicationScopedCounter.class).get();
+    }
+
+    @Benchmark
+    public Object selectDependent(ContainerState state) {
+        return state.instance.select(DependentCounter.class).get();
+    }
+
+    @Benchmark
+    public Object selectApplicationScopedWithQualifier(ContainerState state) {
+        return state.instance.select(ApplicationScopedCounter.class, Default.Literal.INSTANCE).get();
+    }
+
+}
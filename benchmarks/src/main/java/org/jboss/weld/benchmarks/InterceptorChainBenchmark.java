@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.benchmarks.beans.InterceptorChain;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Invocation of an intercepted business method of an {@code @ApplicationScoped} bean with an interceptor chain of the given depth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterceptorChainBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        @Param({ "1", "2", "3", "4", "5" })
+        public int depth;
+
+        InterceptorChain.Service service;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addBeanClasses(InterceptorChain.interceptors());
+            weld.addBeanClass(InterceptorChain.service(depth));
+        }
+
+        @Override
+        protected void init() {
+            service = container.select(InterceptorChain.service(depth)).get();
+        }
+    }
+
+    @Benchmark
+    public int invoke(ContainerState state) {
+        return state.service.compute(1);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Creation lock acquisition and release in a {@link LockStore} shared by all benchmark threads, e.g. a lock store of an HTTP session accessed by
+ * concurrent requests. Use {@code -t} to measure the scaling with the number of threads, e.g. {@code -t 1}, {@code -t 8} and {@code -t 32}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class LockStoreBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LockStoreState {
+
+        /**
+         * The number of distinct beans
+         */
+        @Param({ "1", "64" })
+        public int beans;
+
+        LockStore lockStore;
+
+        BeanIdentifier[] identifiers;
+
+        @Setup
+        public void init() {
+            lockStore = new LockStore();
+            identifiers = new BeanIdentifier[beans];
+            for (int i = 0; i < beans; i++) {
+                identifiers[i] = new StringBeanIdentifier("bean" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void lockUnlock(LockStoreState state) {
+        BeanIdentifier id = state.identifiers[ThreadLocalRandom.current().nextInt(state.beans)];
+        state.lockStore.lock(id).unlock();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.benchmarks.beans.RequestScopedCounter;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Activation and deactivation of the unbound request context, with and without a request-scoped bean instance created in between.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestContextBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ContainerState extends WeldContainerState {
+
+        RequestContext requestContext;
+
+        RequestScopedCounter counter;
+
+        @Override
+        protected void configure(Weld weld) {
+            weld.addBeanClass(RequestScopedCounter.class);
+        }
+
+        @Override
+        protected void init() {
+            requestContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            counter = container.select(RequestScopedCounter.class).get();
+        }
+    }
+
+    @Benchmark
+    public void activateDeactivate(ContainerState state) {
+        state.requestContext.activate();
+        try {
+            state.requestContext.invalidate();
+        } finally {
+            state.requestContext.deactivate();
+        }
+    }
+
+    @Benchmark
+    public int activateUseDeactivate(ContainerState state) {
+        state.requestContext.activate();
+        try {
+            int result = state.counter.increment();
+            state.requestContext.invalidate();
+            return result;
+        } finally {
+            state.requestContext.deactivate();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts a Weld SE container with discovery disabled before a benchmark trial and shuts it down afterwards. Selected caching settings are exposed as
+ * benchmark parameters so that different configurations can be compared.
+ *
+ * @see ConfigurationKey
+ */
+@State(Scope.Benchmark)
+public abstract class WeldContainerState {
+
+    /**
+     * @see ConfigurationKey#RESOLUTION_CACHE_SIZE
+     */
+    @Param({ "65536" })
+    public long resolutionCacheSize;
+
+    /**
+     * @see ConfigurationKey#INJECTABLE_REFERENCE_OPTIMIZATION
+     */
+    @Param({ "false" })
+    public boolean injectableReferenceOptimization;
+
+    protected WeldContainer container;
+
+    @Setup
+    public void startContainer() {
+        Weld weld = new Weld().disableDiscovery().skipShutdownHook()
+                .property(ConfigurationKey.RESOLUTION_CACHE_SIZE.get(), resolutionCacheSize)
+                .property(ConfigurationKey.INJECTABLE_REFERENCE_OPTIMIZATION.get(), injectableReferenceOptimization);
+        configure(weld);
+        container = weld.initialize();
+        init();
+    }
+
+    @TearDown
+    public void stopContainer() {
+        if (container != null) {
+            container.shutdown();
+            container = null;
+        }
+    }
+
+    /**
+     * Add the bean classes, extensions, etc.
+     *
+     * @param weld
+     */
+    protected abstract void configure(Weld weld);
+
+    /**
+     * Called once the container is started.
+     */
+    protected void init() {
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Interceptor bindings, interceptors and intercepted beans for interceptor chains of depth 1 to {@value #MAX_DEPTH}. A bean with depth N is bound to
+ * the first N interceptors.
+ */
+public final class InterceptorChain {
+
+    public static final int MAX_DEPTH = 5;
+
+    private InterceptorChain() {
+    }
+
+    /**
+     *
+     * @return the interceptor classes
+     */
+    public static Class<?>[] interceptors() {
+        return new Class<?>[] { Interceptor1.class, Interceptor2.class, Interceptor3.class, Interceptor4.class, Interceptor5.class };
+    }
+
+    /**
+     *
+     * @param depth
+     * @return the bean class intercepted by the given number of interceptors
+     */
+    public static Class<? extends Service> service(int depth) {
+        switch (depth) {
+            case 1:
+                return Depth1Service.class;
+            case 2:
+                return Depth2Service.class;
+            case 3:
+                return Depth3Service.class;
+            case 4:
+                return Depth4Service.class;
+            case 5:
+                return Depth5Service.class;
+            default:
+                throw new IllegalArgumentException("Unsupported interceptor chain depth: " + depth);
+        }
+    }
+
+    public abstract static class Service {
+
+        public int compute(int value) {
+            return value + 1;
+        }
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Binding1 {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Binding2 {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Binding3 {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Binding4 {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Binding5 {
+    }
+
+    @Binding1
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 1)
+    public static class Interceptor1 {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @Binding2
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 2)
+    public static class Interceptor2 {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @Binding3
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 3)
+    public static class Interceptor3 {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @Binding4
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 4)
+    public static class Interceptor4 {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @Binding5
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 5)
+    public static class Interceptor5 {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @ApplicationScoped
+    @Binding1
+    public static class Depth1Service extends Service {
+    }
+
+    @ApplicationScoped
+    @Binding1
+    @Binding2
+    public static class Depth2Service extends Service {
+    }
+
+    @ApplicationScoped
+    @Binding1
+    @Binding2
+    @Binding3
+    public static class Depth3Service extends Service {
+    }
+
+    @ApplicationScoped
+    @Binding1
+    @Binding2
+    @Binding3
+    @Binding4
+    public static class Depth4Service extends Service {
+    }
+
+    @ApplicationScoped
+    @Binding1
+    @Binding2
+    @Binding3
+    @Binding4
+    @Binding5
+    public static class Depth5Service extends Service {
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+
+/**
+ * Registers the given number of {@link BenchmarkEventObserver} beans.
+ */
+public class ObserverRegistrar implements Extension {
+
+    private final int count;
+
+    public ObserverRegistrar(int count) {
+        this.count = count;
+    }
+
+    void registerObservers(@Observes BeforeBeanDiscovery event) {
+        for (int i = 0; i < count; i++) {
+            event.addAnnotatedType(BenchmarkEventObserver.class, BenchmarkEventObserver.class.getName() + i);
+        }
+    }
+
+}
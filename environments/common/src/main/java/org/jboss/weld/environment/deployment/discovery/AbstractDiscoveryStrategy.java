@@ -28,6 +28,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import jakarta.annotation.Priority;
 
@@ -38,6 +41,7 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
 import org.jboss.weld.util.ServiceLoader;
@@ -60,6 +64,8 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
     protected BeanArchiveScanner scanner;
 
+    protected ExecutorServices executorServices;
+
     private final List<BeanArchiveHandler> handlers;
 
     protected AbstractDiscoveryStrategy() {
@@ -94,6 +100,17 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         this.scanner = scanner;
     }
 
+    /**
+     * If set, the bean archive references are handled concurrently provided all the {@link BeanArchiveHandler}s are thread-safe.
+     *
+     * @param executorServices
+     * @see BeanArchiveHandler#isThreadSafe()
+     */
+    @Override
+    public void setExecutorServices(ExecutorServices executorServices) {
+        this.executorServices = executorServices;
+    }
+
     public void setInitialBeanDefiningAnnotations(Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         this.initialBeanDefiningAnnotations = initialBeanDefiningAnnotations;
     }
@@ -108,28 +125,35 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         final List<BeanArchiveBuilder> beanArchiveBuilders = new ArrayList<BeanArchiveBuilder>();
         final Set<String> processedRefs = new HashSet<String>();
 
-        List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
+        final List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
+        final List<ScanResult> scanResults = scanner.scan();
 
-        for (ScanResult scanResult : scanner.scan()) {
+        for (ScanResult scanResult : scanResults) {
             final String ref = scanResult.getBeanArchiveRef();
             if (processedRefs.contains(ref)) {
                 throw CommonLogger.LOG.invalidScanningResult(ref);
             }
-            CommonLogger.LOG.processingBeanArchiveReference(ref);
             processedRefs.add(ref);
-            BeanArchiveBuilder builder = null;
-            for (BeanArchiveHandler handler : beanArchiveHandlers) {
-                builder = handler.handle(ref);
+        }
+
+        if (executorServices != null && scanResults.size() > 1 && isThreadSafe(beanArchiveHandlers)) {
+            // Handle the bean archives concurrently, the order of the builders is preserved
+            List<Callable<BeanArchiveBuilder>> tasks = new ArrayList<>(scanResults.size());
+            for (final ScanResult scanResult : scanResults) {
+                tasks.add(() -> handle(scanResult, beanArchiveHandlers));
+            }
+            for (Future<BeanArchiveBuilder> future : executorServices.invokeAllAndCheckForExceptions(tasks)) {
+                BeanArchiveBuilder builder = getResult(future);
                 if (builder != null) {
-                    CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
-                    builder.setId(scanResult.getBeanArchiveId());
-                    builder.setBeansXml(scanResult.getBeansXml());
                     beanArchiveBuilders.add(builder);
-                    break;
                 }
             }
-            if (builder == null) {
-                CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        } else {
+            for (ScanResult scanResult : scanResults) {
+                BeanArchiveBuilder builder = handle(scanResult, beanArchiveHandlers);
+                if (builder != null) {
+                    beanArchiveBuilders.add(builder);
+                }
             }
         }
 
@@ -165,6 +189,43 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         return archives;
     }
 
+    private BeanArchiveBuilder handle(ScanResult scanResult, List<BeanArchiveHandler> beanArchiveHandlers) {
+        final String ref = scanResult.getBeanArchiveRef();
+        CommonLogger.LOG.processingBeanArchiveReference(ref);
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            BeanArchiveBuilder builder = handler.handle(ref);
+            if (builder != null) {
+                CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
+                builder.setId(scanResult.getBeanArchiveId());
+                builder.setBeansXml(scanResult.getBeansXml());
+                return builder;
+            }
+        }
+        CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        return null;
+    }
+
+    private static boolean isThreadSafe(List<BeanArchiveHandler> beanArchiveHandlers) {
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            if (!handler.isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BeanArchiveBuilder getResult(Future<BeanArchiveBuilder> future) {
+        try {
+            // The tasks are already completed, see ExecutorServices.invokeAllAndCheckForExceptions()
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     @Override
     public ClassFileServices getClassFileServices() {
         // By default no bytecode scanning facility available
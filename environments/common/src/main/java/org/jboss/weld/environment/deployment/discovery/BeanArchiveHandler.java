@@ -43,4 +43,14 @@ public interface BeanArchiveHandler {
      */
     BeanArchiveBuilder handle(String beanArchiveReference);
 
+    /**
+     * A discovery strategy may handle several bean archive references concurrently if all the handlers are thread-safe.
+     *
+     * @return <code>true</code> if {@link #handle(String)} may be invoked concurrently, <code>false</code> otherwise
+     * @see DiscoveryStrategy#setExecutorServices(org.jboss.weld.manager.api.ExecutorServices)
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -0,0 +1,334 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.deployment.AbstractWeldDeployment;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * A persistent cache of the bean archives found by a {@link DiscoveryStrategy}. The cache stores the id, the bean classes, the known
+ * classes and the location of the beans.xml descriptor of each bean archive. The descriptors are parsed again when the archives are
+ * restored, class path scanning is skipped entirely.
+ *
+ * <p>
+ * The cached archives are only used if the fingerprint matches the one stored in the cache file. The fingerprint is computed from
+ * the size and the last modification time of every class path entry and every bean archive visible to the resource loader (for directories
+ * the relative path, the size and the last modification time of every file in the directory) and from any additional discovery input, such as the
+ * set of bean defining annotations.
+ * A bean archive which cannot be resolved to a local file, e.g. a nested jar, disables the cache.
+ * </p>
+ *
+ * <p>
+ * Bean archives whose beans.xml descriptor has no location cannot be restored - in that case the cache is not written at all.
+ * </p>
+ */
+public class DiscoveryCache {
+
+    private static final int VERSION = 1;
+
+    private static final byte NO_BEANS_XML = 0;
+
+    private static final byte BEANS_XML_URL = 1;
+
+    private static final byte EMPTY_BEANS_XML = 2;
+
+    private final Path file;
+
+    private final Bootstrap bootstrap;
+
+    /**
+     *
+     * @param file
+     * @param bootstrap
+     */
+    public DiscoveryCache(Path file, Bootstrap bootstrap) {
+        this.file = file;
+        this.bootstrap = bootstrap;
+    }
+
+    /**
+     * Computes the fingerprint of the given class path entries and discovery inputs.
+     *
+     * @param classPathEntries
+     * @param discoveryInputs
+     * @return the fingerprint
+     */
+    public static String fingerprint(Iterable<String> classPathEntries, Object... discoveryInputs) {
+        StringBuilder builder = new StringBuilder();
+        for (String entry : classPathEntries) {
+            builder.append(entry).append('|');
+            appendAttributes(Paths.get(entry), builder);
+            builder.append('\n');
+        }
+        for (Object input : discoveryInputs) {
+            builder.append(input).append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the entries of the {@code java.class.path} system property, the bean archives found by the given resource loader and
+     * the given discovery inputs. The bean archives are taken into account because the resource loader may not be backed by the system class loader,
+     * e.g. if a custom class loader is set or the application is started by a launcher with its own class loader.
+     *
+     * @param resourceLoader
+     * @param discoveryInputs
+     * @return the fingerprint or <code>null</code> if a bean archive cannot be resolved to a local file and the cache should not be used
+     * @see #fingerprint(Iterable, Object...)
+     */
+    public static String classPathFingerprint(ResourceLoader resourceLoader, Object... discoveryInputs) {
+        Set<String> entries = new LinkedHashSet<>();
+        String classPath = System.getProperty("java.class.path");
+        if (classPath != null) {
+            for (String entry : classPath.split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    entries.add(entry);
+                }
+            }
+        }
+        for (String resourceName : AbstractWeldDeployment.RESOURCES) {
+            for (URL beansXmlUrl : resourceLoader.getResources(resourceName)) {
+                Path archive = getBeanArchivePath(beansXmlUrl, resourceName);
+                if (archive == null) {
+                    CommonLogger.LOG.debugv("Discovery cache not used - bean archive {0} is not a local file", beansXmlUrl);
+                    return null;
+                }
+                entries.add(archive.toString());
+            }
+        }
+        return fingerprint(entries, discoveryInputs);
+    }
+
+    /**
+     *
+     * @param fingerprint
+     * @return the cached bean archives or <code>null</code> if the cache does not exist, cannot be read or its fingerprint does not match
+     */
+    public Set<WeldBeanDeploymentArchive> load(String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != VERSION || !fingerprint.equals(in.readUTF())) {
+                CommonLogger.LOG.debugv("Discovery cache {0} is stale", file);
+                return null;
+            }
+            int archiveCount = in.readInt();
+            Set<WeldBeanDeploymentArchive> archives = new HashSet<>();
+            for (int i = 0; i < archiveCount; i++) {
+                String id = in.readUTF();
+                BeansXml beansXml = readBeansXml(in);
+                Set<String> beanClasses = readClasses(in);
+                Set<String> knownClasses = in.readBoolean() ? readClasses(in) : null;
+                archives.add(new WeldBeanDeploymentArchive(id, beanClasses, knownClasses, beansXml));
+            }
+            CommonLogger.LOG.debugv("{0} bean archives restored from discovery cache {1}", archives.size(), file);
+            return archives;
+        } catch (IOException | RuntimeException e) {
+            CommonLogger.LOG.warnv(e, "Unable to read discovery cache {0}, class path scanning will be performed", file);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param fingerprint
+     * @param archives
+     * @return <code>true</code> if the archives were written to the cache, <code>false</code> otherwise
+     */
+    public boolean store(String fingerprint, Collection<WeldBeanDeploymentArchive> archives) {
+        for (WeldBeanDeploymentArchive archive : archives) {
+            BeansXml beansXml = archive.getBeansXml();
+            if (beansXml != null && beansXml != BeansXml.EMPTY_BEANS_XML && beansXml.getUrl() == null) {
+                CommonLogger.LOG.debugv("Discovery cache not written - beans.xml of {0} cannot be restored", archive.getId());
+                return false;
+            }
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a temporary file first so that a concurrently starting application never reads a partially written cache
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(archives.size());
+                for (WeldBeanDeploymentArchive archive : archives) {
+                    out.writeUTF(archive.getId());
+                    writeBeansXml(out, archive.getBeansXml());
+                    writeClasses(out, archive.getBeanClasses());
+                    // WeldBeanDeploymentArchive falls back to an empty collection if there are no known classes
+                    Collection<String> knownClasses = archive.getKnownClasses();
+                    out.writeBoolean(!knownClasses.isEmpty());
+                    if (!knownClasses.isEmpty()) {
+                        writeClasses(out, knownClasses);
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            CommonLogger.LOG.warnv(e, "Unable to write discovery cache {0}", file);
+            return false;
+        }
+    }
+
+    private BeansXml readBeansXml(DataInputStream in) throws IOException {
+        switch (in.readByte()) {
+            case NO_BEANS_XML:
+                return null;
+            case EMPTY_BEANS_XML:
+                return BeansXml.EMPTY_BEANS_XML;
+            case BEANS_XML_URL:
+                return bootstrap.parse(new URL(in.readUTF()));
+            default:
+                throw new IOException("Invalid beans.xml marker");
+        }
+    }
+
+    private static void writeBeansXml(DataOutputStream out, BeansXml beansXml) throws IOException {
+        if (beansXml == null) {
+            out.writeByte(NO_BEANS_XML);
+        } else if (beansXml == BeansXml.EMPTY_BEANS_XML) {
+            out.writeByte(EMPTY_BEANS_XML);
+        } else {
+            out.writeByte(BEANS_XML_URL);
+            out.writeUTF(beansXml.getUrl().toExternalForm());
+        }
+    }
+
+    private static Set<String> readClasses(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Set<String> classes = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            classes.add(in.readUTF());
+        }
+        return classes;
+    }
+
+    private static void writeClasses(DataOutputStream out, Collection<String> classes) throws IOException {
+        out.writeInt(classes.size());
+        for (String className : classes) {
+            out.writeUTF(className);
+        }
+    }
+
+    /**
+     *
+     * @param beansXmlUrl
+     * @param resourceName
+     * @return the path of the bean archive, i.e. the directory or the jar file, or <code>null</code> if it cannot be resolved
+     */
+    static Path getBeanArchivePath(URL beansXmlUrl, String resourceName) {
+        try {
+            if ("file".equals(beansXmlUrl.getProtocol())) {
+                // E.g. "file:/home/weld/META-INF/beans.xml" becomes "/home/weld"
+                Path path = Paths.get(beansXmlUrl.toURI());
+                for (int i = resourceName.split("/").length; i > 0 && path != null; i--) {
+                    path = path.getParent();
+                }
+                return path;
+            }
+            if ("jar".equals(beansXmlUrl.getProtocol())) {
+                // E.g. "jar:file:/home/duke/duke.jar!/META-INF/beans.xml" becomes "/home/duke/duke.jar", nested archives are not supported
+                String path = beansXmlUrl.getPath();
+                int separator = path.indexOf("!/");
+                if (separator > 0 && path.indexOf("!/", separator + 2) < 0 && path.startsWith("file:")) {
+                    return Paths.get(new URI(path.substring(0, separator)));
+                }
+            }
+        } catch (URISyntaxException | RuntimeException e) {
+            CommonLogger.LOG.debugv(e, "Unable to resolve bean archive of {0}", beansXmlUrl);
+        }
+        return null;
+    }
+
+    private static void appendAttributes(Path path, StringBuilder builder) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isDirectory()) {
+                builder.append(attributes.size()).append('|').append(attributes.lastModifiedTime().toMillis());
+                return;
+            }
+            // The relative path of every file is included so that a renamed or replaced file changes the fingerprint
+            final List<String> files = new ArrayList<>();
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String relativePath = path.relativize(file).toString().replace(File.separatorChar, '/');
+                    files.add(relativePath + '|' + attrs.size() + '|' + attrs.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            // The order of visited files depends on the file system
+            Collections.sort(files);
+            for (String file : files) {
+                builder.append(file).append(';');
+            }
+        } catch (NoSuchFileException e) {
+            builder.append("missing");
+        } catch (IOException e) {
+            // Make sure an unreadable entry never matches a stored fingerprint
+            builder.append(System.nanoTime());
+        }
+    }
+
+}
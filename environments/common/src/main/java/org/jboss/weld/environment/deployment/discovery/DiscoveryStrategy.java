@@ -22,6 +22,7 @@ import java.util.Set;
 
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
 
@@ -67,6 +68,16 @@ public interface DiscoveryStrategy {
      */
     void setScanner(BeanArchiveScanner beanArchiveScanner);
 
+    /**
+     * Optionally, a client may set the {@link ExecutorServices} used to handle bean archives concurrently. By default, bean archives are handled
+     * sequentially.
+     *
+     * @param executorServices
+     */
+    default void setExecutorServices(ExecutorServices executorServices) {
+        // No-op
+    }
+
     /**
      * Register additional {@link BeanArchiveHandler} for handling discovered bean archives.
      *
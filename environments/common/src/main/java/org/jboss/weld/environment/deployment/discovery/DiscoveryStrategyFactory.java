@@ -23,6 +23,7 @@ import java.util.Set;
 
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.environment.deployment.discovery.bytecode.BytecodeDiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.resources.spi.ResourceLoader;
@@ -47,6 +48,20 @@ public final class DiscoveryStrategyFactory {
      */
     public static DiscoveryStrategy create(ResourceLoader resourceLoader, Bootstrap bootstrap,
         Set<Class<? extends Annotation>> initialBeanDefiningAnnotations, boolean jandexStrategyDisabled) {
+        return create(resourceLoader, bootstrap, initialBeanDefiningAnnotations, jandexStrategyDisabled, false);
+    }
+
+    /**
+     * @param resourceLoader
+     * @param bootstrap
+     * @param initialBeanDefiningAnnotations
+     * @param jandexStrategyDisabled
+     * @param bytecodeStrategyEnabled if set to true, {@link BytecodeDiscoveryStrategy} is used instead of {@link ReflectionDiscoveryStrategy}
+     * @return the discovery strategy
+     * @see BytecodeDiscoveryStrategy#ENABLE_BYTECODE_DISCOVERY_STRATEGY
+     */
+    public static DiscoveryStrategy create(ResourceLoader resourceLoader, Bootstrap bootstrap,
+        Set<Class<? extends Annotation>> initialBeanDefiningAnnotations, boolean jandexStrategyDisabled, boolean bytecodeStrategyEnabled) {
         DiscoveryStrategy returnValue = null;
         final Iterator<Metadata<DiscoveryStrategy>> iterator = ServiceLoader.load(DiscoveryStrategy.class, resourceLoader).iterator();
         if (iterator != null && iterator.hasNext()) {
@@ -71,6 +86,10 @@ public final class DiscoveryStrategyFactory {
                 }
             }
         }
+        if (returnValue == null && bytecodeStrategyEnabled) {
+            CommonLogger.LOG.usingBytecodeIndex();
+            returnValue = new BytecodeDiscoveryStrategy(resourceLoader, bootstrap, initialBeanDefiningAnnotations);
+        }
         if (returnValue == null) {
             returnValue = new ReflectionDiscoveryStrategy(resourceLoader, bootstrap, initialBeanDefiningAnnotations);
         }
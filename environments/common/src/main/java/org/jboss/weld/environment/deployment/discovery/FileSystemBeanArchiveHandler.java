@@ -21,6 +21,7 @@ import static org.jboss.weld.environment.util.URLUtils.PROCOTOL_JAR;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Enumeration;
@@ -45,6 +46,15 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     public static final String CLASS_FILE_EXTENSION = Files.CLASS_FILE_EXTENSION;
 
+    /**
+     * This handler does not hold any state. A subclass may keep state in {@link #handle(String)} or {@link #add(Entry, BeanArchiveBuilder)}, therefore
+     * it is only considered thread-safe if it overrides this method.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == FileSystemBeanArchiveHandler.class;
+    }
+
     @Override
     public BeanArchiveBuilder handle(String path) {
 
@@ -85,9 +95,14 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle archive file: {0}", file);
+        final ZipFileEntry entry = new ZipFileEntry(PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
+        // Only class entries are relevant - read them directly from the central directory if possible
+        if (ZipCentralDirectory.readClassEntries(file, name -> add(entry.setName(name), builder))) {
+            return;
+        }
+        builder.clearClasses();
         try (ZipFile zip = new ZipFile(file)) {
             Enumeration<? extends ZipEntry> entries = zip.entries();
-            ZipFileEntry entry = new ZipFileEntry(PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
             while (entries.hasMoreElements()) {
                 add(entry.setName(entries.nextElement().getName()), builder);
             }
@@ -124,23 +139,32 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
         try (ZipFile zip = new ZipFile(file)) {
 
+            ZipEntry nestedArchive = zip.getEntry(nestedEntryName);
+            if (nestedArchive != null && !nestedArchive.isDirectory()) {
+                // Nested jar entry
+                ZipFileEntry entry = getZipFileEntry(file, nestedArchive);
+                byte[] content = readFully(zip, nestedArchive);
+                // Add entries from the nested archive, the class entries are read from its central directory if possible
+                if (content != null && ZipCentralDirectory.readClassEntries(content, name -> add(entry.setName(name), builder))) {
+                    return;
+                }
+                builder.clearClasses();
+                try (ZipInputStream nestedZip = new ZipInputStream(zip.getInputStream(nestedArchive))) {
+                    ZipEntry nestedEntry;
+                    while ((nestedEntry = nestedZip.getNextEntry()) != null) {
+                        add(entry.setName(nestedEntry.getName()), builder);
+                    }
+                }
+                return;
+            }
+
             Enumeration<? extends ZipEntry> entries = zip.entries();
 
             while (entries.hasMoreElements()) {
 
                 ZipEntry zipEntry = entries.nextElement();
 
-                if (zipEntry.getName().equals(nestedEntryName)) {
-                    // Nested jar entry
-                    ZipFileEntry entry = getZipFileEntry(file, zipEntry);
-                    // Add entries from the nested archive
-                    try (ZipInputStream nestedZip = new ZipInputStream(zip.getInputStream(zipEntry))) {
-                        ZipEntry nestedEntry;
-                        while ((nestedEntry = nestedZip.getNextEntry()) != null) {
-                            add(entry.setName(nestedEntry.getName()), builder);
-                        }
-                    }
-                } else if (zipEntry.getName().startsWith(nestedEntryName)) {
+                if (zipEntry.getName().startsWith(nestedEntryName)) {
                     // Nested file entries
                     add(getZipFileEntry(file, zipEntry).setName(zipEntry.getName().substring(nestedEntryName.length() + 1)), builder);
                 }
@@ -148,6 +172,25 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         }
     }
 
+    private static byte[] readFully(ZipFile zip, ZipEntry zipEntry) throws IOException {
+        long size = zipEntry.getSize();
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        byte[] content = new byte[(int) size];
+        try (InputStream in = zip.getInputStream(zipEntry)) {
+            int offset = 0;
+            while (offset < content.length) {
+                int read = in.read(content, offset, content.length - offset);
+                if (read < 0) {
+                    return null;
+                }
+                offset += read;
+            }
+        }
+        return content;
+    }
+
     private ZipFileEntry getZipFileEntry(File file, ZipEntry zipEntry) throws MalformedURLException {
         // Reconstruct the archive URL. It might be like either of the following:
         // "jar:file:/home/duke/duke.jar!/classes"
@@ -155,6 +198,20 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         return new ZipFileEntry(PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR + zipEntry.getName());
     }
 
+    /**
+     * Adds the entry to the bean archive.
+     *
+     * <p>
+     * Note that if the central directory of an archive file (including a nested archive) can be read directly, only class entries are passed to this
+     * method. Other entries of archive files, e.g. resources, are skipped. A subclass which needs to process such entries should override
+     * {@link #handleFile(File, BeanArchiveBuilder)} and {@link #handleNestedFile(String, File, BeanArchiveBuilder)}. Entries of directories are not
+     * filtered.
+     * </p>
+     *
+     * @param entry
+     * @param builder
+     * @throws MalformedURLException
+     */
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         if (Files.isClass(entry.getName())) {
             builder.addClass(Files.filenameToClassname(entry.getName()));
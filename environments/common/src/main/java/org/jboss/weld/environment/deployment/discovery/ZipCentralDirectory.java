@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import org.jboss.weld.environment.util.Files;
+
+/**
+ * Reads the names of class entries directly from the central directory of a ZIP archive. Unlike {@link java.util.zip.ZipFile} and
+ * {@link java.util.zip.ZipInputStream}, no {@link java.util.zip.ZipEntry} is created and no entry data is inflated. The names of
+ * non-class entries are never decoded.
+ *
+ * <p>
+ * The central directory of an archive file is memory-mapped. Archives this reader does not support (ZIP64, corrupted archives) are
+ * reported by returning <code>false</code> so that the caller may fall back to the JDK API.
+ * </p>
+ *
+ * @see FileSystemBeanArchiveHandler
+ */
+final class ZipCentralDirectory {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int END_HEADER_SIZE = 22;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final byte[] CLASS_SUFFIX = Files.CLASS_FILE_EXTENSION.getBytes(StandardCharsets.US_ASCII);
+
+    private ZipCentralDirectory() {
+    }
+
+    /**
+     * Receives the name of a class entry.
+     */
+    interface ClassEntryConsumer {
+
+        void accept(String name) throws IOException;
+
+    }
+
+    /**
+     *
+     * @param file the archive file
+     * @param consumer
+     * @return <code>true</code> if the central directory was read, <code>false</code> if the archive is not supported
+     * @throws IOException
+     */
+    static boolean readClassEntries(File file, ClassEntryConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < END_HEADER_SIZE) {
+                return false;
+            }
+            int tailLength = (int) Math.min(size, END_HEADER_SIZE + MAX_COMMENT_LENGTH);
+            MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, size - tailLength, tailLength);
+            tail.order(ByteOrder.LITTLE_ENDIAN);
+            int end = findEnd(tail);
+            if (end < 0) {
+                return false;
+            }
+            long centralSize = tail.getInt(end + 12) & ZIP64_MAGIC;
+            long centralOffset = tail.getInt(end + 16) & ZIP64_MAGIC;
+            if (centralSize == ZIP64_MAGIC || centralOffset == ZIP64_MAGIC) {
+                return false;
+            }
+            // Do not trust the recorded offset - the archive may be prefixed, e.g. with a launch script
+            long centralStart = size - tailLength + end - centralSize;
+            if (centralStart < 0) {
+                return false;
+            }
+            if (centralSize == 0) {
+                return true;
+            }
+            MappedByteBuffer central = channel.map(FileChannel.MapMode.READ_ONLY, centralStart, centralSize);
+            return readClassEntries(central, consumer);
+        }
+    }
+
+    /**
+     *
+     * @param archive the archive content
+     * @param consumer
+     * @return <code>true</code> if the central directory was read, <code>false</code> if the archive is not supported
+     * @throws IOException
+     */
+    static boolean readClassEntries(byte[] archive, ClassEntryConsumer consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEnd(buffer);
+        if (end < 0) {
+            return false;
+        }
+        long centralSize = buffer.getInt(end + 12) & ZIP64_MAGIC;
+        if (centralSize == ZIP64_MAGIC || centralSize > end) {
+            return false;
+        }
+        buffer.position(end - (int) centralSize);
+        buffer.limit(end);
+        return readClassEntries(buffer.slice(), consumer);
+    }
+
+    private static boolean readClassEntries(ByteBuffer central, ClassEntryConsumer consumer) throws IOException {
+        central.order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer names = central.duplicate();
+        int limit = central.limit();
+        int position = 0;
+        while (position + CENTRAL_HEADER_SIZE <= limit) {
+            if (central.getInt(position) != CENTRAL_SIGNATURE) {
+                return false;
+            }
+            int nameLength = central.getShort(position + 28) & 0xFFFF;
+            int extraLength = central.getShort(position + 30) & 0xFFFF;
+            int commentLength = central.getShort(position + 32) & 0xFFFF;
+            int nameStart = position + CENTRAL_HEADER_SIZE;
+            if (nameStart + nameLength > limit) {
+                return false;
+            }
+            if (isClass(central, nameStart, nameLength)) {
+                byte[] name = new byte[nameLength];
+                names.position(nameStart);
+                names.get(name);
+                consumer.accept(new String(name, StandardCharsets.UTF_8));
+            }
+            position = nameStart + nameLength + extraLength + commentLength;
+        }
+        return position == limit;
+    }
+
+    private static int findEnd(ByteBuffer buffer) {
+        int length = buffer.limit();
+        int min = Math.max(0, length - END_HEADER_SIZE - MAX_COMMENT_LENGTH);
+        for (int i = length - END_HEADER_SIZE; i >= min; i--) {
+            if (buffer.getInt(i) == END_SIGNATURE && i + END_HEADER_SIZE + (buffer.getShort(i + 20) & 0xFFFF) == length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isClass(ByteBuffer buffer, int nameStart, int nameLength) {
+        if (nameLength < CLASS_SUFFIX.length) {
+            return false;
+        }
+        int suffixStart = nameStart + nameLength - CLASS_SUFFIX.length;
+        for (int i = 0; i < CLASS_SUFFIX.length; i++) {
+            if (buffer.get(suffixStart + i) != CLASS_SUFFIX[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
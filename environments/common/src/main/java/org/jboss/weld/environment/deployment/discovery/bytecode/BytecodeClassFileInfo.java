@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Vetoed;
+
+import org.jboss.logging.Logger;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.util.cache.ComputingCache;
+
+/**
+ * A Java class representation backed by a {@link BytecodeIndex}.
+ */
+public class BytecodeClassFileInfo implements ClassFileInfo {
+
+    static final int ANNOTATION = 0x00002000;
+
+    private static final String VETOED_NAME = Vetoed.class.getName();
+
+    private static final String OBJECT_NAME = Object.class.getName();
+
+    private static final String PACKAGE_INFO_NAME = "package-info";
+
+    private static final Logger log = Logger.getLogger(BytecodeClassFileInfo.class);
+
+    private final IndexedClass indexedClass;
+
+    private final BytecodeIndex index;
+
+    private final ComputingCache<String, Set<String>> annotationClassAnnotationsCache;
+
+    private final ClassLoader classLoader;
+
+    BytecodeClassFileInfo(IndexedClass indexedClass, BytecodeIndex index, ComputingCache<String, Set<String>> annotationClassAnnotationsCache,
+            ClassLoader classLoader) {
+        this.indexedClass = indexedClass;
+        this.index = index;
+        this.annotationClassAnnotationsCache = annotationClassAnnotationsCache;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public String getClassName() {
+        return indexedClass.getName();
+    }
+
+    @Override
+    public boolean isAnnotationDeclared(Class<? extends Annotation> annotation) {
+        return indexedClass.getDeclaredAnnotations().contains(annotation.getName());
+    }
+
+    @Override
+    public boolean containsAnnotation(Class<? extends Annotation> annotation) {
+        return containsAnnotation(indexedClass, annotation.getName(), annotation);
+    }
+
+    @Override
+    public int getModifiers() {
+        return indexedClass.getFlags();
+    }
+
+    @Override
+    public boolean hasCdiConstructor() {
+        return indexedClass.hasNoArgsConstructor() || indexedClass.hasInjectConstructor();
+    }
+
+    @Override
+    public boolean isAssignableFrom(Class<?> fromClass) {
+        return isAssignableFrom(getClassName(), fromClass);
+    }
+
+    @Override
+    public boolean isAssignableTo(Class<?> toClass) {
+        return isAssignableTo(getClassName(), toClass);
+    }
+
+    @Override
+    public boolean isVetoed() {
+        if (indexedClass.getDeclaredAnnotations().contains(VETOED_NAME)) {
+            return true;
+        }
+        String className = getClassName();
+        int lastDot = className.lastIndexOf('.');
+        IndexedClass packageInfo = index.get(lastDot != -1 ? className.substring(0, lastDot + 1) + PACKAGE_INFO_NAME : PACKAGE_INFO_NAME);
+        return packageInfo != null && packageInfo.getDeclaredAnnotations().contains(VETOED_NAME);
+    }
+
+    @Override
+    public boolean isTopLevelClass() {
+        return NestingType.TOP_LEVEL.equals(indexedClass.getNestingType());
+    }
+
+    @Override
+    public NestingType getNestingType() {
+        return indexedClass.getNestingType();
+    }
+
+    @Override
+    public String getSuperclassName() {
+        return indexedClass.getSuperName();
+    }
+
+    private boolean isAssignableFrom(String className, Class<?> fromClass) {
+        if (className.equals(fromClass.getName())) {
+            return true;
+        }
+        if (Object.class.equals(fromClass)) {
+            return false; // there's nothing assignable from Object.class except for Object.class
+        }
+        Class<?> superClass = fromClass.getSuperclass();
+        if (superClass != null && isAssignableFrom(className, superClass)) {
+            return true;
+        }
+        for (Class<?> interfaceClass : fromClass.getInterfaces()) {
+            if (isAssignableFrom(className, interfaceClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAssignableTo(String name, Class<?> to) {
+        if (to.getName().equals(name)) {
+            return true;
+        }
+        if (OBJECT_NAME.equals(name)) {
+            return false; // there's nothing assignable from Object.class except for Object.class
+        }
+        IndexedClass fromClass = index.get(name);
+        if (fromClass == null) {
+            // We reached a class that is not in the index. Let's use reflection.
+            return to.isAssignableFrom(loadClass(name));
+        }
+        String superName = fromClass.getSuperName();
+        if (superName != null && isAssignableTo(superName, to)) {
+            return true;
+        }
+        for (String interfaceName : fromClass.getInterfaceNames()) {
+            if (isAssignableTo(interfaceName, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAnnotation(IndexedClass indexedClass, String requiredAnnotationName, Class<? extends Annotation> requiredAnnotation) {
+        // Type and members
+        if (indexedClass.getAnnotations().contains(requiredAnnotationName)) {
+            return true;
+        }
+        // Meta-annotations
+        for (String annotation : indexedClass.getAnnotations()) {
+            if (annotationClassAnnotationsCache.getValue(annotation).contains(requiredAnnotationName)) {
+                return true;
+            }
+        }
+        // Superclass
+        String superName = indexedClass.getSuperName();
+        if (superName != null && !OBJECT_NAME.equals(superName)) {
+            IndexedClass superClass = index.get(superName);
+            if (superClass == null) {
+                // we are accessing a class that is outside of the index
+                // fallback to using reflection
+                return Reflections.containsAnnotation(loadClass(superName), requiredAnnotation);
+            }
+            if (containsAnnotation(superClass, requiredAnnotationName, requiredAnnotation)) {
+                return true;
+            }
+        }
+        // Also check default methods on interfaces
+        for (String interfaceName : indexedClass.getInterfaceNames()) {
+            IndexedClass interfaceClass = index.get(interfaceName);
+            if (interfaceClass == null) {
+                // we are accessing a class that is outside of the index
+                // fallback to using reflection
+                for (Method method : loadClass(interfaceName).getDeclaredMethods()) {
+                    if (method.isDefault() && Reflections.containsAnnotations(method.getAnnotations(), requiredAnnotation)) {
+                        return true;
+                    }
+                }
+                continue;
+            }
+            if (interfaceClass.getDefaultMethodAnnotations().contains(requiredAnnotationName)) {
+                return true;
+            }
+            // Meta-annotations
+            for (String annotation : interfaceClass.getDefaultMethodAnnotations()) {
+                if (annotationClassAnnotationsCache.getValue(annotation).contains(requiredAnnotationName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Class<?> loadClass(String className) {
+        log.trace("Loading class with class loader: " + className);
+        try {
+            return classLoader.loadClass(className);
+        } catch (ClassNotFoundException ex) {
+            throw CommonLogger.LOG.unableToLoadClass(className);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return indexedClass.toString();
+    }
+
+}
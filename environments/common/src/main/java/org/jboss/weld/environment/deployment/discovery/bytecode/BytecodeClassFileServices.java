@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * {@link ClassFileServices} backed by a {@link BytecodeIndex}.
+ */
+public class BytecodeClassFileServices implements ClassFileServices {
+
+    private BytecodeIndex index;
+
+    private ComputingCache<String, Set<String>> annotationClassAnnotationsCache;
+
+    private final ClassLoader classLoader;
+
+    private class AnnotationClassAnnotationLoader implements Function<String, Set<String>> {
+
+        @Override
+        public Set<String> apply(String name) {
+            IndexedClass annotationClass = index.get(name);
+            if (annotationClass != null) {
+                return annotationClass.getDeclaredAnnotations();
+            }
+            ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            try {
+                for (Annotation annotation : classLoader.loadClass(name).getDeclaredAnnotations()) {
+                    builder.add(annotation.annotationType().getName());
+                }
+            } catch (ClassNotFoundException e) {
+                throw CommonLogger.LOG.unableToLoadAnnotation(name);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     *
+     * @param index
+     * @param classLoader the class loader used if a class is not contained in the index
+     */
+    public BytecodeClassFileServices(BytecodeIndex index, ClassLoader classLoader) {
+        this.index = index;
+        this.classLoader = classLoader;
+        this.annotationClassAnnotationsCache = ComputingCacheBuilder.newBuilder().build(new AnnotationClassAnnotationLoader());
+    }
+
+    @Override
+    public ClassFileInfo getClassFileInfo(String className) {
+        IndexedClass indexedClass = index.get(className);
+        if (indexedClass == null) {
+            throw CommonLogger.LOG.indexForNameNotFound(className);
+        }
+        return new BytecodeClassFileInfo(indexedClass, index, annotationClassAnnotationsCache, classLoader);
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        if (annotationClassAnnotationsCache != null) {
+            annotationClassAnnotationsCache.clear();
+            annotationClassAnnotationsCache = null;
+        }
+        index = null;
+    }
+
+    @Override
+    public void cleanup() {
+        cleanupAfterBoot();
+    }
+
+}
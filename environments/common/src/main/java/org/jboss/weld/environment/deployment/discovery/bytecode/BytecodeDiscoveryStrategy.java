@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Target;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.WeldResourceLoader;
+import org.jboss.weld.environment.deployment.discovery.AbstractDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
+import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * An implementation of {@link DiscoveryStrategy} that reads the class files of bean archives instead of loading the classes. It may be used instead of
+ * {@link org.jboss.weld.environment.deployment.discovery.ReflectionDiscoveryStrategy} when Jandex is not available.
+ *
+ * <p>
+ * The class files are read into a {@link BytecodeIndex} which is also used to provide {@link ClassFileServices}. A class is only loaded during annotated
+ * discovery if it is not contained in the index (e.g. the bean archive was not handled by {@link BytecodeFileSystemBeanArchiveHandler}) or if it extends a
+ * class which is not contained in the index.
+ * </p>
+ */
+public class BytecodeDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+    public static final String INDEX_ATTRIBUTE_NAME = BytecodeDiscoveryStrategy.class.getPackage().getName() + ".index";
+
+    /**
+     * By default, Weld falls back to reflection if Jandex is not available or the Jandex discovery strategy is disabled. Setting this option to true will
+     * force the bytecode index discovery strategy instead.
+     */
+    public static final String ENABLE_BYTECODE_DISCOVERY_STRATEGY = "org.jboss.weld.discovery.enableBytecodeIndexDiscovery";
+
+    private static final String OBJECT_NAME = Object.class.getName();
+
+    private static final String INHERITED_NAME = Inherited.class.getName();
+
+    private BytecodeIndex index;
+
+    private Set<String> beanDefiningAnnotations;
+
+    // Bean defining annotations which are not contained in the index
+    private final ConcurrentMap<String, Boolean> unindexedAnnotations = new ConcurrentHashMap<>();
+
+    private BytecodeClassFileServices classFileServices;
+
+    public BytecodeDiscoveryStrategy(ResourceLoader resourceLoader, Bootstrap bootstrap, Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
+        super(resourceLoader, bootstrap, initialBeanDefiningAnnotations);
+        registerHandler(new BytecodeFileSystemBeanArchiveHandler());
+    }
+
+    @Override
+    public ClassFileServices getClassFileServices() {
+        return classFileServices;
+    }
+
+    /**
+     *
+     * @return the index of all the bean archives handled by {@link BytecodeFileSystemBeanArchiveHandler}, or <code>null</code> if discovery was not
+     *         performed yet
+     */
+    public BytecodeIndex getIndex() {
+        return index;
+    }
+
+    @Override
+    protected void beforeDiscovery(Collection<BeanArchiveBuilder> builders) {
+        index = new BytecodeIndex();
+        for (BeanArchiveBuilder builder : builders) {
+            BytecodeIndex archiveIndex = (BytecodeIndex) builder.getAttribute(INDEX_ATTRIBUTE_NAME);
+            if (archiveIndex != null) {
+                index.addAll(archiveIndex);
+            }
+        }
+        beanDefiningAnnotations = buildBeanDefiningAnnotationSet();
+        classFileServices = new BytecodeClassFileServices(index, WeldResourceLoader.getClassLoader());
+    }
+
+    @Override
+    protected WeldBeanDeploymentArchive processAnnotatedDiscovery(BeanArchiveBuilder builder) {
+        Iterator<String> classIterator = builder.getClassIterator();
+        while (classIterator.hasNext()) {
+            String className = classIterator.next();
+            IndexedClass indexedClass = index.get(className);
+            if (indexedClass != null) {
+                if (!hasBeanDefiningAnnotation(indexedClass)) {
+                    classIterator.remove();
+                }
+            } else {
+                // The class is not indexed - fallback to reflection
+                Class<?> clazz = Reflections.loadClass(resourceLoader, className);
+                if (clazz == null || !Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)) {
+                    classIterator.remove();
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private Set<String> buildBeanDefiningAnnotationSet() {
+        ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+        for (Class<? extends Annotation> annotation : initialBeanDefiningAnnotations) {
+            if (isMetaAnnotation(annotation)) {
+                // find annotations annotated with this meta-annotation
+                for (IndexedClass indexedClass : index.getClasses()) {
+                    if ((indexedClass.getFlags() & BytecodeClassFileInfo.ANNOTATION) != 0
+                            && indexedClass.getDeclaredAnnotations().contains(annotation.getName())) {
+                        builder.add(indexedClass.getName());
+                    }
+                }
+            } else {
+                builder.add(annotation.getName());
+            }
+        }
+        return builder.build();
+    }
+
+    private boolean isMetaAnnotation(Class<? extends Annotation> annotation) {
+        Target target = annotation.getAnnotation(Target.class);
+        if (target == null || target.value() == null) {
+            return false;
+        }
+        for (ElementType elementType : target.value()) {
+            if (ElementType.ANNOTATION_TYPE.equals(elementType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mirrors {@link Reflections#hasBeanDefiningAnnotation(Class, Set)}, i.e. inherited bean defining annotations are also taken into account.
+     */
+    private boolean hasBeanDefiningAnnotation(IndexedClass indexedClass) {
+        for (String annotation : indexedClass.getDeclaredAnnotations()) {
+            if (isBeanDefiningAnnotation(annotation)) {
+                return true;
+            }
+        }
+        String superName = indexedClass.getSuperName();
+        while (superName != null && !OBJECT_NAME.equals(superName)) {
+            IndexedClass superClass = index.get(superName);
+            if (superClass == null) {
+                // The superclass is not indexed - fallback to reflection
+                Class<?> clazz = Reflections.loadClass(resourceLoader, superName);
+                return clazz != null && hasInheritedBeanDefiningAnnotation(clazz);
+            }
+            for (String annotation : superClass.getDeclaredAnnotations()) {
+                if (isBeanDefiningAnnotation(annotation) && isInherited(annotation)) {
+                    return true;
+                }
+            }
+            superName = superClass.getSuperName();
+        }
+        return false;
+    }
+
+    private boolean isBeanDefiningAnnotation(String annotation) {
+        if (beanDefiningAnnotations.contains(annotation)) {
+            return true;
+        }
+        if (index.contains(annotation)) {
+            // The meta-annotations of an indexed annotation were already considered
+            return false;
+        }
+        return unindexedAnnotations.computeIfAbsent(annotation, this::isUnindexedBeanDefiningAnnotation);
+    }
+
+    private Boolean isUnindexedBeanDefiningAnnotation(String annotation) {
+        Class<?> annotationClass = Reflections.loadClass(resourceLoader, annotation);
+        if (annotationClass == null) {
+            return false;
+        }
+        if (initialBeanDefiningAnnotations.contains(annotationClass)) {
+            return true;
+        }
+        for (Class<? extends Annotation> metaAnnotation : Reflections.META_ANNOTATIONS) {
+            if (annotationClass.isAnnotationPresent(metaAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInherited(String annotation) {
+        IndexedClass annotationClass = index.get(annotation);
+        if (annotationClass != null) {
+            return annotationClass.getDeclaredAnnotations().contains(INHERITED_NAME);
+        }
+        Class<?> clazz = Reflections.loadClass(resourceLoader, annotation);
+        return clazz != null && clazz.isAnnotationPresent(Inherited.class);
+    }
+
+    private boolean hasInheritedBeanDefiningAnnotation(Class<?> clazz) {
+        for (Annotation annotation : clazz.getAnnotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.isAnnotationPresent(Inherited.class) && isBeanDefiningAnnotation(annotationType.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
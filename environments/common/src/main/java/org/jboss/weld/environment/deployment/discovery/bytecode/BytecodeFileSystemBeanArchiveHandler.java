@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import static org.jboss.weld.environment.util.URLUtils.JAR_URL_SEPARATOR;
+import static org.jboss.weld.environment.util.URLUtils.PROCOTOL_JAR;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.FileSystemBeanArchiveHandler;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.Files;
+
+/**
+ * Builds and attaches a {@link BytecodeIndex} to each bean archive. Unlike the Jandex handler, every bean archive has its own index, i.e. this handler does
+ * not hold any state.
+ *
+ * <p>
+ * The class files of an archive file (including a nested archive) are read while the archive is traversed, i.e. each archive is only opened once.
+ * </p>
+ */
+public class BytecodeFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
+
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == BytecodeFileSystemBeanArchiveHandler.class;
+    }
+
+    @Override
+    public BeanArchiveBuilder handle(String path) {
+        BeanArchiveBuilder builder = super.handle(path);
+        if (builder == null) {
+            return null;
+        }
+        getIndex(builder);
+        return builder;
+    }
+
+    @Override
+    protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
+        BytecodeIndex index = getIndex(builder);
+        ArchiveEntry entry = new ArchiveEntry(PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
+        try (ZipFile zip = new ZipFile(file)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                add(entry.setName(zipEntry.getName()), builder);
+                if (Files.isClass(zipEntry.getName())) {
+                    try (InputStream in = zip.getInputStream(zipEntry)) {
+                        addToIndex(in, entry, index);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void handleNestedFile(String path, File file, BeanArchiveBuilder builder) throws IOException {
+        String nestedEntryName = path.substring(path.indexOf(JAR_URL_SEPARATOR) + JAR_URL_SEPARATOR.length());
+        if (nestedEntryName.contains(JAR_URL_SEPARATOR)) {
+            throw new IllegalArgumentException("Recursive nested archives are not supported");
+        }
+        BytecodeIndex index = getIndex(builder);
+        String archiveUrl = PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR + nestedEntryName;
+
+        try (ZipFile zip = new ZipFile(file)) {
+            ZipEntry nestedArchive = zip.getEntry(nestedEntryName);
+            if (nestedArchive != null && !nestedArchive.isDirectory()) {
+                // Nested jar entry - the class files are read from the stream of the nested archive
+                ArchiveEntry entry = new ArchiveEntry(archiveUrl + JAR_URL_SEPARATOR);
+                try (ZipInputStream nestedZip = new ZipInputStream(zip.getInputStream(nestedArchive))) {
+                    ZipEntry nestedEntry;
+                    while ((nestedEntry = nestedZip.getNextEntry()) != null) {
+                        add(entry.setName(nestedEntry.getName()), builder);
+                        if (Files.isClass(nestedEntry.getName())) {
+                            addToIndex(nestedZip, entry, index);
+                        }
+                    }
+                }
+                return;
+            }
+
+            // Nested file entries
+            ArchiveEntry entry = new ArchiveEntry(archiveUrl + "/");
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                if (zipEntry.getName().startsWith(nestedEntryName)) {
+                    add(entry.setName(zipEntry.getName().substring(nestedEntryName.length() + 1)), builder);
+                    if (Files.isClass(zipEntry.getName())) {
+                        try (InputStream in = zip.getInputStream(zipEntry)) {
+                            addToIndex(in, entry, index);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
+        super.add(entry, builder);
+        if (!(entry instanceof ArchiveEntry) && Files.isClass(entry.getName())) {
+            // A class file of a directory
+            URL url = entry.getUrl();
+            try (InputStream in = url.openStream()) {
+                addToIndex(in, url, getIndex(builder));
+            } catch (IOException e) {
+                CommonLogger.LOG.couldNotIndexClassFile(url, e);
+            }
+        }
+    }
+
+    private static void addToIndex(InputStream in, Object classFile, BytecodeIndex index) {
+        try {
+            index.index(in);
+        } catch (IOException e) {
+            CommonLogger.LOG.couldNotIndexClassFile(classFile, e);
+        }
+    }
+
+    private static BytecodeIndex getIndex(BeanArchiveBuilder builder) {
+        BytecodeIndex index = (BytecodeIndex) builder.getAttribute(BytecodeDiscoveryStrategy.INDEX_ATTRIBUTE_NAME);
+        if (index == null) {
+            index = new BytecodeIndex();
+            builder.setAttribute(BytecodeDiscoveryStrategy.INDEX_ATTRIBUTE_NAME, index);
+        }
+        return index;
+    }
+
+    /**
+     * An entry of an archive file. The URL is only created if needed.
+     */
+    private static class ArchiveEntry implements Entry {
+
+        private final String archiveUrl;
+
+        private String name;
+
+        ArchiveEntry(String archiveUrl) {
+            this.archiveUrl = archiveUrl;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public URL getUrl() throws MalformedURLException {
+            return new URL(archiveUrl + name);
+        }
+
+        ArchiveEntry setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return archiveUrl + name;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.environment.deployment.discovery.DiscoveryCache;
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * An index of class files which is built without loading the classes. A class file is added to the index with {@link #index(InputStream)}.
+ *
+ * <p>
+ * The index can be written to a file and restored later, e.g. next to the {@link DiscoveryCache}. Similarly to the discovery cache, the index is only
+ * restored if the fingerprint matches the one stored in the file.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see BytecodeDiscoveryStrategy
+ */
+public class BytecodeIndex {
+
+    private static final int VERSION = 1;
+
+    private final Map<String, IndexedClass> classes;
+
+    public BytecodeIndex() {
+        this.classes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reads the class file from the given stream and adds the class to the index. The stream is not closed.
+     *
+     * @param in
+     * @return the name of the indexed class
+     * @throws IOException if the stream cannot be read or does not contain a valid class file
+     */
+    public String index(InputStream in) throws IOException {
+        IndexedClass clazz = ClassFileReader.read(in);
+        classes.put(clazz.getName(), clazz);
+        return clazz.getName();
+    }
+
+    /**
+     * Adds all the classes of the other index to this index.
+     *
+     * @param other
+     */
+    public void addAll(BytecodeIndex other) {
+        classes.putAll(other.classes);
+    }
+
+    /**
+     *
+     * @param className
+     * @return <code>true</code> if the index contains the given class, <code>false</code> otherwise
+     */
+    public boolean contains(String className) {
+        return classes.containsKey(className);
+    }
+
+    /**
+     *
+     * @return the number of indexed classes
+     */
+    public int size() {
+        return classes.size();
+    }
+
+    IndexedClass get(String className) {
+        return classes.get(className);
+    }
+
+    Collection<IndexedClass> getClasses() {
+        return classes.values();
+    }
+
+    /**
+     *
+     * @param file
+     * @param fingerprint
+     * @return the index or <code>null</code> if the file does not exist, cannot be read or its fingerprint does not match
+     */
+    public static BytecodeIndex load(Path file, String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != VERSION || !fingerprint.equals(in.readUTF())) {
+                CommonLogger.LOG.debugv("Bytecode index {0} is stale", file);
+                return null;
+            }
+            BytecodeIndex index = new BytecodeIndex();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                IndexedClass clazz = IndexedClass.read(in);
+                index.classes.put(clazz.getName(), clazz);
+            }
+            CommonLogger.LOG.debugv("{0} classes restored from bytecode index {1}", size, file);
+            return index;
+        } catch (IOException | RuntimeException e) {
+            CommonLogger.LOG.warnv(e, "Unable to read bytecode index {0}", file);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param file
+     * @param fingerprint
+     * @return <code>true</code> if the index was written to the file, <code>false</code> otherwise
+     */
+    public boolean store(Path file, String fingerprint) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a temporary file first so that a concurrently starting application never reads a partially written index
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                // Take a snapshot so that the count matches the written classes
+                IndexedClass[] snapshot = classes.values().toArray(new IndexedClass[0]);
+                out.writeInt(snapshot.length);
+                for (IndexedClass clazz : snapshot) {
+                    clazz.write(out);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            CommonLogger.LOG.warnv(e, "Unable to write bytecode index {0}", file);
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BytecodeIndex [classes=" + classes.size() + "]";
+    }
+
+}
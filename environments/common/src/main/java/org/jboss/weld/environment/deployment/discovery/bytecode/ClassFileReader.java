@@ -0,0 +1,328 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.resources.spi.ClassFileInfo.NestingType;
+
+/**
+ * Reads the parts of a class file which are relevant for bean discovery. Only the constant pool, the access flags, the type hierarchy and the
+ * {@code RuntimeVisibleAnnotations}, {@code RuntimeVisibleParameterAnnotations} and {@code InnerClasses} attributes are processed, everything else
+ * (in particular the code of methods) is skipped. Annotation members are not retained, nor are type annotations.
+ *
+ * <p>
+ * See also the Java Virtual Machine Specification, chapter 4 "The class File Format".
+ * </p>
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    // Constant pool tags
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int FLOAT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+    private static final int METHOD_HANDLE = 15;
+    private static final int METHOD_TYPE = 16;
+    private static final int DYNAMIC = 17;
+    private static final int INVOKE_DYNAMIC = 18;
+    private static final int MODULE = 19;
+    private static final int PACKAGE = 20;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final String RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS = "RuntimeVisibleParameterAnnotations";
+
+    private static final String INNER_CLASSES = "InnerClasses";
+
+    private static final String CONSTRUCTOR_METHOD_NAME = "<init>";
+
+    private static final String NO_ARGS_DESCRIPTOR = "()V";
+
+    private static final String INJECT_NAME = Inject.class.getName();
+
+    private final DataInputStream in;
+
+    private String[] utf8;
+
+    // The constant pool index of the name of each CONSTANT_Class entry
+    private int[] classNameIndexes;
+
+    private ClassFileReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    /**
+     *
+     * @param in
+     * @return the class read from the given stream, the stream is not closed
+     * @throws IOException if the stream cannot be read or does not contain a valid class file
+     */
+    static IndexedClass read(InputStream in) throws IOException {
+        return new ClassFileReader(in).readClass();
+    }
+
+    private IndexedClass readClass() throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // Minor and major version
+        skip(4);
+        readConstantPool();
+
+        int flags = in.readUnsignedShort();
+        String name = className(in.readUnsignedShort());
+        int superIndex = in.readUnsignedShort();
+        String superName = superIndex != 0 ? className(superIndex) : null;
+        String[] interfaceNames = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaceNames[i] = className(in.readUnsignedShort());
+        }
+
+        Set<String> annotations = new HashSet<>();
+        Set<String> declaredAnnotations = new HashSet<>();
+        Set<String> defaultMethodAnnotations = new HashSet<>();
+        boolean noArgsConstructor = false;
+        boolean injectConstructor = false;
+
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            // Access flags, name and descriptor
+            skip(6);
+            readMemberAttributes(annotations, annotations);
+        }
+
+        boolean isInterface = (flags & Modifier.INTERFACE) != 0;
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            int methodFlags = in.readUnsignedShort();
+            String methodName = utf8(in.readUnsignedShort());
+            String descriptor = utf8(in.readUnsignedShort());
+            Set<String> methodAnnotations = new HashSet<>();
+            Set<String> parameterAnnotations = new HashSet<>();
+            readMemberAttributes(methodAnnotations, parameterAnnotations);
+            annotations.addAll(methodAnnotations);
+            annotations.addAll(parameterAnnotations);
+            if (CONSTRUCTOR_METHOD_NAME.equals(methodName)) {
+                noArgsConstructor |= NO_ARGS_DESCRIPTOR.equals(descriptor);
+                injectConstructor |= methodAnnotations.contains(INJECT_NAME);
+            } else if (isInterface && (methodFlags & (Modifier.ABSTRACT | Modifier.PUBLIC | Modifier.STATIC)) == Modifier.PUBLIC) {
+                // Default methods are public non-abstract instance methods declared in an interface
+                defaultMethodAnnotations.addAll(methodAnnotations);
+                defaultMethodAnnotations.addAll(parameterAnnotations);
+            }
+        }
+
+        NestingType nestingType = NestingType.TOP_LEVEL;
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                readAnnotations(declaredAnnotations);
+            } else if (INNER_CLASSES.equals(attributeName)) {
+                int innerClassCount = in.readUnsignedShort();
+                for (int j = 0; j < innerClassCount; j++) {
+                    int innerIndex = in.readUnsignedShort();
+                    int outerIndex = in.readUnsignedShort();
+                    int innerNameIndex = in.readUnsignedShort();
+                    int innerFlags = in.readUnsignedShort();
+                    if (name.equals(className(innerIndex))) {
+                        // The flags of a nested class, e.g. static or private, are only recorded in the InnerClasses attribute
+                        flags = innerFlags;
+                        if (outerIndex != 0) {
+                            nestingType = Modifier.isStatic(innerFlags) ? NestingType.NESTED_STATIC : NestingType.NESTED_INNER;
+                        } else {
+                            nestingType = innerNameIndex == 0 ? NestingType.NESTED_ANONYMOUS : NestingType.NESTED_LOCAL;
+                        }
+                    }
+                }
+            } else {
+                skip(length);
+            }
+        }
+        annotations.addAll(declaredAnnotations);
+
+        return new IndexedClass(name, flags, superName, interfaceNames, declaredAnnotations, annotations, defaultMethodAnnotations, noArgsConstructor,
+                injectConstructor, nestingType);
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = in.readUnsignedShort();
+        utf8 = new String[count];
+        classNameIndexes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case UTF8:
+                    utf8[i] = in.readUTF();
+                    break;
+                case CLASS:
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    skip(2);
+                    break;
+                case METHOD_HANDLE:
+                    skip(3);
+                    break;
+                case INTEGER:
+                case FLOAT:
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    skip(4);
+                    break;
+                case LONG:
+                case DOUBLE:
+                    skip(8);
+                    // Eight-byte constants take up two entries
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Invalid constant pool tag " + tag + " at index " + i);
+            }
+        }
+    }
+
+    private void readMemberAttributes(Set<String> memberAnnotations, Set<String> parameterAnnotations) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                readAnnotations(memberAnnotations);
+            } else if (RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS.equals(attributeName)) {
+                int parameterCount = in.readUnsignedByte();
+                for (int j = 0; j < parameterCount; j++) {
+                    readAnnotations(parameterAnnotations);
+                }
+            } else {
+                skip(length);
+            }
+        }
+    }
+
+    private void readAnnotations(Set<String> names) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            readAnnotation(names);
+        }
+    }
+
+    /**
+     *
+     * @param names the set the annotation type is added to, may be <code>null</code> for nested annotations
+     */
+    private void readAnnotation(Set<String> names) throws IOException {
+        String descriptor = utf8(in.readUnsignedShort());
+        if (names != null) {
+            names.add(descriptorToClassName(descriptor));
+        }
+        int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            // Element name
+            skip(2);
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'B':
+            case 'C':
+            case 'D':
+            case 'F':
+            case 'I':
+            case 'J':
+            case 'S':
+            case 'Z':
+            case 's':
+            case 'c':
+                skip(2);
+                break;
+            case 'e':
+                skip(4);
+                break;
+            case '@':
+                readAnnotation(null);
+                break;
+            case '[':
+                int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue();
+                }
+                break;
+            default:
+                throw new IOException("Invalid element value tag " + (char) tag);
+        }
+    }
+
+    private void skip(int length) throws IOException {
+        if (in.skipBytes(length) != length) {
+            throw new EOFException();
+        }
+    }
+
+    private String utf8(int index) throws IOException {
+        if (index <= 0 || index >= utf8.length || utf8[index] == null) {
+            throw new IOException("Invalid constant pool index " + index);
+        }
+        return utf8[index];
+    }
+
+    private String className(int index) throws IOException {
+        if (index <= 0 || index >= classNameIndexes.length) {
+            throw new IOException("Invalid constant pool index " + index);
+        }
+        return utf8(classNameIndexes[index]).replace('/', '.');
+    }
+
+    private static String descriptorToClassName(String descriptor) {
+        // E.g. Ljakarta/enterprise/context/ApplicationScoped;
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.charAt(descriptor.length() - 1) == ';') {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+}
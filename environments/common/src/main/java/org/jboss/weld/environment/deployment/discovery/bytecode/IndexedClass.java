@@ -0,0 +1,188 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.weld.resources.spi.ClassFileInfo.NestingType;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * The information about a single class file which is kept in a {@link BytecodeIndex}.
+ *
+ * <p>
+ * {@link #getAnnotations()} contains the annotations declared on the type and on its fields, methods, constructors and parameters, i.e. it corresponds to
+ * the annotations map of a Jandex {@code ClassInfo}. Annotations declared on default methods of an interface are also available through
+ * {@link #getDefaultMethodAnnotations()}.
+ * </p>
+ */
+final class IndexedClass {
+
+    private static final String[] NO_NAMES = new String[0];
+
+    private final String name;
+
+    private final int flags;
+
+    private final String superName;
+
+    private final String[] interfaceNames;
+
+    private final Set<String> declaredAnnotations;
+
+    private final Set<String> annotations;
+
+    private final Set<String> defaultMethodAnnotations;
+
+    private final boolean noArgsConstructor;
+
+    private final boolean injectConstructor;
+
+    private final NestingType nestingType;
+
+    IndexedClass(String name, int flags, String superName, String[] interfaceNames, Collection<String> declaredAnnotations,
+            Collection<String> annotations, Collection<String> defaultMethodAnnotations, boolean noArgsConstructor, boolean injectConstructor,
+            NestingType nestingType) {
+        this.name = name;
+        this.flags = flags;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames.length == 0 ? NO_NAMES : interfaceNames;
+        this.declaredAnnotations = ImmutableSet.copyOf(declaredAnnotations);
+        this.annotations = ImmutableSet.copyOf(annotations);
+        this.defaultMethodAnnotations = ImmutableSet.copyOf(defaultMethodAnnotations);
+        this.noArgsConstructor = noArgsConstructor;
+        this.injectConstructor = injectConstructor;
+        this.nestingType = nestingType;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return the access flags, for a nested class the flags declared in the {@code InnerClasses} attribute
+     */
+    int getFlags() {
+        return flags;
+    }
+
+    /**
+     *
+     * @return the name of the superclass or <code>null</code> for {@link Object}
+     */
+    String getSuperName() {
+        return superName;
+    }
+
+    String[] getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    Set<String> getDeclaredAnnotations() {
+        return declaredAnnotations;
+    }
+
+    Set<String> getAnnotations() {
+        return annotations;
+    }
+
+    Set<String> getDefaultMethodAnnotations() {
+        return defaultMethodAnnotations;
+    }
+
+    boolean hasNoArgsConstructor() {
+        return noArgsConstructor;
+    }
+
+    boolean hasInjectConstructor() {
+        return injectConstructor;
+    }
+
+    NestingType getNestingType() {
+        return nestingType;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeInt(flags);
+        out.writeBoolean(superName != null);
+        if (superName != null) {
+            out.writeUTF(superName);
+        }
+        out.writeInt(interfaceNames.length);
+        for (String interfaceName : interfaceNames) {
+            out.writeUTF(interfaceName);
+        }
+        writeNames(out, declaredAnnotations);
+        writeNames(out, annotations);
+        writeNames(out, defaultMethodAnnotations);
+        out.writeBoolean(noArgsConstructor);
+        out.writeBoolean(injectConstructor);
+        out.writeUTF(nestingType.name());
+    }
+
+    static IndexedClass read(DataInput in) throws IOException {
+        String name = in.readUTF();
+        int flags = in.readInt();
+        String superName = in.readBoolean() ? in.readUTF() : null;
+        String[] interfaceNames = new String[in.readInt()];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaceNames[i] = in.readUTF();
+        }
+        Set<String> declaredAnnotations = readNames(in);
+        Set<String> annotations = readNames(in);
+        Set<String> defaultMethodAnnotations = readNames(in);
+        boolean noArgsConstructor = in.readBoolean();
+        boolean injectConstructor = in.readBoolean();
+        NestingType nestingType;
+        try {
+            nestingType = NestingType.valueOf(in.readUTF());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid nesting type of " + name, e);
+        }
+        return new IndexedClass(name, flags, superName, interfaceNames, declaredAnnotations, annotations, defaultMethodAnnotations, noArgsConstructor,
+                injectConstructor, nestingType);
+    }
+
+    private static void writeNames(DataOutput out, Set<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static Set<String> readNames(DataInput in) throws IOException {
+        int size = in.readInt();
+        Set<String> names = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
@@ -36,7 +38,16 @@ import org.jboss.weld.environment.util.Files;
  */
 public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
 
-    private final Indexer indexer = new Indexer();
+    private static final String CLASS_URLS_ATTRIBUTE_NAME = JandexFileSystemBeanArchiveHandler.class.getName() + ".classUrls";
+
+    /**
+     * The class file URLs are collected per bean archive and indexed once the archive is handled, no state is shared between invocations of
+     * {@link #handle(String)}.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == JandexFileSystemBeanArchiveHandler.class;
+    }
 
     @Override
     public BeanArchiveBuilder handle(String path) {
@@ -44,7 +55,8 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         if (builder == null) {
             return null;
         }
-        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex());
+        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex(builder));
+        builder.setAttribute(CLASS_URLS_ATTRIBUTE_NAME, null);
         return builder;
     }
 
@@ -52,11 +64,22 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
         if (Files.isClass(entry.getName())) {
-            addToIndex(entry.getUrl());
+            // An entry may be added more than once, e.g. if the archive is read again after the central directory could not be parsed
+            getClassUrls(builder).put(Files.filenameToClassname(entry.getName()), entry.getUrl());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, URL> getClassUrls(BeanArchiveBuilder builder) {
+        Map<String, URL> classUrls = (Map<String, URL>) builder.getAttribute(CLASS_URLS_ATTRIBUTE_NAME);
+        if (classUrls == null) {
+            classUrls = new HashMap<>();
+            builder.setAttribute(CLASS_URLS_ATTRIBUTE_NAME, classUrls);
         }
+        return classUrls;
     }
 
-    private void addToIndex(URL url) {
+    private static void addToIndex(Indexer indexer, URL url) {
         InputStream fs = null;
         try {
             fs = url.openStream();
@@ -74,7 +97,15 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         }
     }
 
-    private Index buildIndex() {
+    private static Index buildIndex(BeanArchiveBuilder builder) {
+        Indexer indexer = new Indexer();
+        Map<String, URL> classUrls = getClassUrls(builder);
+        for (String className : builder.getClasses()) {
+            URL url = classUrls.get(className);
+            if (url != null) {
+                addToIndex(indexer, url);
+            }
+        }
         return indexer.complete();
     }
 }
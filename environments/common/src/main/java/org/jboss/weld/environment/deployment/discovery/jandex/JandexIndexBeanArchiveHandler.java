@@ -36,7 +36,7 @@ import org.jboss.weld.util.Preconditions;
  * {@link JandexIndexBeanArchiveHandler#handle(String)} method will return null.
  *
  * <p>
- * The class is not thread-safe and should only be used by a single thread.
+ * The class does not hold any state and may be used by multiple threads concurrently.
  * </p>
  *
  * @author Stefan Großmann
@@ -47,6 +47,11 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
 
     private static final String JANDEX_INDEX_NAME = "META-INF/jandex.idx";
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public BeanArchiveBuilder handle(String path) {
         File beanArchiveFile = new File(path);
@@ -164,4 +164,12 @@ public interface CommonLogger extends WeldEnvironmentLogger {
     @Message(id = 41, value = "Using {0} for bean discovery", format = Format.MESSAGE_FORMAT)
     void usingServiceLoaderSourcedDiscoveryStrategy(Object discoveryStrategy);
 
+    @LogMessage(level = Level.INFO)
+    @Message(id = 42, value = "Using bytecode index for bean discovery", format = Format.MESSAGE_FORMAT)
+    void usingBytecodeIndex();
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 43, value = "Could not add the class file {0} to the bytecode index.", format = Format.MESSAGE_FORMAT)
+    void couldNotIndexClassFile(Object param1, @Cause Throwable cause);
+
 }
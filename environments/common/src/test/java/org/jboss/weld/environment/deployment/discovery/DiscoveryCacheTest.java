@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoveryCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        DiscoveryCache cache = new DiscoveryCache(folder.getRoot().toPath().resolve("cache/discovery.bin"), null);
+        WeldBeanDeploymentArchive implicit = new WeldBeanDeploymentArchive("implicit", Arrays.asList("com.acme.Foo", "com.acme.Bar"),
+                Collections.singleton("com.acme.Foo"), null);
+        WeldBeanDeploymentArchive empty = new WeldBeanDeploymentArchive("empty", Collections.singleton("com.acme.Baz"), null,
+                BeansXml.EMPTY_BEANS_XML);
+        assertTrue(cache.store("foo", Arrays.asList(implicit, empty)));
+
+        assertNull(cache.load("bar"));
+        Set<WeldBeanDeploymentArchive> archives = cache.load("foo");
+        assertEquals(2, archives.size());
+        Map<String, WeldBeanDeploymentArchive> archivesById = new HashMap<>();
+        for (WeldBeanDeploymentArchive archive : archives) {
+            archivesById.put(archive.getId(), archive);
+        }
+        WeldBeanDeploymentArchive restored = archivesById.get("implicit");
+        assertNull(restored.getBeansXml());
+        assertEquals(2, restored.getBeanClasses().size());
+        assertTrue(restored.getBeanClasses().contains("com.acme.Bar"));
+        assertEquals(Collections.singleton("com.acme.Foo"), restored.getKnownClasses());
+        restored = archivesById.get("empty");
+        assertEquals(BeansXml.EMPTY_BEANS_XML, restored.getBeansXml());
+        assertEquals(Collections.singleton("com.acme.Baz"), restored.getBeanClasses());
+        assertTrue(restored.getKnownClasses().isEmpty());
+    }
+
+    @Test
+    public void testLoadMissingCache() {
+        assertNull(new DiscoveryCache(folder.getRoot().toPath().resolve("missing.bin"), null).load("foo"));
+    }
+
+    @Test
+    public void testFingerprint() throws IOException {
+        File dir = folder.newFolder("classes");
+        File jar = folder.newFile("lib.jar");
+        String fingerprint = DiscoveryCache.fingerprint(Arrays.asList(dir.getPath(), jar.getPath()), "input");
+        assertEquals(fingerprint, DiscoveryCache.fingerprint(Arrays.asList(dir.getPath(), jar.getPath()), "input"));
+        assertNotEquals(fingerprint, DiscoveryCache.fingerprint(Arrays.asList(dir.getPath(), jar.getPath()), "other"));
+        assertNotEquals(fingerprint, DiscoveryCache.fingerprint(Collections.singletonList(dir.getPath()), "input"));
+
+        // A new class in a directory entry invalidates the fingerprint
+        Files.write(new File(dir, "Foo.class").toPath(), "foo".getBytes(StandardCharsets.UTF_8));
+        String modified = DiscoveryCache.fingerprint(Arrays.asList(dir.getPath(), jar.getPath()), "input");
+        assertNotEquals(fingerprint, modified);
+
+        // A renamed class keeps the number of files, their size and modification time
+        File foo = new File(dir, "Foo.class");
+        long lastModified = foo.lastModified();
+        File bar = new File(dir, "Bar.class");
+        assertTrue(foo.renameTo(bar));
+        assertTrue(bar.setLastModified(lastModified));
+        assertNotEquals(modified, DiscoveryCache.fingerprint(Arrays.asList(dir.getPath(), jar.getPath()), "input"));
+    }
+
+    @Test
+    public void testClassPathFingerprintIncludesResourceLoaderArchives() throws IOException {
+        File archive1 = folder.newFolder("archive1");
+        File archive2 = folder.newFolder("archive2");
+        for (File archive : Arrays.asList(archive1, archive2)) {
+            File metaInf = new File(archive, "META-INF");
+            metaInf.mkdir();
+            Files.write(new File(metaInf, "beans.xml").toPath(), "<beans/>".getBytes(StandardCharsets.UTF_8));
+        }
+        try (URLClassLoader loader1 = new URLClassLoader(new URL[] { archive1.toURI().toURL() }, null);
+                URLClassLoader loader2 = new URLClassLoader(new URL[] { archive2.toURI().toURL() }, null)) {
+            String fingerprint1 = DiscoveryCache.classPathFingerprint(new ClassLoaderResourceLoader(loader1), "input");
+            String fingerprint2 = DiscoveryCache.classPathFingerprint(new ClassLoaderResourceLoader(loader2), "input");
+            assertEquals(fingerprint1, DiscoveryCache.classPathFingerprint(new ClassLoaderResourceLoader(loader1), "input"));
+            assertNotEquals(fingerprint1, fingerprint2);
+        }
+    }
+
+    @Test
+    public void testGetBeanArchivePath() throws IOException {
+        File dir = folder.newFolder("dir with space");
+        assertEquals(dir.toPath(), DiscoveryCache.getBeanArchivePath(new File(dir, "META-INF/beans.xml").toURI().toURL(), "META-INF/beans.xml"));
+        File jar = new File(dir, "lib.jar");
+        assertEquals(jar.toPath(), DiscoveryCache.getBeanArchivePath(new URL("jar:" + jar.toURI() + "!/META-INF/beans.xml"), "META-INF/beans.xml"));
+        // Nested archives cannot be fingerprinted
+        assertNull(DiscoveryCache.getBeanArchivePath(new URL("jar:" + jar.toURI() + "!/lib/nested.jar!/META-INF/beans.xml"), "META-INF/beans.xml"));
+    }
+
+}
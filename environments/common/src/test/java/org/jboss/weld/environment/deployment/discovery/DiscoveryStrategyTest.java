@@ -19,11 +19,36 @@ package org.jboss.weld.environment.deployment.discovery;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
 
+import org.jboss.jandex.ClassInfo;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexFileSystemBeanArchiveHandler;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
 import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  *
@@ -31,6 +56,11 @@ import org.junit.Test;
  */
 public class DiscoveryStrategyTest {
 
+    private static final String CONCURRENT_REF_PREFIX = "concurrent:";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testBeanArchiveHandlers() {
         AbstractDiscoveryStrategy strategy = (AbstractDiscoveryStrategy) DiscoveryStrategyFactory
@@ -43,6 +73,143 @@ public class DiscoveryStrategyTest {
         assertTrue(handlers.get(2) instanceof TestHandler2);
     }
 
+    @Test
+    public void testConcurrentBeanArchiveHandling() throws IOException {
+        List<File> archives = new ArrayList<>();
+        archives.add(createDirectory("dir1", DiscoveryStrategyTest.class, TestHandler.class));
+        archives.add(createDirectory("dir2", DiscoveryCacheTest.class));
+        archives.add(createDirectory("dir3", TestHandler2.class, ZipCentralDirectoryTest.class));
+        archives.add(createJar("lib.jar", BeanArchiveBuilder.class, BeanArchiveHandler.class));
+
+        // Every archive waits until all the others are being handled, i.e. the test fails unless the archives are handled concurrently
+        CyclicBarrier barrier = new CyclicBarrier(archives.size());
+        FixedThreadPoolExecutorServices executorServices = new FixedThreadPoolExecutorServices(archives.size());
+        JandexDiscoveryStrategy concurrent = createStrategy(archives, CONCURRENT_REF_PREFIX);
+        concurrent.registerHandler(new ConcurrentHandler(barrier));
+        concurrent.setExecutorServices(executorServices);
+        Set<WeldBeanDeploymentArchive> concurrentResult;
+        try {
+            concurrentResult = concurrent.performDiscovery();
+        } finally {
+            executorServices.cleanup();
+        }
+
+        JandexDiscoveryStrategy sequential = createStrategy(archives, "");
+        Set<WeldBeanDeploymentArchive> sequentialResult = sequential.performDiscovery();
+
+        assertEquals(archives.size(), sequentialResult.size());
+        assertEquals(toMap(sequentialResult), toMap(concurrentResult));
+        assertEquals(getKnownClasses(sequential), getKnownClasses(concurrent));
+        assertTrue(getKnownClasses(sequential).contains(BeanArchiveBuilder.class.getName()));
+        assertTrue(getKnownClasses(sequential).contains(TestHandler2.class.getName()));
+    }
+
+    private JandexDiscoveryStrategy createStrategy(List<File> archives, String refPrefix) {
+        JandexDiscoveryStrategy strategy = new JandexDiscoveryStrategy(new ClassLoaderResourceLoader(getClass().getClassLoader()), null,
+                Collections.emptySet());
+        strategy.setScanner(() -> {
+            List<ScanResult> results = new ArrayList<>();
+            for (File archive : archives) {
+                results.add(new ScanResult(BeansXml.EMPTY_BEANS_XML, refPrefix + archive.getPath(), archive.getName()));
+            }
+            return results;
+        });
+        return strategy;
+    }
+
+    private File createDirectory(String name, Class<?>... classes) throws IOException {
+        File directory = folder.newFolder(name);
+        for (Class<?> clazz : classes) {
+            File classFile = new File(directory, getClassFileName(clazz));
+            classFile.getParentFile().mkdirs();
+            try (InputStream in = getClassFile(clazz)) {
+                Files.copy(in, classFile.toPath());
+            }
+        }
+        return directory;
+    }
+
+    private File createJar(String name, Class<?>... classes) throws IOException {
+        File jar = folder.newFile(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            for (Class<?> clazz : classes) {
+                out.putNextEntry(new ZipEntry(getClassFileName(clazz)));
+                try (InputStream in = getClassFile(clazz)) {
+                    copy(in, out);
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static String getClassFileName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static InputStream getClassFile(Class<?> clazz) {
+        return clazz.getClassLoader().getResourceAsStream(getClassFileName(clazz));
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static Map<String, Set<String>> toMap(Set<WeldBeanDeploymentArchive> archives) {
+        Map<String, Set<String>> map = new HashMap<>();
+        for (WeldBeanDeploymentArchive archive : archives) {
+            map.put(archive.getId(), new TreeSet<>(archive.getBeanClasses()));
+        }
+        return map;
+    }
+
+    private static Set<String> getKnownClasses(JandexDiscoveryStrategy strategy) {
+        Set<String> names = new TreeSet<>();
+        for (ClassInfo classInfo : strategy.getCompositeJandexIndex().getKnownClasses()) {
+            names.add(classInfo.name().toString());
+        }
+        return names;
+    }
+
+    /**
+     * Handles the prefixed references, the other handlers ignore them as they cannot be read from the file system. All the references are handled by
+     * a single instance of {@link JandexFileSystemBeanArchiveHandler}.
+     */
+    static class ConcurrentHandler implements BeanArchiveHandler {
+
+        private final CyclicBarrier barrier;
+
+        private final JandexFileSystemBeanArchiveHandler delegate;
+
+        ConcurrentHandler(CyclicBarrier barrier) {
+            this.barrier = barrier;
+            this.delegate = new JandexFileSystemBeanArchiveHandler();
+        }
+
+        @Override
+        public BeanArchiveBuilder handle(String beanArchiveReference) {
+            if (!beanArchiveReference.startsWith(CONCURRENT_REF_PREFIX)) {
+                return null;
+            }
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException("Bean archives not handled concurrently", e);
+            }
+            return delegate.handle(beanArchiveReference.substring(CONCURRENT_REF_PREFIX.length()));
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return delegate.isThreadSafe();
+        }
+
+    }
+
     static class TestHandler2 implements BeanArchiveHandler {
 
         @Override
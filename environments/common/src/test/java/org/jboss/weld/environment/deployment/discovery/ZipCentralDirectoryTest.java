@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ZipCentralDirectoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadClassEntries() throws IOException {
+        File file = folder.newFile("test.jar");
+        try (OutputStream out = new FileOutputStream(file)) {
+            writeArchive(out, "META-INF/beans.xml", "com/acme/", "com/acme/Foo.class", "com/acme/Foo$Bar.class", "com/acme/foo.properties");
+        }
+        List<String> names = new ArrayList<>();
+        assertTrue(ZipCentralDirectory.readClassEntries(file, names::add));
+        assertEquals(Arrays.asList("com/acme/Foo.class", "com/acme/Foo$Bar.class"), names);
+
+        names.clear();
+        assertTrue(ZipCentralDirectory.readClassEntries(Files.readAllBytes(file.toPath()), names::add));
+        assertEquals(Arrays.asList("com/acme/Foo.class", "com/acme/Foo$Bar.class"), names);
+    }
+
+    @Test
+    public void testPrefixedArchive() throws IOException {
+        // E.g. an executable jar with a launch script
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(StandardCharsets.US_ASCII));
+        writeArchive(out, "com/acme/Foo.class");
+        File file = folder.newFile("prefixed.jar");
+        Files.write(file.toPath(), out.toByteArray());
+        List<String> names = new ArrayList<>();
+        assertTrue(ZipCentralDirectory.readClassEntries(file, names::add));
+        assertEquals(Arrays.asList("com/acme/Foo.class"), names);
+    }
+
+    @Test
+    public void testUnsupportedArchive() throws IOException {
+        File file = folder.newFile("invalid.jar");
+        Files.write(file.toPath(), "This is not an archive".getBytes(StandardCharsets.US_ASCII));
+        List<String> names = new ArrayList<>();
+        assertFalse(ZipCentralDirectory.readClassEntries(file, names::add));
+        assertTrue(names.isEmpty());
+    }
+
+    private static void writeArchive(OutputStream out, String... names) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (String name : names) {
+            zip.putNextEntry(new ZipEntry(name));
+            if (!name.endsWith("/")) {
+                zip.write(name.getBytes(StandardCharsets.UTF_8));
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BytecodeFileSystemBeanArchiveHandlerTest {
+
+    private static final String FOO = "org/jboss/weld/environment/deployment/discovery/bytecode/BytecodeIndexTest$Foo.class";
+
+    private static final String BAR = "org/jboss/weld/environment/deployment/discovery/bytecode/BytecodeIndexTest$Bar.class";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testArchive() throws IOException {
+        File file = folder.newFile("test.jar");
+        try (OutputStream out = new FileOutputStream(file)) {
+            writeArchive(out, "", "META-INF/beans.xml", FOO, BAR);
+        }
+        assertIndexed(new BytecodeFileSystemBeanArchiveHandler().handle(file.getPath()));
+    }
+
+    @Test
+    public void testNestedArchive() throws IOException {
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        writeArchive(nested, "", "META-INF/beans.xml", FOO, BAR);
+        File file = folder.newFile("outer.jar");
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("lib/nested.jar"));
+            zip.write(nested.toByteArray());
+            zip.closeEntry();
+        }
+        assertIndexed(new BytecodeFileSystemBeanArchiveHandler().handle(file.getPath() + "!/lib/nested.jar"));
+    }
+
+    @Test
+    public void testNestedDirectory() throws IOException {
+        File file = folder.newFile("outer.war");
+        try (OutputStream out = new FileOutputStream(file)) {
+            writeArchive(out, "WEB-INF/classes/", "META-INF/beans.xml", FOO, BAR);
+        }
+        assertIndexed(new BytecodeFileSystemBeanArchiveHandler().handle(file.getPath() + "!/WEB-INF/classes"));
+    }
+
+    private static void assertIndexed(BeanArchiveBuilder builder) {
+        assertNotNull(builder);
+        assertEquals(new HashSet<>(Arrays.asList(BytecodeIndexTest.Foo.class.getName(), BytecodeIndexTest.Bar.class.getName())), builder.getClasses());
+        BytecodeIndex index = (BytecodeIndex) builder.getAttribute(BytecodeDiscoveryStrategy.INDEX_ATTRIBUTE_NAME);
+        assertEquals(2, index.size());
+        assertTrue(index.contains(BytecodeIndexTest.Foo.class.getName()));
+        assertTrue(index.contains(BytecodeIndexTest.Bar.class.getName()));
+    }
+
+    private static void writeArchive(OutputStream out, String prefix, String... names) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (String name : names) {
+            zip.putNextEntry(new ZipEntry(prefix + name));
+            if (name.endsWith(".class")) {
+                try (InputStream in = BytecodeFileSystemBeanArchiveHandlerTest.class.getResourceAsStream("/" + name)) {
+                    byte[] buffer = new byte[4096];
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        zip.write(buffer, 0, read);
+                    }
+                }
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.bytecode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileInfo.NestingType;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BytecodeIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testClassFileInfo() throws IOException {
+        BytecodeIndex index = newIndex(Foo.class, Bar.class, Baz.class);
+        ClassFileServices services = new BytecodeClassFileServices(index, getClass().getClassLoader());
+
+        ClassFileInfo foo = services.getClassFileInfo(Foo.class.getName());
+        assertEquals(Foo.class.getName(), foo.getClassName());
+        assertEquals(Object.class.getName(), foo.getSuperclassName());
+        assertTrue(foo.isAnnotationDeclared(ApplicationScoped.class));
+        assertFalse(foo.isAnnotationDeclared(Inject.class));
+        // Constructor, field and parameter annotations
+        assertTrue(foo.containsAnnotation(Inject.class));
+        assertTrue(foo.containsAnnotation(Named.class));
+        assertFalse(foo.containsAnnotation(Produces.class));
+        assertTrue(foo.hasCdiConstructor());
+        assertFalse(foo.isVetoed());
+        assertTrue(foo.isTopLevelClass());
+        assertTrue(foo.isAssignableTo(Serializable.class));
+        assertFalse(foo.isAssignableTo(Callable.class));
+        assertTrue(foo.isAssignableFrom(Bar.class));
+
+        ClassFileInfo bar = services.getClassFileInfo(Bar.class.getName());
+        assertEquals(Foo.class.getName(), bar.getSuperclassName());
+        assertFalse(bar.isAnnotationDeclared(ApplicationScoped.class));
+        // Inherited from the superclass
+        assertTrue(bar.containsAnnotation(Inject.class));
+        assertTrue(bar.isVetoed());
+        assertFalse(bar.hasCdiConstructor());
+        assertTrue(bar.isAssignableTo(Serializable.class));
+
+        // Default method of an interface
+        ClassFileInfo baz = services.getClassFileInfo(Baz.class.getName());
+        assertTrue(baz.containsAnnotation(Produces.class));
+        assertTrue(Modifier.isInterface(baz.getModifiers()));
+    }
+
+    @Test
+    public void testNestingType() throws IOException {
+        Object anonymous = new Object() {
+        };
+        class Local {
+        }
+        BytecodeIndex index = newIndex(BytecodeIndexTest.class, Foo.class, Inner.class, anonymous.getClass(), Local.class);
+        ClassFileServices services = new BytecodeClassFileServices(index, getClass().getClassLoader());
+        assertEquals(NestingType.TOP_LEVEL, services.getClassFileInfo(BytecodeIndexTest.class.getName()).getNestingType());
+        assertEquals(NestingType.NESTED_STATIC, services.getClassFileInfo(Foo.class.getName()).getNestingType());
+        assertTrue(Modifier.isStatic(services.getClassFileInfo(Foo.class.getName()).getModifiers()));
+        assertEquals(NestingType.NESTED_INNER, services.getClassFileInfo(Inner.class.getName()).getNestingType());
+        assertEquals(NestingType.NESTED_ANONYMOUS, services.getClassFileInfo(anonymous.getClass().getName()).getNestingType());
+        assertEquals(NestingType.NESTED_LOCAL, services.getClassFileInfo(Local.class.getName()).getNestingType());
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        BytecodeIndex index = newIndex(Foo.class, Bar.class, Baz.class);
+        Path file = folder.getRoot().toPath().resolve("cache/discovery.bin.index");
+        assertTrue(index.store(file, "foo"));
+
+        assertNull(BytecodeIndex.load(file, "bar"));
+        BytecodeIndex restored = BytecodeIndex.load(file, "foo");
+        assertNotNull(restored);
+        assertEquals(3, restored.size());
+        ClassFileInfo bar = new BytecodeClassFileServices(restored, getClass().getClassLoader()).getClassFileInfo(Bar.class.getName());
+        assertTrue(bar.containsAnnotation(Inject.class));
+        assertTrue(bar.isVetoed());
+        assertEquals(NestingType.NESTED_STATIC, bar.getNestingType());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidClassFile() throws IOException {
+        new BytecodeIndex().index(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+    }
+
+    private BytecodeIndex newIndex(Class<?>... classes) throws IOException {
+        BytecodeIndex index = new BytecodeIndex();
+        for (Class<?> clazz : classes) {
+            try (InputStream in = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+                assertEquals(clazz.getName(), index.index(in));
+            }
+        }
+        return index;
+    }
+
+    @ApplicationScoped
+    static class Foo implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Inject
+        @Named("bar")
+        Object bar;
+
+        @Inject
+        Foo(@Named("baz") Object baz) {
+        }
+
+    }
+
+    @Vetoed
+    static class Bar extends Foo {
+
+        private static final long serialVersionUID = 1L;
+
+        Bar(String name) {
+            super(name);
+        }
+
+    }
+
+    interface Baz {
+
+        @Produces
+        @Dependent
+        default String name() {
+            return "baz";
+        }
+
+    }
+
+    class Inner {
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bean.proxy.PregeneratedProxies;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.logging.WeldSELogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * Generates client proxies and intercepted subclasses ahead of time. The generator boots Weld SE against the deployment found on
+ * the class path, forces the creation of a client proxy for every normal scoped bean and writes all the generated classes,
+ * together with the {@value PregeneratedProxies#INDEX} index, into the given output directory. The index also holds the fingerprint of
+ * the types each class was generated for. Something like:
+ * <code>
+ * java -cp weld-se-shaded.jar:my-app.jar org.jboss.weld.environment.se.ProxyGenerator target/classes
+ * </code>
+ *
+ * <p>
+ * When the output directory is packaged with the application, Weld loads the pre-generated classes instead of generating them
+ * during bootstrap. Classes whose fingerprint does not match, e.g. because the bean class changed since the generator was run, are
+ * never loaded and are generated at runtime as usual. The generator should be re-run whenever the bean classes or the deployment
+ * change.
+ * </p>
+ *
+ * <p>
+ * Proxies of built-in beans and of types from the {@code java.*} packages are placed in Weld's own packages and are therefore
+ * never pre-generated.
+ * </p>
+ */
+@Vetoed
+public class ProxyGenerator {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final String WELD_PACKAGE_PREFIX = "org.jboss.weld.";
+
+    private final Path outputDirectory;
+
+    private final Weld weld;
+
+    public ProxyGenerator(Path outputDirectory) {
+        this(outputDirectory, new Weld());
+    }
+
+    public ProxyGenerator(Path outputDirectory, Weld weld) {
+        this.outputDirectory = outputDirectory;
+        this.weld = weld;
+    }
+
+    /**
+     * Boots the container, generates the proxy classes and writes them to the output directory.
+     *
+     * @return the names of the generated classes
+     * @throws IOException if the classes or the index cannot be written
+     */
+    public Set<String> generate() throws IOException {
+        // Classes generated previously would be loaded instead of generating them again
+        deletePreviousClasses();
+        Path dumpDirectory = Files.createTempDirectory("weld-proxies");
+        try {
+            PregeneratedProxies pregeneratedProxies = PregeneratedProxies.recording();
+            weld.property(ConfigurationKey.PROXY_DUMP.get(), dumpDirectory.toString());
+            weld.addServices(pregeneratedProxies);
+            try (WeldContainer container = weld.initialize()) {
+                createClientProxies(container.getId());
+            }
+            return writeClasses(dumpDirectory, pregeneratedProxies.getRecordedFingerprints());
+        } finally {
+            deleteDirectory(dumpDirectory);
+        }
+    }
+
+    private void deletePreviousClasses() throws IOException {
+        Path index = outputDirectory.resolve(PregeneratedProxies.INDEX);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String className = line.split("\\s+")[0];
+                Files.deleteIfExists(outputDirectory.resolve(className.replace('.', '/') + CLASS_SUFFIX));
+            }
+        }
+        Files.delete(index);
+    }
+
+    private void createClientProxies(String containerId) {
+        // Intercepted subclasses and decorator proxies are generated during bootstrap, client proxies are created lazily
+        for (BeanManagerImpl manager : Container.instance(containerId).beanDeploymentArchives().values()) {
+            for (Bean<?> bean : manager.getBeans()) {
+                if (!manager.isNormalScope(bean.getScope())) {
+                    continue;
+                }
+                try {
+                    CreationalContext<?> ctx = manager.createCreationalContext(bean);
+                    manager.getReference(bean, null, ctx, false);
+                } catch (RuntimeException e) {
+                    WeldSELogger.LOG.unableToPregenerateClientProxy(bean, e);
+                }
+            }
+        }
+    }
+
+    private Set<String> writeClasses(Path dumpDirectory, Map<String, String> fingerprints) throws IOException {
+        Set<String> classNames = new TreeSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dumpDirectory, "*" + CLASS_SUFFIX)) {
+            for (Path classFile : stream) {
+                String fileName = classFile.getFileName().toString();
+                String className = fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+                if (className.startsWith(WELD_PACKAGE_PREFIX)) {
+                    continue;
+                }
+                if (!fingerprints.containsKey(className)) {
+                    // A class which cannot be verified would never be loaded
+                    WeldSELogger.LOG.proxyClassWithoutFingerprint(className);
+                    continue;
+                }
+                Path target = outputDirectory.resolve(className.replace('.', '/') + CLASS_SUFFIX);
+                Files.createDirectories(target.getParent());
+                Files.copy(classFile, target, StandardCopyOption.REPLACE_EXISTING);
+                classNames.add(className);
+            }
+        }
+        Path index = outputDirectory.resolve(PregeneratedProxies.INDEX);
+        Files.createDirectories(index.getParent());
+        try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            writer.write("# Generated by " + ProxyGenerator.class.getName() + System.lineSeparator());
+            for (String className : classNames) {
+                writer.write(className);
+                writer.write(' ');
+                writer.write(fingerprints.get(className));
+                writer.write(System.lineSeparator());
+            }
+        }
+        return classNames;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * The main method called from the command line.
+     *
+     * @param args the output directory
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            WeldSELogger.LOG.proxyGeneratorUsage(ProxyGenerator.class.getName());
+            System.exit(1);
+        }
+        try {
+            Set<String> classNames = new ProxyGenerator(Paths.get(args[0])).generate();
+            WeldSELogger.LOG.proxyClassesGenerated(classNames.size(), args[0]);
+        } catch (Throwable t) {
+            WeldSELogger.LOG.proxyGenerationFailed(t);
+            System.exit(1);
+        }
+    }
+
+}
@@ -30,6 +30,8 @@ import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -78,8 +81,13 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.WeldDeployment;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryCache;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
+import org.jboss.weld.environment.deployment.discovery.ReflectionDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.bytecode.BytecodeClassFileServices;
+import org.jboss.weld.environment.deployment.discovery.bytecode.BytecodeDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.bytecode.BytecodeIndex;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.ContainerLifecycleObserver.ContainerLifecycleObserverExtension;
@@ -89,6 +97,8 @@ import org.jboss.weld.environment.util.BeanArchives;
 import org.jboss.weld.environment.util.DevelopmentMode;
 import org.jboss.weld.environment.util.Files;
 import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.executor.CommonForkJoinPoolExecutorServices;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.metadata.BeansXmlImpl;
 import org.jboss.weld.resources.ClassLoaderResourceLoader;
 import org.jboss.weld.resources.spi.ClassFileServices;
@@ -206,6 +216,21 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      */
     public static final String SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY = "org.jboss.weld.se.scan.classpath.entries";
 
+    /**
+     * By default, Weld scans the class path on every initialization. If set to a file path, the bean archives found during discovery are stored in the
+     * given file and restored on subsequent initializations as long as the class path and the bean archives visible to the resource loader do not
+     * change. See also {@link DiscoveryCache}.
+     * <p>
+     * This key can be also used through {@link #property(String, Object)}.
+     */
+    public static final String DISCOVERY_CACHE_SYSTEM_PROPERTY = "org.jboss.weld.se.discovery.cache";
+
+    /**
+     * The suffix of the file the {@link BytecodeIndex} is stored in if both the {@link #DISCOVERY_CACHE_SYSTEM_PROPERTY} and the
+     * {@link BytecodeDiscoveryStrategy#ENABLE_BYTECODE_DISCOVERY_STRATEGY} are set. The file is created next to the discovery cache.
+     */
+    static final String BYTECODE_INDEX_FILE_SUFFIX = ".index";
+
     /**
      * See also the CDI specification, section <b>15.1 Bean archive in Java SE</b>.
      */
@@ -947,15 +972,58 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             .build();
 
         if (discoveryEnabled) {
+            boolean bytecodeStrategyEnabled = isEnabled(BytecodeDiscoveryStrategy.ENABLE_BYTECODE_DISCOVERY_STRATEGY, false);
+            DiscoveryCache discoveryCache = null;
+            Path bytecodeIndexFile = null;
+            String fingerprint = null;
+            Set<WeldBeanDeploymentArchive> cachedArchives = null;
             DiscoveryStrategy strategy = DiscoveryStrategyFactory.create(resourceLoader, bootstrap,
-                   beanDefiningAnnotations, isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false));
-            if (isImplicitScanEnabled()) {
-                strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap));
+                    beanDefiningAnnotations, isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false), bytecodeStrategyEnabled);
+            String discoveryCacheFile = getStringProperty(DISCOVERY_CACHE_SYSTEM_PROPERTY);
+            if (discoveryCacheFile != null && !isDiscoveryCacheSupported(strategy)) {
+                // E.g. the Jandex index backing the ClassFileServices is only built during class path scanning
+                CommonLogger.LOG.debugv("Discovery cache not used - the ClassFileServices of {0} cannot be restored", strategy);
+            } else if (discoveryCacheFile != null) {
+                fingerprint = DiscoveryCache.classPathFingerprint(resourceLoader, getBeanDefiningAnnotationNames(beanDefiningAnnotations),
+                        isImplicitScanEnabled(), isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false), bytecodeStrategyEnabled);
+                if (fingerprint != null) {
+                    discoveryCache = new DiscoveryCache(Paths.get(discoveryCacheFile), bootstrap);
+                    bytecodeIndexFile = Paths.get(discoveryCacheFile + BYTECODE_INDEX_FILE_SUFFIX);
+                    cachedArchives = discoveryCache.load(fingerprint);
+                }
             }
-            beanDeploymentArchives.addAll(strategy.performDiscovery());
-            ClassFileServices classFileServices = strategy.getClassFileServices();
-            if (classFileServices != null) {
-                additionalServices.put(ClassFileServices.class, classFileServices);
+            if (cachedArchives != null) {
+                for (WeldBeanDeploymentArchive archive : cachedArchives) {
+                    archive.getServices().add(ResourceLoader.class, resourceLoader);
+                }
+                beanDeploymentArchives.addAll(cachedArchives);
+                if (bytecodeStrategyEnabled) {
+                    // Class path scanning is skipped but the class file information is still available
+                    BytecodeIndex index = BytecodeIndex.load(bytecodeIndexFile, fingerprint);
+                    if (index != null) {
+                        additionalServices.put(ClassFileServices.class, new BytecodeClassFileServices(index, WeldResourceLoader.getClassLoader()));
+                    }
+                }
+            } else {
+                if (isImplicitScanEnabled()) {
+                    strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap));
+                }
+                ExecutorServices executorServices = (ExecutorServices) additionalServices.get(ExecutorServices.class);
+                if (executorServices == null) {
+                    executorServices = getDefaultDiscoveryExecutorServices();
+                }
+                if (executorServices != null) {
+                    strategy.setExecutorServices(executorServices);
+                }
+                Set<WeldBeanDeploymentArchive> discoveredArchives = strategy.performDiscovery();
+                beanDeploymentArchives.addAll(discoveredArchives);
+                ClassFileServices classFileServices = strategy.getClassFileServices();
+                if (classFileServices != null) {
+                    additionalServices.put(ClassFileServices.class, classFileServices);
+                }
+                if (discoveryCache != null && discoveryCache.store(fingerprint, discoveredArchives) && strategy instanceof BytecodeDiscoveryStrategy) {
+                    ((BytecodeDiscoveryStrategy) strategy).getIndex().store(bytecodeIndexFile, fingerprint);
+                }
             }
         }
 
@@ -1206,6 +1274,45 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         return defaultValue;
     }
 
+    /**
+     * Weld SE uses the common fork/join pool by default. Unless a different thread pool type is configured, the bean archives are also handled
+     * concurrently on this pool.
+     */
+    private ExecutorServices getDefaultDiscoveryExecutorServices() {
+        String threadPoolType = getStringProperty(EXECUTOR_THREAD_POOL_TYPE.get());
+        if ((threadPoolType == null || COMMON.toString().equals(threadPoolType)) && System.getSecurityManager() == null) {
+            return new CommonForkJoinPoolExecutorServices();
+        }
+        return null;
+    }
+
+    private String getStringProperty(String key) {
+        Object value = properties.get(key);
+        if (value != null) {
+            return value.toString();
+        }
+        return AccessController.doPrivileged(new GetSystemPropertyAction(key));
+    }
+
+    /**
+     * The discovery cache only restores the bean archives. A strategy which provides {@link ClassFileServices} built during class path scanning, e.g. the
+     * Jandex strategy, cannot be used with the cache. The bytecode index is restored separately.
+     *
+     * @param strategy
+     * @return <code>true</code> if the bean archives found by the given strategy may be restored from the discovery cache
+     */
+    private static boolean isDiscoveryCacheSupported(DiscoveryStrategy strategy) {
+        return strategy.getClass().equals(ReflectionDiscoveryStrategy.class) || strategy.getClass().equals(BytecodeDiscoveryStrategy.class);
+    }
+
+    private static Set<String> getBeanDefiningAnnotationNames(Set<Class<? extends Annotation>> beanDefiningAnnotations) {
+        Set<String> names = new TreeSet<>();
+        for (Class<? extends Annotation> annotation : beanDefiningAnnotations) {
+            names.add(annotation.getName());
+        }
+        return names;
+    }
+
     protected Object getPropertyValue(String key, Object defaultValue) {
         Object value = properties.get(key);
         if (value != null) {
@@ -2,6 +2,7 @@ package org.jboss.weld.environment.se.logging;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -81,4 +82,24 @@ public interface WeldSELogger extends WeldEnvironmentLogger {
 
     @Message(id = 2016, value = "Zero or more than one container is running - WeldContainer.current() cannot determine the current container.", format = Format.MESSAGE_FORMAT)
     IllegalStateException zeroOrMoreThanOneContainerRunning();
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 2017, value = "Unable to pre-generate the client proxy for {0}", format = Format.MESSAGE_FORMAT)
+    void unableToPregenerateClientProxy(Object bean, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 2018, value = "No fingerprint recorded for the generated class {0}, the class is not pre-generated", format = Format.MESSAGE_FORMAT)
+    void proxyClassWithoutFingerprint(Object className);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 2019, value = "{0} pre-generated proxy classes written to {1}", format = Format.MESSAGE_FORMAT)
+    void proxyClassesGenerated(Object count, Object outputDirectory);
+
+    @LogMessage(level = Level.ERROR)
+    @Message(id = 2020, value = "Usage: {0} <output-directory>", format = Format.MESSAGE_FORMAT)
+    void proxyGeneratorUsage(Object generatorClassName);
+
+    @LogMessage(level = Level.ERROR)
+    @Message(id = 2021, value = "Proxy generation failed with an exception")
+    void proxyGenerationFailed(@Cause Throwable cause);
 }
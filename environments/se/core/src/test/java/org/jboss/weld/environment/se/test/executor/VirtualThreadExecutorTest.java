@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.executor.VirtualThreadExecutorServices;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.junit.Test;
+
+/**
+ * Verifies that asynchronous observers are notified on virtual threads if <code>org.jboss.weld.executor.threadPoolType=VIRTUAL</code> and the runtime supports
+ * virtual threads.
+ */
+public class VirtualThreadExecutorTest {
+
+    @Test
+    public void testAsyncObserversNotifiedOnVirtualThreads() throws Exception {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(BlockingObserver.class)
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), ThreadPoolType.VIRTUAL.toString()).initialize()) {
+            ExecutorServices executorServices = container.select(BeanManagerImpl.class).get().getServices().get(ExecutorServices.class);
+            if (!VirtualThreadExecutorServices.isSupported()) {
+                assertTrue(executorServices instanceof FixedThreadPoolExecutorServices);
+                return;
+            }
+            assertTrue(executorServices instanceof VirtualThreadExecutorServices);
+            Event<StringBuilder> event = container.select(new TypeLiteral<Event<StringBuilder>>() {
+            }).get();
+            List<CompletableFuture<StringBuilder>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                CompletionStage<StringBuilder> stage = event.fireAsync(new StringBuilder());
+                futures.add(stage.toCompletableFuture());
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<StringBuilder> future : futures) {
+                // Virtual threads created by the per-task executor have no name
+                assertEquals("", future.get().toString());
+            }
+        }
+    }
+
+}
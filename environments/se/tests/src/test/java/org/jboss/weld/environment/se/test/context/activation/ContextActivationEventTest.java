@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.activation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.contexts.ContextSnapshot;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.jfr.FlightRecorder;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests that the context activation event is only emitted when the state of the context actually changes. The test runs in a separate JVM, i.e. the
+ * shared recorder is created when Weld is started.
+ */
+@RunWith(Arquillian.class)
+public class ContextActivationEventTest {
+
+    static {
+        System.setProperty(FlightRecorder.ENABLED_SYSTEM_PROPERTY, "true");
+    }
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ContextActivationEventTest.class))
+                        .addClasses(ContextActivationEventTest.class))
+                .build();
+    }
+
+    @Test
+    public void testActivationEvents() throws IOException, InterruptedException, ExecutionException {
+        try (WeldContainer container = new Weld().initialize()) {
+            Assume.assumeTrue("JDK Flight Recorder not supported", FlightRecorder.instance().isEnabled());
+            BoundRequestContext requestContext = container.select(BoundRequestContext.class).get();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Path dump = Files.createTempFile("weld", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("org.jboss.weld.ContextActivation");
+                recording.start();
+
+                Map<String, Object> storage = new HashMap<>();
+                requestContext.associate(storage);
+                // Not active yet
+                requestContext.deactivate();
+                requestContext.activate();
+                ContextSnapshot snapshot = ContextSnapshot.capture(BeanManagerProxy.unwrap(container.getBeanManager()));
+                // Activated and deactivated on another thread
+                executor.submit(snapshot.wrap(() -> {
+                })).get();
+                // Already active
+                snapshot.wrap(() -> {
+                }).run();
+                requestContext.deactivate();
+                requestContext.dissociate(storage);
+
+                recording.stop();
+                recording.dump(dump);
+                Map<Long, List<Boolean>> eventsByThread = new LinkedHashMap<>();
+                for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                    if (RequestScoped.class.getName().equals(event.getClass("scope").getName())) {
+                        eventsByThread.computeIfAbsent(event.getThread().getJavaThreadId(), id -> new ArrayList<>()).add(event.getBoolean("activated"));
+                    }
+                }
+                Assert.assertEquals(eventsByThread.toString(), 2, eventsByThread.size());
+                for (List<Boolean> events : eventsByThread.values()) {
+                    Assert.assertEquals(Arrays.asList(true, false), events);
+                }
+            } finally {
+                executor.shutdownNow();
+                Files.deleteIfExists(dump);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.requestScope.indexed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.AbstractUnboundContext;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that the request contexts store the instances of request scoped beans in the {@link IndexedBeanStore} if enabled.
+ */
+@RunWith(Arquillian.class)
+public class IndexedBeanStoreTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(IndexedBeanStoreTest.class))
+                        .addClasses(IndexedBeanStoreTest.class, Counter.class))
+                .build();
+    }
+
+    @Test
+    public void testIndex() {
+        try (WeldContainer container = startContainer()) {
+            BeanManagerImpl beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+            RequestBeanIdentifierIndex index = beanManager.getServices().get(RequestBeanIdentifierIndex.class);
+            assertTrue(index.isBuilt());
+            assertNotNull(index.getIndex(getIdentifier(beanManager)));
+            // The index used for serialization is not affected
+            assertNull(beanManager.getServices().get(BeanIdentifierIndex.class).getIndex(getIdentifier(beanManager)));
+        }
+    }
+
+    @Test
+    public void testRequestContext() throws Exception {
+        try (WeldContainer container = startContainer()) {
+            BeanManagerImpl beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+            RequestContext requestContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            requestContext.activate();
+            try {
+                assertEquals(1, container.select(Counter.class).get().increment());
+                Method getBeanStore = AbstractUnboundContext.class.getDeclaredMethod("getBeanStore");
+                getBeanStore.setAccessible(true);
+                assertInstanceStored((BeanStore) getBeanStore.invoke(requestContext), getIdentifier(beanManager));
+            } finally {
+                requestContext.invalidate();
+                requestContext.deactivate();
+            }
+        }
+    }
+
+    @Test
+    public void testBoundRequestContext() {
+        try (WeldContainer container = startContainer()) {
+            BeanManagerImpl beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+            BoundRequestContext requestContext = container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+            Map<String, Object> storage = new HashMap<>();
+            requestContext.associate(storage);
+            requestContext.activate();
+            try {
+                assertEquals(1, container.select(Counter.class).get().increment());
+                // The whole bean store is kept under a single key
+                assertEquals(1, storage.size());
+                assertInstanceStored((BeanStore) storage.values().iterator().next(), getIdentifier(beanManager));
+            } finally {
+                requestContext.invalidate();
+                requestContext.deactivate();
+                requestContext.dissociate(storage);
+            }
+        }
+    }
+
+    private static WeldContainer startContainer() {
+        return new Weld().property(ConfigurationKey.CONTEXT_REQUEST_INDEXED_BEAN_STORE.get(), true).initialize();
+    }
+
+    private static BeanIdentifier getIdentifier(BeanManagerImpl beanManager) {
+        return ((CommonBean<?>) beanManager.resolve(beanManager.getBeans(Counter.class))).getIdentifier();
+    }
+
+    private static void assertInstanceStored(BeanStore beanStore, BeanIdentifier identifier) {
+        assertTrue(beanStore instanceof IndexedBeanStore);
+        // An identifier contained in the index is always stored in the array
+        ContextualInstance<Counter> instance = beanStore.get(identifier);
+        assertNotNull(instance);
+        assertEquals(2, instance.getInstance().increment());
+    }
+
+}
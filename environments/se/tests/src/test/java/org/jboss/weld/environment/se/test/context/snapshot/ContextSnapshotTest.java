@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.ContextSnapshot;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that a {@link ContextSnapshot} taken on one thread can be restored on another thread.
+ */
+@RunWith(Arquillian.class)
+public class ContextSnapshotTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ContextSnapshotTest.class))
+                        .addClasses(ContextSnapshotTest.class, TrackedBean.class, CapturedBean.class, WorkerBean.class))
+                .build();
+    }
+
+    @Before
+    public void reset() {
+        TrackedBean.DESTROYED.clear();
+    }
+
+    @Test
+    public void testSnapshotRestoredOnWorkerThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (WeldContainer container = new Weld().initialize()) {
+            BoundRequestContext requestContext = container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+            CapturedBean captured = container.select(CapturedBean.class).get();
+            WorkerBean worker = container.select(WorkerBean.class).get();
+
+            Map<String, Object> storage = new HashMap<>();
+            requestContext.associate(storage);
+            requestContext.activate();
+            try {
+                int capturedId = captured.getId();
+                ContextSnapshot snapshot = ContextSnapshot.capture(BeanManagerProxy.unwrap(container.getBeanManager()));
+                assertFalse(snapshot.isEmpty());
+
+                // The worker thread has its own request in progress
+                Map<String, Object> workerStorage = new HashMap<>();
+                int workerCapturedId = executor.submit(() -> {
+                    requestContext.associate(workerStorage);
+                    requestContext.activate();
+                    return captured.getId();
+                }).get();
+                assertNotEquals(capturedId, workerCapturedId);
+
+                int[] ids = executor.submit(snapshot.wrap(() -> new int[] { captured.getId(), worker.getId() })).get();
+                // The instance created on the capturing thread is shared
+                assertEquals(capturedId, ids[0]);
+                // The instance created on the worker thread is destroyed when the handle is closed
+                assertEquals(Collections.singletonList(ids[1]), TrackedBean.DESTROYED);
+
+                // The previous state and association of the worker thread are restored
+                assertEquals(workerCapturedId, executor.submit(() -> {
+                    assertTrue(requestContext.isActive());
+                    return captured.getId();
+                }).get().intValue());
+                executor.submit(() -> {
+                    requestContext.invalidate();
+                    requestContext.deactivate();
+                    requestContext.dissociate(workerStorage);
+                }).get();
+                assertEquals(2, TrackedBean.DESTROYED.size());
+                assertTrue(TrackedBean.DESTROYED.contains(workerCapturedId));
+
+                // The original request is not affected
+                assertEquals(capturedId, captured.getId());
+                assertNotEquals(ids[1], worker.getId());
+            } finally {
+                requestContext.invalidate();
+                requestContext.deactivate();
+                requestContext.dissociate(storage);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testContextInactiveAfterRestoredSnapshotClosed() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (WeldContainer container = new Weld().initialize()) {
+            RequestContext requestContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            CapturedBean captured = container.select(CapturedBean.class).get();
+            WorkerBean worker = container.select(WorkerBean.class).get();
+
+            requestContext.activate();
+            try {
+                int capturedId = captured.getId();
+                ContextSnapshot snapshot = ContextSnapshot.capture(BeanManagerProxy.unwrap(container.getBeanManager()));
+
+                int workerId = executor.submit(() -> {
+                    // No request is in progress on the worker thread
+                    assertFalse(requestContext.isActive());
+                    try (ContextSnapshot.Restored restored = snapshot.restore()) {
+                        assertTrue(requestContext.isActive());
+                        assertEquals(capturedId, captured.getId());
+                        return worker.getId();
+                    } finally {
+                        assertFalse(requestContext.isActive());
+                    }
+                }).get();
+                assertEquals(Collections.singletonList(workerId), TrackedBean.DESTROYED);
+                assertEquals(capturedId, captured.getId());
+            } finally {
+                requestContext.invalidate();
+                requestContext.deactivate();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.deployment.errors.archives;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that a deployment problem is reported no matter which bean archive the invalid bean belongs to.
+ */
+@RunWith(Arquillian.class)
+public class MultipleArchivesValidationTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, "valid.jar").addClasses(MultipleArchivesValidationTest.class, Foo.class, Bar.class))
+                .add(ShrinkWrap.create(BeanArchive.class, "invalid.jar").addClasses(Baz.class, Missing.class)).build();
+    }
+
+    @Test
+    public void testConcurrentValidation() {
+        assertUnsatisfiedDependency(true);
+    }
+
+    @Test
+    public void testSerialValidation() {
+        assertUnsatisfiedDependency(false);
+    }
+
+    private void assertUnsatisfiedDependency(boolean concurrentDeployment) {
+        try {
+            new Weld().property(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), concurrentDeployment).initialize();
+            Assert.fail("The deployment should have failed!");
+        } catch (DeploymentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("WELD-001408"));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(Missing.class.getSimpleName()));
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean;
+
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * Common superclass of the bean identifiers created by Weld. An identifier remembers its position in the {@link RequestBeanIdentifierIndex} so that the
+ * {@link IndexedBeanStore} does not need to look it up on every access.
+ */
+public abstract class AbstractBeanIdentifier implements BeanIdentifier {
+
+    private static final long serialVersionUID = 1L;
+
+    // The position plus one so that zero, the default value of a deserialized identifier, means the position is not known
+    private transient int requestIndexPosition;
+
+    /**
+     *
+     * @return the position in the {@link RequestBeanIdentifierIndex} or -1 if the identifier is not indexed
+     */
+    public int getRequestIndexPosition() {
+        return requestIndexPosition - 1;
+    }
+
+    /**
+     * This method is only supposed to be called when the {@link RequestBeanIdentifierIndex} is built.
+     *
+     * @param position
+     */
+    public void setRequestIndexPosition(int position) {
+        this.requestIndexPosition = position + 1;
+    }
+
+}
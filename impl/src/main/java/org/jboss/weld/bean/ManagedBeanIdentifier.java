@@ -19,7 +19,7 @@ package org.jboss.weld.bean;
 import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
-public class ManagedBeanIdentifier implements BeanIdentifier {
+public class ManagedBeanIdentifier extends AbstractBeanIdentifier {
 
     private static final long serialVersionUID = -2549776947566879012L;
 
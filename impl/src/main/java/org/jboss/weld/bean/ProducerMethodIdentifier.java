@@ -21,7 +21,7 @@ import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.util.reflection.DeclaredMemberIndexer;
 
-public class ProducerMethodIdentifier implements BeanIdentifier {
+public class ProducerMethodIdentifier extends AbstractBeanIdentifier {
 
     private static final long serialVersionUID = 1L;
 
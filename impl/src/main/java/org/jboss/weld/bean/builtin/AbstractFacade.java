@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Set;
 
 import jakarta.enterprise.context.spi.CreationalContext;
@@ -96,6 +97,51 @@ public abstract class AbstractFacade<T, X> {
         return hashCode;
     }
 
+    /**
+     * The arguments of a {@code select()} method, used as a key of a cache of child facades. Qualifiers are compared in the given order.
+     */
+    protected static final class SelectionKey {
+
+        private final Type type;
+
+        private final Annotation[] qualifiers;
+
+        private final int hashCode;
+
+        public SelectionKey(Type type, Annotation[] qualifiers) {
+            this.type = type;
+            // The array may be reused by the caller
+            this.qualifiers = qualifiers != null && qualifiers.length > 0 ? qualifiers.clone() : qualifiers;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(qualifiers);
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Annotation[] getQualifiers() {
+            return qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) obj;
+            return hashCode == that.hashCode && type.equals(that.type) && Arrays.equals(qualifiers, that.qualifiers);
+        }
+
+    }
+
     // Serialization
 
     protected static class AbstractFacadeSerializationProxy<T, X> implements Serializable {
@@ -57,6 +57,8 @@ import org.jboss.weld.resolution.TypeSafeBeanResolver;
 import org.jboss.weld.util.AnnotationApiAbstraction;
 import org.jboss.weld.util.InjectionPoints;
 import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.WeldCollections;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.Reflections;
@@ -74,8 +76,14 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
 
     private static final long serialVersionUID = -376721889693284887L;
 
+    // The maximum number of child instances created by select() which are reused
+    private static final long SELECT_CACHE_SIZE = 16;
+
     private final transient Set<Bean<?>> allBeans;
     private final transient Bean<?> bean;
+    // The version of the bean resolver at the time the beans were resolved
+    private final transient long resolverVersion;
+    private final transient LazyValueHolder<ComputingCache<SelectionKey, InstanceImpl<?>>> children;
 
     private final transient CurrentInjectionPoint currentInjectionPoint;
     private final transient InjectionPoint ip;
@@ -88,6 +96,7 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
     private InstanceImpl(InjectionPoint injectionPoint, CreationalContext<? super T> creationalContext, BeanManagerImpl beanManager) {
         super(injectionPoint, creationalContext, beanManager);
 
+        this.resolverVersion = beanManager.getBeanResolver().getVersion();
         if (injectionPoint.getQualifiers().isEmpty() && Object.class.equals(getType())) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             allBeans = null;
@@ -107,6 +116,7 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
         // qualifiers and type
         this.ip = new DynamicLookupInjectionPoint(getInjectionPoint(), getType(), getQualifiers());
         this.ejbSupport = beanManager.getServices().get(EjbSupport.class);
+        this.children = LazyValueHolder.forSupplier(() -> ComputingCacheBuilder.newBuilder().setMaxSize(SELECT_CACHE_SIZE).build(this::createChild));
     }
 
     public T get() {
@@ -161,11 +171,31 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
     }
 
     private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
-        InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Instance.class, subtype, getQualifiers(),
-                newQualifiers);
+        SelectionKey key = new SelectionKey(subtype, newQualifiers);
+        if (!Reflections.isCacheable(newQualifiers)) {
+            // Do not hold a reference to a qualifier which is an instance of a non-static inner class
+            return this.<U> createChild(key);
+        }
+        ComputingCache<SelectionKey, InstanceImpl<?>> cache = children.get();
+        InstanceImpl<?> child = cache.getValue(key);
+        if (child.isStale()) {
+            // The beans have changed since the children were created
+            cache.clear();
+            child = cache.getValue(key);
+        }
+        return cast(child);
+    }
+
+    private <U extends T> InstanceImpl<U> createChild(SelectionKey key) {
+        InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Instance.class, key.getType(), getQualifiers(),
+                key.getQualifiers());
         return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
     }
 
+    private boolean isStale() {
+        return resolverVersion != getBeanManager().getBeanResolver().getVersion();
+    }
+
     @Override
     public void destroy(T instance) {
         checkNotNull(instance);
@@ -247,6 +277,10 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
     }
 
     private T getBeanInstance(Bean<?> bean) {
+        if (getBeanManager().isProxyRequired(bean)) {
+            // The shared client proxy does not depend on the current injection point
+            return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext(), false));
+        }
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.pushConditionally(ip, isRegisterableInjectionPoint());
         try {
             return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext(), false));
@@ -6,6 +6,7 @@ import java.lang.reflect.Method;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.util.reflection.MethodInvoker;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -95,8 +96,7 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements StackA
                 }
             }
         }
-        SecurityActions.ensureAccessible(proceed);
-        return Reflections.invokeAndUnwrap(self, proceed, args);
+        return MethodInvoker.forMethod(proceed).invokeAndUnwrap(self, args);
     }
 
     public InterceptorMethodHandler getInterceptorMethodHandler() {
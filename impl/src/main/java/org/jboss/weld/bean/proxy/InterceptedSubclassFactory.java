@@ -27,8 +27,11 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.security.AccessController;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.enterprise.inject.spi.Bean;
@@ -97,6 +100,21 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         this.proxiedBeanType = proxiedBeanType;
     }
 
+    @Override
+    PregeneratedProxies.Fingerprint createFingerprint(Class<?> originalClass) {
+        // Interceptor bindings may be added by an extension, i.e. the intercepted methods do not follow from the bean class
+        return super.createFingerprint(originalClass).add(sortedSignatures(enhancedMethodSignatures)).add(sortedSignatures(interceptedMethodSignatures));
+    }
+
+    private static List<String> sortedSignatures(Set<MethodSignature> signatures) {
+        List<String> sorted = new ArrayList<>(signatures.size());
+        for (MethodSignature signature : signatures) {
+            sorted.add(signature.toString());
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
     @Override
     public void addInterfacesFromTypeClosure(Set<? extends Type> typeClosure, Class<?> proxiedBeanType) {
         // these interfaces we want to scan for method and our proxies will implement them
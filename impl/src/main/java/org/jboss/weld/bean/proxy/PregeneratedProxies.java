@@ -0,0 +1,309 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.security.GetDeclaredMethodsAction;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * Holds the names of proxy classes and intercepted subclasses that were generated ahead of time and packaged together with
+ * the application. Each archive may contain an index file ({@value #INDEX}) listing the pre-generated classes, one per line.
+ * Each line consists of the fully qualified name of the class and the fingerprint of the types the class was generated for,
+ * separated by a whitespace. Empty lines and lines starting with {@code #} are ignored.
+ *
+ * <p>
+ * {@link ProxyFactory#getProxyClass()} consults this service before generating a proxy class. If the class is listed and its
+ * fingerprint matches the current proxied types, it is loaded from the class loader of the proxied bean class and no bytecode is
+ * generated. If the fingerprint does not match, e.g. because the bean class changed since the class was generated, the
+ * pre-generated class is never loaded and Weld generates the proxy class at runtime instead.
+ * </p>
+ *
+ * <p>
+ * The index and the class files are usually produced by running the Weld SE {@code ProxyGenerator} against the deployment. The
+ * generator registers an instance created by {@link #recording()}, which collects the fingerprints of all the proxy classes
+ * generated by the container.
+ * </p>
+ */
+public class PregeneratedProxies implements Service {
+
+    public static final String INDEX = "META-INF/org.jboss.weld.proxies";
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    // Proxy class name -> fingerprint
+    private final Map<String, String> fingerprints;
+
+    // Pre-generated classes which do not match the current proxied types
+    private final Set<String> staleProxyClassNames;
+
+    // Only used by the generator
+    private final Map<String, String> recordedFingerprints;
+
+    public PregeneratedProxies(ResourceLoader resourceLoader) {
+        this(readIndex(resourceLoader), null);
+    }
+
+    private PregeneratedProxies(Map<String, String> fingerprints, Map<String, String> recordedFingerprints) {
+        this.fingerprints = fingerprints;
+        this.staleProxyClassNames = fingerprints.isEmpty() ? Collections.emptySet() : ConcurrentHashMap.newKeySet();
+        this.recordedFingerprints = recordedFingerprints;
+    }
+
+    /**
+     * The returned instance does not load any pre-generated class. Instead, it records the fingerprints of all the proxy classes
+     * generated at runtime.
+     *
+     * @return a new instance used to generate proxy classes ahead of time
+     * @see #getRecordedFingerprints()
+     */
+    public static PregeneratedProxies recording() {
+        return new PregeneratedProxies(Collections.emptyMap(), new ConcurrentHashMap<>());
+    }
+
+    /**
+     *
+     * @param proxyClassName
+     * @return <code>true</code> if the given proxy class is listed in a pre-generated proxy index, <code>false</code> otherwise
+     */
+    public boolean contains(String proxyClassName) {
+        return fingerprints.containsKey(proxyClassName);
+    }
+
+    /**
+     * Loads the pre-generated proxy class with the given name. The class is only loaded if it was generated for the same proxied
+     * types.
+     *
+     * @param originalClass the bean class the proxy is created for
+     * @param proxyClassName the name of the proxy class
+     * @param fingerprint the fingerprint of the current proxied types
+     * @return the pre-generated proxy class or <code>null</code> if no such class is available
+     */
+    Class<?> loadProxyClass(Class<?> originalClass, String proxyClassName, Fingerprint fingerprint) {
+        String expected = fingerprints.get(proxyClassName);
+        if (expected == null || staleProxyClassNames.contains(proxyClassName)) {
+            return null;
+        }
+        if (!expected.equals(fingerprint.get())) {
+            staleProxyClassNames.add(proxyClassName);
+            BeanLogger.LOG.stalePregeneratedProxyClass(proxyClassName, originalClass);
+            return null;
+        }
+        final ClassLoader classLoader = getClassLoader(originalClass);
+        if (classLoader == null) {
+            return null;
+        }
+        try {
+            Class<?> proxyClass = Class.forName(proxyClassName, false, classLoader);
+            BeanLogger.LOG.loadedPregeneratedProxyClass(proxyClassName);
+            return proxyClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            BeanLogger.LOG.unableToLoadPregeneratedProxyClass(proxyClassName, e);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if fingerprints of generated proxy classes should be recorded
+     * @see #recording()
+     */
+    boolean isRecording() {
+        return recordedFingerprints != null;
+    }
+
+    void recordFingerprint(String proxyClassName, Fingerprint fingerprint) {
+        recordedFingerprints.put(proxyClassName, fingerprint.get());
+    }
+
+    /**
+     *
+     * @return the fingerprints of the proxy classes generated at runtime, keyed by the class name
+     * @throws IllegalStateException if this instance is not {@link #recording()}
+     */
+    public Map<String, String> getRecordedFingerprints() {
+        if (recordedFingerprints == null) {
+            throw new IllegalStateException("Fingerprints are not recorded");
+        }
+        return ImmutableMap.copyOf(recordedFingerprints);
+    }
+
+    public boolean isEmpty() {
+        return fingerprints.isEmpty();
+    }
+
+    @Override
+    public void cleanup() {
+        // Pre-generated proxies may be requested at any time during the application lifecycle
+    }
+
+    private static ClassLoader getClassLoader(final Class<?> clazz) {
+        if (System.getSecurityManager() == null) {
+            return clazz.getClassLoader();
+        }
+        return AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
+            @Override
+            public ClassLoader run() {
+                return clazz.getClassLoader();
+            }
+        });
+    }
+
+    private static Map<String, String> readIndex(ResourceLoader resourceLoader) {
+        Map<String, String> fingerprints = null;
+        for (URL url : resourceLoader.getResources(INDEX)) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] parts = line.split("\\s+");
+                    if (parts.length != 2) {
+                        // No fingerprint - the class cannot be verified
+                        BeanLogger.LOG.invalidPregeneratedProxyIndexEntry(line, url);
+                        continue;
+                    }
+                    if (fingerprints == null) {
+                        fingerprints = new HashMap<>();
+                    }
+                    fingerprints.put(parts[0], parts[1]);
+                }
+            } catch (IOException e) {
+                BeanLogger.LOG.unableToReadPregeneratedProxyIndex(url, e);
+            }
+        }
+        return fingerprints == null ? Collections.emptyMap() : ImmutableMap.copyOf(fingerprints);
+    }
+
+    /**
+     * The fingerprint of the types a proxy class is generated for. It is computed from the signatures of the methods declared by
+     * the proxied types and all their supertypes, together with any additional data which affects the generated bytecode. The
+     * version of Weld is always included. The value is computed lazily and only once.
+     */
+    static final class Fingerprint {
+
+        private final Set<Class<?>> types;
+
+        private final List<String> data;
+
+        private String value;
+
+        Fingerprint() {
+            this.types = new HashSet<>();
+            this.data = new ArrayList<>();
+            this.data.add(String.valueOf(PregeneratedProxies.class.getPackage().getImplementationVersion()));
+        }
+
+        /**
+         * Adds the given type and all its supertypes.
+         *
+         * @param type
+         * @return self
+         */
+        Fingerprint addType(Class<?> type) {
+            if (type != null && types.add(type)) {
+                addType(type.getSuperclass());
+                for (Class<?> interfaceClass : type.getInterfaces()) {
+                    addType(interfaceClass);
+                }
+            }
+            return this;
+        }
+
+        Fingerprint add(Object value) {
+            data.add(String.valueOf(value));
+            return this;
+        }
+
+        synchronized String get() {
+            if (value == null) {
+                value = compute();
+            }
+            return value;
+        }
+
+        private String compute() {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            for (String item : data) {
+                update(digest, item);
+            }
+            List<Class<?>> sortedTypes = new ArrayList<>(types);
+            sortedTypes.sort(Comparator.comparing(Class::getName));
+            for (Class<?> type : sortedTypes) {
+                update(digest, type.getName());
+                update(digest, Integer.toString(type.getModifiers()));
+                List<String> methods = new ArrayList<>();
+                for (Method method : getDeclaredMethods(type)) {
+                    methods.add(method.toGenericString());
+                }
+                Collections.sort(methods);
+                for (String method : methods) {
+                    update(digest, method);
+                }
+            }
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+                builder.append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        }
+
+        private static void update(MessageDigest digest, String value) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        private static Method[] getDeclaredMethods(Class<?> type) {
+            if (System.getSecurityManager() == null) {
+                return type.getDeclaredMethods();
+            }
+            return AccessController.doPrivileged(new GetDeclaredMethodsAction(type));
+        }
+
+    }
+
+}
@@ -69,6 +69,7 @@ import org.jboss.weld.serialization.spi.ProxyServices;
 import org.jboss.weld.util.Proxies;
 import org.jboss.weld.util.Proxies.TypeInfo;
 import org.jboss.weld.util.bytecode.BytecodeUtils;
+import org.jboss.weld.util.bytecode.ClassDefiner;
 import org.jboss.weld.util.bytecode.ClassFileUtils;
 import org.jboss.weld.util.bytecode.ConstructorUtils;
 import org.jboss.weld.util.bytecode.DeferredBytecode;
@@ -76,6 +77,7 @@ import org.jboss.weld.util.bytecode.MethodInformation;
 import org.jboss.weld.util.bytecode.RuntimeMethodInformation;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.Sets;
+import org.jboss.weld.util.jfr.FlightRecorder;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -102,6 +104,7 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
     private final Class<?> proxiedBeanType;
     private final String contextId;
     private final ProxyServices proxyServices;
+    private final PregeneratedProxies pregeneratedProxies;
 
     private final WeldConfiguration configuration;
 
@@ -183,6 +186,7 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         addDefaultAdditionalInterfaces();
         baseProxyName = proxyName;
         proxyServices = Container.instance(contextId).services().get(ProxyServices.class);
+        pregeneratedProxies = Container.instance(contextId).services().get(PregeneratedProxies.class);
         if (!proxyServices.supportsClassDefining()) {
             if (bean != null) {
                 /*
@@ -361,13 +365,33 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         Class<T> proxyClass = null;
         Class<?> originalClass = bean != null ? bean.getBeanClass() : proxiedBeanType;
         BeanLogger.LOG.generatingProxyClass(proxyClassName);
-        try {
+        if (pregeneratedProxies != null && pregeneratedProxies.contains(proxyClassName)) {
+            // The proxy class may have been generated ahead of time and packaged with the application
+            proxyClass = cast(pregeneratedProxies.loadProxyClass(originalClass, proxyClassName, createFingerprint(originalClass)));
+            if (proxyClass != null) {
+                return proxyClass;
+            }
+        } else {
             // First check to see if we already have this proxy class
-            proxyClass = cast(classLoader == null? proxyServices.loadClass(originalClass, proxyClassName) : classLoader.loadClass(proxyClassName));
-        } catch (ClassNotFoundException e) {
+            // A stale pre-generated class must not be loaded from the class path, i.e. this check is skipped for pre-generated classes
+            try {
+                proxyClass = cast(classLoader == null ? proxyServices.loadClass(originalClass, proxyClassName) : classLoader.loadClass(proxyClassName));
+            } catch (ClassNotFoundException e) {
+                // The proxy class does not exist yet
+            }
+        }
+        if (proxyClass == null) {
             // Create the proxy class for this instance
+            // Proxy classes are being generated ahead of time - createProxyClass() may modify the additional interfaces
+            PregeneratedProxies.Fingerprint recordedFingerprint = pregeneratedProxies != null && pregeneratedProxies.isRecording()
+                    ? createFingerprint(originalClass)
+                    : null;
+            Object event = FlightRecorder.instance().beginProxyClassGeneration();
             try {
                 proxyClass = createProxyClass(originalClass, proxyClassName);
+                if (recordedFingerprint != null) {
+                    pregeneratedProxies.recordFingerprint(proxyClassName, recordedFingerprint);
+                }
             } catch (Throwable e1) {
                 //attempt to load the class again, just in case another thread
                 //defined it between the check and the create method
@@ -377,11 +401,29 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
                     BeanLogger.LOG.catchingDebug(e1);
                     throw BeanLogger.LOG.unableToLoadProxyClass(bean, proxiedBeanType, e1);
                 }
+            } finally {
+                FlightRecorder.instance().endProxyClassGeneration(event, proxyClassName);
             }
         }
         return proxyClass;
     }
 
+    /**
+     * The fingerprint identifies the types the proxy class is generated for. A pre-generated proxy class is only used if its
+     * fingerprint matches.
+     *
+     * @param originalClass the bean class
+     * @return the fingerprint of the proxy class
+     */
+    PregeneratedProxies.Fingerprint createFingerprint(Class<?> originalClass) {
+        PregeneratedProxies.Fingerprint fingerprint = new PregeneratedProxies.Fingerprint().add(getClass().getName()).addType(originalClass)
+                .addType(getBeanType());
+        for (Class<?> additionalInterface : additionalInterfaces) {
+            fingerprint.addType(additionalInterface);
+        }
+        return fingerprint;
+    }
+
     /**
      * Returns the package and base name for the proxy class.
      *
@@ -463,8 +505,9 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             proxyClassType.addInterface(specialInterface.getName());
         }
 
+        byte[] bytecode = proxyClassType.toBytecode();
         // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        dumpToFile(proxyClassName, bytecode);
 
         ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(proxiedBeanType));
 
@@ -478,7 +521,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         if (classLoader == null) {
             proxyClass = cast(ClassFileUtils.toClass(proxyClassType, originalClass, proxyServices, domain));
         } else {
-            proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
+            ClassDefiner classDefiner = Container.instance(contextId).services().get(ClassDefiner.class);
+            proxyClass = cast(classDefiner.defineClass(originalClass, proxyClassName, bytecode, classLoader, domain));
         }
         BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
         return proxyClass;
@@ -16,9 +16,11 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -26,14 +28,12 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.Decorator;
-import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.enterprise.inject.spi.Producer;
 
 import org.jboss.weld.bean.CommonBean;
 import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.executor.IterativeWorkerTaskFactory;
-import org.jboss.weld.logging.ValidatorLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.module.PlugableValidator;
@@ -98,15 +98,88 @@ public class ConcurrentValidator extends Validator {
     protected void validateObserverMethods(Iterable<ObserverInitializationContext<?, ?>> observers, final BeanManagerImpl beanManager) {
         executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<ObserverInitializationContext<?, ?>>(observers) {
             protected void doWork(ObserverInitializationContext<?, ?> observerMethod) {
-                for (InjectionPoint ip : observerMethod.getObserver().getInjectionPoints()) {
-                    validateInjectionPointForDefinitionErrors(ip, ip.getBean(), beanManager);
-                    validateMetadataInjectionPoint(ip, null, ValidatorLogger.INJECTION_INTO_NON_BEAN);
-                    validateInjectionPointForDeploymentProblems(ip, ip.getBean(), beanManager);
-                }
+                validateObserverMethod(observerMethod, beanManager);
             }
         });
     }
 
+    /**
+     * All the deployments share a single queue of work items for each phase. Idle workers pick up items of any bean archive and so a large bean archive
+     * does not leave the other workers waiting for the next deployment.
+     */
+    @Override
+    public void validateDeployments(Collection<BeanDeployment> deployments) {
+        if (deployments.size() < 2) {
+            super.validateDeployments(deployments);
+            return;
+        }
+        final List<DeploymentItem<Decorator<?>>> decorators = new ArrayList<>();
+        final List<DeploymentItem<Interceptor<?>>> interceptors = new ArrayList<>();
+        final List<DeploymentItem<Bean<?>>> beans = new ArrayList<>();
+        final List<DeploymentItem<ObserverInitializationContext<?, ?>>> observers = new ArrayList<>();
+        for (BeanDeployment deployment : deployments) {
+            BeanManagerImpl manager = deployment.getBeanManager();
+            for (Decorator<?> decorator : manager.getDecorators()) {
+                decorators.add(new DeploymentItem<>(manager, decorator));
+            }
+            for (Interceptor<?> interceptor : manager.getInterceptors()) {
+                interceptors.add(new DeploymentItem<>(manager, interceptor));
+            }
+            for (Bean<?> bean : manager.getBeans()) {
+                beans.add(new DeploymentItem<>(manager, bean));
+            }
+            for (ObserverInitializationContext<?, ?> observer : deployment.getBeanDeployer().getEnvironment().getObservers()) {
+                observers.add(new DeploymentItem<>(manager, observer));
+            }
+        }
+
+        final Map<BeanManagerImpl, Set<CommonBean<?>>> specializedDecorators = new ConcurrentHashMap<>();
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeploymentItem<Decorator<?>>>(decorators) {
+            protected void doWork(DeploymentItem<Decorator<?>> item) {
+                validateDecorator(item.item, specializedDecorators.computeIfAbsent(item.manager, m -> newConcurrentSet()), item.manager);
+            }
+        });
+
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeploymentItem<Interceptor<?>>>(interceptors) {
+            protected void doWork(DeploymentItem<Interceptor<?>> item) {
+                validateInterceptor(item.item, item.manager);
+            }
+        });
+
+        final List<RuntimeException> problems = new CopyOnWriteArrayList<RuntimeException>();
+        final Map<BeanManagerImpl, Set<CommonBean<?>>> specializedBeans = new ConcurrentHashMap<>();
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeploymentItem<Bean<?>>>(beans) {
+            protected void doWork(DeploymentItem<Bean<?>> item) {
+                validateBean(item.item, specializedBeans.computeIfAbsent(item.manager, m -> newConcurrentSet()), item.manager, problems);
+            }
+        });
+        if (!problems.isEmpty()) {
+            if (problems.size() == 1) {
+                throw problems.get(0);
+            } else {
+                throw new DeploymentException(problems);
+            }
+        }
+
+        for (BeanDeployment deployment : deployments) {
+            validateEnablementAndSpecialization(deployment.getBeanManager(), deployment);
+        }
+
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeploymentItem<ObserverInitializationContext<?, ?>>>(observers) {
+            protected void doWork(DeploymentItem<ObserverInitializationContext<?, ?>> item) {
+                validateObserverMethod(item.item, item.manager);
+            }
+        });
+
+        for (BeanDeployment deployment : deployments) {
+            validateBeanNames(deployment.getBeanManager());
+        }
+    }
+
+    private static Set<CommonBean<?>> newConcurrentSet() {
+        return Collections.newSetFromMap(new ConcurrentHashMap<CommonBean<?>, Boolean>());
+    }
+
     @Override
     public void validateBeanNames(final BeanManagerImpl beanManager) {
         final SetMultimap<String, Bean<?>> namedAccessibleBeans = SetMultimap.newConcurrentSetMultimap();
@@ -131,4 +204,17 @@ public class ConcurrentValidator extends Validator {
             }
         });
     }
+
+    private static final class DeploymentItem<T> {
+
+        private final BeanManagerImpl manager;
+
+        private final T item;
+
+        private DeploymentItem(BeanManagerImpl manager, T item) {
+            this.manager = manager;
+            this.item = item;
+        }
+
+    }
 }
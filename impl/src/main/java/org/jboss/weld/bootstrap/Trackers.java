@@ -22,6 +22,7 @@ import java.util.ListIterator;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.util.jfr.FlightRecorder;
 
 /**
  *
@@ -40,7 +41,9 @@ final class Trackers {
     }
 
     static Tracker create() {
-        return BootstrapLogger.TRACKER_LOG.isDebugEnabled() ? new LoggingTracker() : NOOP_INSTANCE;
+        Tracker tracker = BootstrapLogger.TRACKER_LOG.isDebugEnabled() ? new LoggingTracker() : NOOP_INSTANCE;
+        FlightRecorder recorder = FlightRecorder.instance();
+        return recorder.isEnabled() ? new FlightRecorderTracker(tracker, recorder) : tracker;
     }
 
     private static class NoopTracker implements Tracker {
@@ -123,4 +126,67 @@ final class Trackers {
 
     }
 
+    /**
+     * Emits a JDK Flight Recorder event for each operation and delegates to another tracker.
+     */
+    private static class FlightRecorderTracker implements Tracker {
+
+        private final Tracker delegate;
+
+        private final FlightRecorder recorder;
+
+        private final List<Operation> operations;
+
+        FlightRecorderTracker(Tracker delegate, FlightRecorder recorder) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+            this.operations = new LinkedList<>();
+        }
+
+        @Override
+        public Tracker start(String operation) {
+            String name = operations.isEmpty() ? operation : operations.get(operations.size() - 1).name + " > " + operation;
+            operations.add(new Operation(name, recorder.beginBootstrapOperation()));
+            delegate.start(operation);
+            return this;
+        }
+
+        @Override
+        public void split(String info) {
+            delegate.split(info);
+        }
+
+        @Override
+        public Tracker end() {
+            Operation operation = operations.remove(operations.size() - 1);
+            recorder.endBootstrapOperation(operation.token, operation.name);
+            delegate.end();
+            return this;
+        }
+
+        @Override
+        public void close() {
+            for (ListIterator<Operation> iterator = operations.listIterator(operations.size()); iterator.hasPrevious();) {
+                Operation operation = iterator.previous();
+                recorder.endBootstrapOperation(operation.token, operation.name);
+                iterator.remove();
+            }
+            delegate.close();
+        }
+
+        private static class Operation {
+
+            private final String name;
+
+            private final Object token;
+
+            Operation(String name, Object token) {
+                this.name = name;
+                this.token = token;
+            }
+
+        }
+
+    }
+
 }
@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+/**
+ * Records the time spent validating each bean archive, together with the beans which took the longest to validate.
+ *
+ * <p>
+ * All times are in nanoseconds. If validation runs in parallel, the time of a bean archive is the sum of the times spent by all the threads.
+ * </p>
+ *
+ * @see Validator#getReport()
+ */
+public class ValidationReport {
+
+    static final int SLOWEST_BEANS_LIMIT = 20;
+
+    private static final Comparator<BeanValidationTime> BY_TIME = Comparator.comparingLong(BeanValidationTime::getTime);
+
+    private final ConcurrentMap<String, LongAdder> archiveTimes;
+
+    // Min-heap of the slowest beans, guarded by itself
+    private final PriorityQueue<BeanValidationTime> slowestBeans;
+
+    // The time a bean must exceed to get into the slowest beans, allows to skip the lock for most of the beans
+    private volatile long threshold;
+
+    ValidationReport() {
+        this.archiveTimes = new ConcurrentHashMap<>();
+        this.slowestBeans = new PriorityQueue<>(SLOWEST_BEANS_LIMIT + 1, BY_TIME);
+        this.threshold = Long.MIN_VALUE;
+    }
+
+    /**
+     *
+     * @param archiveId the id of the bean archive
+     * @param bean the validated bean or <code>null</code> if the time does not belong to a particular bean
+     * @param time the time in nanoseconds
+     */
+    void record(String archiveId, Bean<?> bean, long time) {
+        archiveTimes.computeIfAbsent(archiveId, id -> new LongAdder()).add(time);
+        if (bean != null && time > threshold) {
+            synchronized (slowestBeans) {
+                if (slowestBeans.size() < SLOWEST_BEANS_LIMIT) {
+                    slowestBeans.add(new BeanValidationTime(archiveId, bean, time));
+                } else if (slowestBeans.peek().getTime() < time) {
+                    slowestBeans.poll();
+                    slowestBeans.add(new BeanValidationTime(archiveId, bean, time));
+                }
+                if (slowestBeans.size() >= SLOWEST_BEANS_LIMIT) {
+                    threshold = slowestBeans.peek().getTime();
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the validation time of each bean archive, keyed by the bean archive id
+     */
+    public Map<String, Long> getArchiveTimes() {
+        Map<String, Long> times = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : archiveTimes.entrySet()) {
+            times.put(entry.getKey(), entry.getValue().sum());
+        }
+        return times;
+    }
+
+    /**
+     *
+     * @return the beans which took the longest to validate, the slowest first
+     */
+    public List<BeanValidationTime> getSlowestBeans() {
+        List<BeanValidationTime> beans;
+        synchronized (slowestBeans) {
+            beans = new ArrayList<>(slowestBeans);
+        }
+        beans.sort(Collections.reverseOrder(BY_TIME));
+        return beans;
+    }
+
+    void clear() {
+        archiveTimes.clear();
+        synchronized (slowestBeans) {
+            slowestBeans.clear();
+            threshold = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport [archiveTimes=" + getArchiveTimes() + "]";
+    }
+
+    /**
+     * The validation time of a single bean.
+     */
+    public static final class BeanValidationTime {
+
+        private final String archiveId;
+
+        private final Bean<?> bean;
+
+        private final long time;
+
+        private BeanValidationTime(String archiveId, Bean<?> bean, long time) {
+            this.archiveId = archiveId;
+            this.bean = bean;
+            this.time = time;
+        }
+
+        public String getArchiveId() {
+            return archiveId;
+        }
+
+        public Bean<?> getBean() {
+            return bean;
+        }
+
+        /**
+         *
+         * @return the time in nanoseconds
+         */
+        public long getTime() {
+            return time;
+        }
+
+    }
+
+}
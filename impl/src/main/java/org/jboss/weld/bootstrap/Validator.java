@@ -30,12 +30,17 @@ import java.lang.reflect.WildcardType;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.NormalScope;
@@ -83,7 +88,7 @@ import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.AbstractDecorableBuiltInBean;
 import org.jboss.weld.bean.builtin.ee.EEResourceProducerField;
 import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
-import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.exceptions.AmbiguousResolutionException;
@@ -127,15 +132,27 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Stuart Douglas
  * @author Ales Justin
  */
-public class Validator implements Service {
+public class Validator implements BootstrapService {
 
     private final Set<PlugableValidator> plugableValidators;
 
+    // Resolved bean -> TRUE if resolved for an injection point which does not belong to a bean, FALSE otherwise
     private final Map<Bean<?>, Boolean> resolvedInjectionPoints;
 
+    // Resolved bean -> beans declaring an injection point the bean is resolved for
+    private final ConcurrentMap<Bean<?>, Set<Bean<?>>> injectionPointBeans;
+
+    // Many injection points share the same type and resolve to the same bean, the proxyability check is only performed once
+    private final ConcurrentMap<InjectionPointDependency, Optional<UnproxyableResolutionException>> unproxyableDependencies;
+
+    private final ValidationReport report;
+
     public Validator(Set<PlugableValidator> plugableValidators, Map<Bean<?>, Boolean> resolvedInjectionPoints) {
         this.plugableValidators = plugableValidators;
         this.resolvedInjectionPoints = resolvedInjectionPoints;
+        this.injectionPointBeans = resolvedInjectionPoints != null ? new ConcurrentHashMap<>() : null;
+        this.unproxyableDependencies = new ConcurrentHashMap<>();
+        this.report = new ValidationReport();
     }
 
     protected void validateGeneralBean(Bean<?> bean, BeanManagerImpl beanManager) {
@@ -394,7 +411,7 @@ public class Validator implements Service {
         if (!resolvedBeans.isEmpty()) {
             Bean<?> resolvedBean = (Bean<?>) resolvedBeans.iterator().next();
             if (beanManager.isNormalScope(resolvedBean.getScope())) {
-                UnproxyableResolutionException ue = Proxies.getUnproxyableTypeException(ij.getType(), resolvedBean, beanManager.getServices(), false);
+                UnproxyableResolutionException ue = getUnproxyableDependencyException(ij.getType(), resolvedBean, beanManager);
                 if (ue != null) {
                     throw ValidatorLogger.LOG.injectionPointHasNonProxyableDependencies(ij, Formats.formatAsStackTraceElement(ij), ue);
                 }
@@ -408,12 +425,23 @@ public class Validator implements Service {
             validator.validateInjectionPointForDeploymentProblems(ij, bean, beanManager);
         }
 
-        if (resolvedInjectionPoints != null) {
+        if (resolvedInjectionPoints != null && !resolvedBeans.isEmpty()) {
             // Store result to identify unused beans
-            resolvedInjectionPoints.put(resolvedBeans.iterator().next(), Boolean.TRUE);
+            Bean<?> resolvedBean = (Bean<?>) resolvedBeans.iterator().next();
+            if (bean == null) {
+                resolvedInjectionPoints.put(resolvedBean, Boolean.TRUE);
+            } else {
+                resolvedInjectionPoints.putIfAbsent(resolvedBean, Boolean.FALSE);
+                injectionPointBeans.computeIfAbsent(resolvedBean, b -> Collections.newSetFromMap(new ConcurrentHashMap<Bean<?>, Boolean>())).add(bean);
+            }
         }
     }
 
+    private UnproxyableResolutionException getUnproxyableDependencyException(Type type, Bean<?> resolvedBean, BeanManagerImpl beanManager) {
+        return unproxyableDependencies.computeIfAbsent(new InjectionPointDependency(type, resolvedBean),
+                key -> Optional.ofNullable(Proxies.getUnproxyableTypeException(type, resolvedBean, beanManager.getServices(), false))).orElse(null);
+    }
+
     public void validateProducers(Collection<Producer<?>> producers, BeanManagerImpl beanManager) {
         for (Producer<?> producer : producers) {
             validateProducer(producer, beanManager);
@@ -485,16 +513,37 @@ public class Validator implements Service {
         validateDecorators(manager.getDecorators(), manager);
         validateInterceptors(manager.getInterceptors(), manager);
         validateBeans(manager.getBeans(), manager);
-        validateEnabledDecoratorClasses(manager, deployment);
-        validateEnabledInterceptorClasses(manager, deployment);
-        validateEnabledAlternativeStereotypes(manager, deployment);
-        validateEnabledAlternativeClasses(manager, deployment);
-        validateSpecialization(manager);
-        validateDisposalMethods(deployment.getBeanDeployer().getEnvironment());
+        validateEnablementAndSpecialization(manager, deployment);
         validateObserverMethods(deployment.getBeanDeployer().getEnvironment().getObservers(), manager);
         validateBeanNames(manager);
     }
 
+    /**
+     * Validates the given deployments. The result is the same as if {@link #validateDeployment(BeanManagerImpl, BeanDeployment)} was called for each
+     * deployment.
+     *
+     * @param deployments
+     */
+    public void validateDeployments(Collection<BeanDeployment> deployments) {
+        for (BeanDeployment deployment : deployments) {
+            validateDeployment(deployment.getBeanManager(), deployment);
+        }
+    }
+
+    protected void validateEnablementAndSpecialization(BeanManagerImpl manager, BeanDeployment deployment) {
+        final long start = System.nanoTime();
+        try {
+            validateEnabledDecoratorClasses(manager, deployment);
+            validateEnabledInterceptorClasses(manager, deployment);
+            validateEnabledAlternativeStereotypes(manager, deployment);
+            validateEnabledAlternativeClasses(manager, deployment);
+            validateSpecialization(manager);
+            validateDisposalMethods(deployment.getBeanDeployer().getEnvironment());
+        } finally {
+            report.record(manager.getId(), null, System.nanoTime() - start);
+        }
+    }
+
     public void validateSpecialization(BeanManagerImpl manager) {
         SpecializationAndEnablementRegistry registry = manager.getServices().get(SpecializationAndEnablementRegistry.class);
         for (Entry<AbstractBean<?, ?>, Long> entry : registry.getBeansSpecializedInAnyDeploymentAsMap().entrySet()) {
@@ -521,6 +570,7 @@ public class Validator implements Service {
     }
 
     protected void validateBean(Bean<?> bean, Collection<CommonBean<?>> specializedBeans, BeanManagerImpl manager, List<RuntimeException> problems) {
+        final long start = System.nanoTime();
         try {
             if (bean instanceof CommonBean<?>) {
                 validateRIBean((CommonBean<?>) bean, manager, specializedBeans);
@@ -529,6 +579,8 @@ public class Validator implements Service {
             }
         } catch (RuntimeException e) {
             problems.add(e);
+        } finally {
+            report.record(manager.getId(), bean, System.nanoTime() - start);
         }
     }
 
@@ -539,6 +591,15 @@ public class Validator implements Service {
     }
 
     protected void validateInterceptor(Interceptor<?> interceptor, BeanManagerImpl manager) {
+        final long start = System.nanoTime();
+        try {
+            reallyValidateInterceptor(interceptor, manager);
+        } finally {
+            report.record(manager.getId(), interceptor, System.nanoTime() - start);
+        }
+    }
+
+    private void reallyValidateInterceptor(Interceptor<?> interceptor, BeanManagerImpl manager) {
         if (interceptor instanceof InterceptorImpl<?>) {
             EnhancedAnnotatedType<?> annotated = ((InterceptorImpl<?>) interceptor).getEnhancedAnnotated();
             if (!BeanMethods.getObserverMethods(annotated).isEmpty() || !BeanMethods.getAsyncObserverMethods(annotated).isEmpty()) {
@@ -573,6 +634,15 @@ public class Validator implements Service {
     }
 
     protected void validateDecorator(Decorator<?> decorator, Collection<CommonBean<?>> specializedBeans, BeanManagerImpl manager) {
+        final long start = System.nanoTime();
+        try {
+            reallyValidateDecorator(decorator, specializedBeans, manager);
+        } finally {
+            report.record(manager.getId(), decorator, System.nanoTime() - start);
+        }
+    }
+
+    private void reallyValidateDecorator(Decorator<?> decorator, Collection<CommonBean<?>> specializedBeans, BeanManagerImpl manager) {
 
         if (decorator.getDecoratedTypes().isEmpty()) {
             throw ValidatorLogger.LOG.noDecoratedTypes(decorator);
@@ -793,11 +863,20 @@ public class Validator implements Service {
 
     protected void validateObserverMethods(Iterable<ObserverInitializationContext<?, ?>> observers, BeanManagerImpl beanManager) {
         for (ObserverInitializationContext<?, ?> omi : observers) {
-            for (InjectionPoint ip : omi.getObserver().getInjectionPoints()) {
+            validateObserverMethod(omi, beanManager);
+        }
+    }
+
+    protected void validateObserverMethod(ObserverInitializationContext<?, ?> observer, BeanManagerImpl beanManager) {
+        final long start = System.nanoTime();
+        try {
+            for (InjectionPoint ip : observer.getObserver().getInjectionPoints()) {
                 validateInjectionPointForDefinitionErrors(ip, ip.getBean(), beanManager);
                 validateMetadataInjectionPoint(ip, null, ValidatorLogger.INJECTION_INTO_NON_BEAN);
                 validateInjectionPointForDeploymentProblems(ip, ip.getBean(), beanManager);
             }
+        } finally {
+            report.record(beanManager.getId(), null, System.nanoTime() - start);
         }
     }
 
@@ -993,8 +1072,23 @@ public class Validator implements Service {
         }
     }
 
+    /**
+     *
+     * @return the report of validation times
+     */
+    public ValidationReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        unproxyableDependencies.clear();
+    }
+
     @Override
     public void cleanup() {
+        unproxyableDependencies.clear();
+        report.clear();
     }
 
     // This covers beans, producers, disposers and observers injection points
@@ -1002,10 +1096,70 @@ public class Validator implements Service {
         return resolvedInjectionPoints != null ? resolvedInjectionPoints.containsKey(bean) : false;
     }
 
+    /**
+     *
+     * @param bean
+     * @return <code>true</code> if the bean is resolved for an injection point which does not belong to a bean, e.g. an injection point of a Java EE
+     *         component
+     */
+    public boolean isResolvedForNonContextual(Bean<?> bean) {
+        return resolvedInjectionPoints != null ? Boolean.TRUE.equals(resolvedInjectionPoints.get(bean)) : false;
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the beans declaring an injection point the given bean is resolved for
+     */
+    public Set<Bean<?>> getInjectionPointBeans(Bean<?> bean) {
+        if (injectionPointBeans == null) {
+            return Collections.emptySet();
+        }
+        Set<Bean<?>> beans = injectionPointBeans.get(bean);
+        return beans != null ? Collections.unmodifiableSet(beans) : Collections.emptySet();
+    }
+
     public void clearResolved() {
         if (resolvedInjectionPoints != null) {
             resolvedInjectionPoints.clear();
+            injectionPointBeans.clear();
         }
     }
 
+    /**
+     * The type of an injection point and the bean it resolves to.
+     */
+    private static final class InjectionPointDependency {
+
+        private final Type type;
+
+        private final Bean<?> bean;
+
+        private final int hashCode;
+
+        InjectionPointDependency(Type type, Bean<?> bean) {
+            this.type = type;
+            this.bean = bean;
+            this.hashCode = Objects.hash(type, bean);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InjectionPointDependency)) {
+                return false;
+            }
+            InjectionPointDependency that = (InjectionPointDependency) obj;
+            return type.equals(that.type) && bean.equals(that.bean);
+        }
+
+    }
+
 }
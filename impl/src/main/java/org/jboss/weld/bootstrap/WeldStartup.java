@@ -20,6 +20,7 @@ import static org.jboss.weld.config.ConfigurationKey.ROLLING_UPGRADES_ID_DELIMIT
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -53,6 +54,7 @@ import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
+import org.jboss.weld.bean.proxy.PregeneratedProxies;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
@@ -86,9 +88,11 @@ import org.jboss.weld.context.bound.BoundLiteral;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
 import org.jboss.weld.contexts.bound.BoundConversationContextImpl;
 import org.jboss.weld.contexts.bound.BoundRequestContextImpl;
 import org.jboss.weld.contexts.bound.BoundSessionContextImpl;
+import org.jboss.weld.contexts.conversation.ConversationStatistics;
 import org.jboss.weld.contexts.unbound.ApplicationContextImpl;
 import org.jboss.weld.contexts.unbound.DependentContextImpl;
 import org.jboss.weld.contexts.unbound.RequestContextImpl;
@@ -129,6 +133,7 @@ import org.jboss.weld.servlet.spi.helpers.AcceptingHttpContextActivationFilter;
 import org.jboss.weld.transaction.spi.TransactionServices;
 import org.jboss.weld.util.Bindings;
 import org.jboss.weld.util.Permissions;
+import org.jboss.weld.util.bytecode.ClassDefiner;
 import org.jboss.weld.util.bytecode.ClassFileUtils;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.Iterables;
@@ -301,6 +306,9 @@ public class WeldStartup {
             beanIdentifierIndex = new BeanIdentifierIndex();
             services.add(BeanIdentifierIndex.class, beanIdentifierIndex);
         }
+        if (configuration.getBooleanProperty(ConfigurationKey.CONTEXT_REQUEST_INDEXED_BEAN_STORE)) {
+            services.add(RequestBeanIdentifierIndex.class, new RequestBeanIdentifierIndex());
+        }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
@@ -326,8 +334,13 @@ public class WeldStartup {
             services.add(HttpContextActivationFilter.class, AcceptingHttpContextActivationFilter.INSTANCE);
         }
         services.add(ProtectionDomainCache.class, new ProtectionDomainCache());
+        services.add(ConversationStatistics.class, new ConversationStatistics());
+        if (!services.contains(PregeneratedProxies.class)) {
+            services.add(PregeneratedProxies.class, new PregeneratedProxies(services.get(ResourceLoader.class)));
+        }
 
         services.add(ProxyInstantiator.class, ProxyInstantiator.Factory.create(configuration));
+        services.add(ClassDefiner.class, ClassDefiner.Factory.create(configuration));
 
         services.add(ObserverNotifierFactory.class, DefaultObserverNotifierFactory.INSTANCE);
 
@@ -490,11 +503,13 @@ public class WeldStartup {
         BootstrapLogger.LOG.validatingBeans();
         tracker.start(Tracker.OP_VALIDATE_BEANS);
         try {
-            for (BeanDeployment beanDeployment : getBeanDeployments()) {
-                BeanManagerImpl beanManager = beanDeployment.getBeanManager();
-                beanManager.getBeanResolver().clear();
-                deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
-                beanManager.getServices().get(InjectionTargetService.class).validate();
+            Collection<BeanDeployment> beanDeployments = getBeanDeployments();
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                beanDeployment.getBeanManager().getBeanResolver().clear();
+            }
+            deployment.getServices().get(Validator.class).validateDeployments(beanDeployments);
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).validate();
             }
         } catch (Exception e) {
             validationFailed(e);
@@ -507,7 +522,12 @@ public class WeldStartup {
         final BeanIdentifierIndex index = deploymentManager.getServices().get(BeanIdentifierIndex.class);
         if (index != null) {
             // Build a special index of bean identifiers
-            index.build(getBeansForBeanIdentifierIndex());
+            index.build(getBeansForBeanIdentifierIndex(SessionScoped.class, ConversationScoped.class));
+        }
+        final RequestBeanIdentifierIndex requestIndex = deploymentManager.getServices().get(RequestBeanIdentifierIndex.class);
+        if (requestIndex != null) {
+            // Build an index of request scoped beans used by the request contexts
+            requestIndex.build(getBeansForBeanIdentifierIndex(RequestScoped.class));
         }
 
         // feed BeanDeploymentModule registry
@@ -628,8 +648,8 @@ public class WeldStartup {
         contexts.add(new ContextHolder<SingletonContext>(new SingletonContextImpl(contextId), SingletonContext.class, unboundQualifiers));
         contexts.add(new ContextHolder<BoundSessionContext>(new BoundSessionContextImpl(contextId, beanIdentifierIndex), BoundSessionContext.class, boundQualifires));
         contexts.add(new ContextHolder<BoundConversationContext>(new BoundConversationContextImpl(contextId, services), BoundConversationContext.class, boundQualifires));
-        contexts.add(new ContextHolder<BoundRequestContext>(new BoundRequestContextImpl(contextId), BoundRequestContext.class, boundQualifires));
-        contexts.add(new ContextHolder<RequestContext>(new RequestContextImpl(contextId), RequestContext.class, unboundQualifiers));
+        contexts.add(new ContextHolder<BoundRequestContext>(new BoundRequestContextImpl(contextId, services), BoundRequestContext.class, boundQualifires));
+        contexts.add(new ContextHolder<RequestContext>(new RequestContextImpl(contextId, services), RequestContext.class, unboundQualifiers));
         contexts.add(new ContextHolder<DependentContext>(new DependentContextImpl(services.get(ContextualStore.class)), DependentContext.class, unboundQualifiers));
 
         services.get(WeldModules.class).postContextRegistration(contextId, services, contexts);
@@ -670,16 +690,17 @@ public class WeldStartup {
     }
 
     /**
-     * Right now, only session and conversation scoped beans (except for built-in beans) are taken into account.
+     * Built-in beans are never taken into account.
      *
-     * @return the set of beans the index should be built from
+     * @param scopes
+     * @return the set of beans with one of the given scopes the index should be built from
      */
-    private Set<Bean<?>> getBeansForBeanIdentifierIndex() {
+    private Set<Bean<?>> getBeansForBeanIdentifierIndex(Class<?>... scopes) {
+        List<Class<?>> scopeList = Arrays.asList(scopes);
         Set<Bean<?>> beans = new HashSet<Bean<?>>();
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
             for (Bean<?> bean : beanDeployment.getBeanManager().getBeans()) {
-                if (!(bean instanceof AbstractBuiltInBean<?>)
-                        && (bean.getScope().equals(SessionScoped.class) || bean.getScope().equals(ConversationScoped.class))) {
+                if (!(bean instanceof AbstractBuiltInBean<?>) && scopeList.contains(bean.getScope())) {
                     beans.add(bean);
                 }
             }
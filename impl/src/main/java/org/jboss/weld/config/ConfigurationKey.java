@@ -81,9 +81,9 @@ public enum ConfigurationKey {
     EXECUTOR_THREAD_POOL_DEBUG("org.jboss.weld.executor.threadPoolDebug", false),
 
     /**
-     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON.
+     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON, VIRTUAL.
      */
-    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li>")
+    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li><li><code>VIRTUAL</code> - A new virtual thread is started for each task. Requires JDK 21 or newer.</li>")
     EXECUTOR_THREAD_POOL_TYPE("org.jboss.weld.executor.threadPoolType", ""),
 
     /**
@@ -121,6 +121,13 @@ public enum ConfigurationKey {
      */
     PROXY_INSTANTIATOR("org.jboss.weld.proxy.instantiator", ""),
 
+    /**
+     * Allows {@link org.jboss.weld.util.bytecode.ClassDefiner} to be selected explicitly. The definer is only used if the integrator does not support class
+     * defining through {@link org.jboss.weld.serialization.spi.ProxyServices}.
+     */
+    @Description("Allows to select the mechanism used to define client proxy and enhanced subclass classes if the integrator does not support class defining through <code>ProxyServices</code>. The value is a fully qualified name of a <code>org.jboss.weld.util.bytecode.ClassDefiner</code> implementation. By default, <code>ClassLoader.defineClass()</code> is invoked reflectively. <code>org.jboss.weld.util.bytecode.LookupClassDefiner</code> uses <code>MethodHandles.Lookup.defineClass()</code> on Java 9+ whenever the generated class shares the package, class loader and protection domain with the original class.")
+    PROXY_CLASS_DEFINER("org.jboss.weld.proxy.classDefiner", ""),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable
      * JVM APIs.
@@ -264,6 +271,32 @@ public enum ConfigurationKey {
     @Description("If a non-empty string and development mode is enabled, the Probe data will be automatically exported after deployment validation. The value represents a path of the directory where to export the data file.")
     PROBE_EXPORT_DATA_AFTER_DEPLOYMENT("org.jboss.weld.probe.exportDataAfterDeployment", ""),
 
+    /**
+     * The maximum number of invocation trees kept by Probe. Once the limit is exceeded, the oldest invocation trees are overwritten. If set to 0, no invocation trees are
+     * recorded.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - the maximum number of invocation trees kept by Probe. Once the limit is exceeded, the oldest invocation trees are overwritten. If set to 0, no invocation trees are recorded.")
+    PROBE_INVOCATION_MONITOR_LIMIT("org.jboss.weld.probe.invocationMonitor.limit", 5000),
+
+    /**
+     * If set to a number greater than 1, only every n-th invocation tree (on average) is recorded by Probe.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - if set to a number greater than 1, only every n-th invocation tree (on average) is recorded by Probe.")
+    PROBE_INVOCATION_MONITOR_SAMPLING("org.jboss.weld.probe.invocationMonitor.sampling", 1),
+
+    /**
+     * The maximum number of events kept by Probe. Once the limit is exceeded, the oldest events are overwritten. If set to 0, no events are
+     * recorded.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - the maximum number of events kept by Probe. Once the limit is exceeded, the oldest events are overwritten. If set to 0, no events are recorded.")
+    PROBE_EVENT_MONITOR_LIMIT("org.jboss.weld.probe.eventMonitor.limit", 5000),
+
+    /**
+     * If set to a number greater than 1, only every n-th event (on average) is recorded by Probe.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - if set to a number greater than 1, only every n-th event (on average) is recorded by Probe.")
+    PROBE_EVENT_MONITOR_SAMPLING("org.jboss.weld.probe.eventMonitor.sampling", 1),
+
     /**
      * If set to <code>true</code>:
      * <ul>
@@ -322,6 +355,15 @@ public enum ConfigurationKey {
      */
     UNUSED_BEANS_EXCLUDE_ANNOTATION("org.jboss.weld.bootstrap.unusedBeans.excludeAnnotation", "javax\\.ws\\.rs.*"),
 
+    /**
+     * If set to true and unused beans are removed (see {@link #UNUSED_BEANS_EXCLUDE_TYPE}), a bean which is only injected into unused beans of the same bean
+     * archive is also considered <strong>unused</strong>. In other words, the injection points of unused beans do not keep their dependencies.
+     *
+     * @see #UNUSED_BEANS_EXCLUDE_TYPE
+     */
+    @Description("If set to true and unused beans are removed, a bean which is only injected into unused beans of the same bean archive is also considered unused.")
+    UNUSED_BEANS_REACHABILITY("org.jboss.weld.bootstrap.unusedBeans.reachability", false),
+
     /**
      * If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session
      * the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.
@@ -329,6 +371,21 @@ public enum ConfigurationKey {
     @Description("If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.")
     RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS("org.jboss.weld.context.resetHttpSessionAttributeOnBeanAccess", false),
 
+    /**
+     * If set to true, equal events fired within the same transaction notify each transactional observer method only once. Two events are equal if their
+     * payloads are equal and they have the same qualifiers. Only applies if deferred notifications of a transaction are collected by a single
+     * synchronization.
+     */
+    @Description("If set to true, equal events fired within the same transaction notify each transactional observer method only once.")
+    TRANSACTIONAL_EVENTS_COALESCE("org.jboss.weld.event.transactional.coalesce", false),
+
+    /**
+     * If set to true, the unbound and bound request contexts store contextual instances in an array indexed by the position of a bean identifier in an
+     * index of all request scoped beans, see {@link org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex}.
+     */
+    @Description("If set to true, the unbound and bound request contexts store contextual instances in an array indexed by the position of a bean identifier in an index of all request scoped beans.")
+    CONTEXT_REQUEST_INDEXED_BEAN_STORE("org.jboss.weld.context.request.indexedBeanStore", false),
+
     ;
 
     /**
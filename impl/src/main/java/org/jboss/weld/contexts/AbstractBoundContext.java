@@ -64,6 +64,12 @@ public abstract class AbstractBoundContext<S> extends AbstractManagedContext imp
         }
     }
 
+    @Override
+    protected void restoreBeanStore(BeanStore beanStore) {
+        // The bean store is always captured from a bound context
+        setBeanStore((BoundBeanStore) beanStore);
+    }
+
     @Override
     public void cleanup() {
         super.cleanup();
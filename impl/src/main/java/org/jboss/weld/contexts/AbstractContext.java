@@ -32,6 +32,7 @@ import org.jboss.weld.logging.ContextLogger;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.jfr.FlightRecorder;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -93,7 +94,9 @@ public abstract class AbstractContext implements AlterableContext {
                         return beanInstance.getInstance();
                     }
                 }
+                Object event = FlightRecorder.instance().beginBeanInstantiation();
                 T instance = contextual.create(creationalContext);
+                FlightRecorder.instance().endBeanInstantiation(event, contextual);
                 if (instance != null) {
                     beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
                     beanStore.put(id, beanInstance);
@@ -149,6 +152,15 @@ public abstract class AbstractContext implements AlterableContext {
         if (beanStore == null) {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
         }
+        destroyInstances(beanStore);
+    }
+
+    /**
+     * Destroys all the contextual instances held by the given bean store and clears the bean store.
+     *
+     * @param beanStore
+     */
+    protected void destroyInstances(BeanStore beanStore) {
         for (BeanIdentifier id : beanStore) {
             destroyContextualInstance(beanStore.get(id));
         }
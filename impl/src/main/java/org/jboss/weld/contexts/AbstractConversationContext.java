@@ -48,6 +48,8 @@ import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.conversation.ConversationIdGenerator;
 import org.jboss.weld.contexts.conversation.ConversationImpl;
+import org.jboss.weld.contexts.conversation.ConversationRegistry;
+import org.jboss.weld.contexts.conversation.ConversationStatistics;
 import org.jboss.weld.event.FastEvent;
 import org.jboss.weld.logging.ConversationLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -82,6 +84,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     private final BeanManagerImpl manager;
 
     private final BeanIdentifierIndex beanIdentifierIndex;
+    private final ConversationStatistics statistics;
     private final LazyValueHolder<FastEvent<String>> conversationBeforeDestroyedEvent = new LazyValueHolder<FastEvent<String>>() {
         @Override
         protected FastEvent<String> computeValue() {
@@ -104,6 +107,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.associated = new ThreadLocal<R>();
         this.manager = Container.instance(contextId).deploymentManager();
         this.beanIdentifierIndex = services.get(BeanIdentifierIndex.class);
+        this.statistics = services.get(ConversationStatistics.class);
         this.resetHttpSessionAttributeOnBeanAccess = configuration.getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
     }
 
@@ -162,6 +166,21 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
+    @Override
+    protected Object captureAssociation() {
+        return associated.get();
+    }
+
+    @Override
+    protected void restoreAssociation(Object association) {
+        if (association == null) {
+            associated.remove();
+        } else {
+            R request = cast(association);
+            associated.set(request);
+        }
+    }
+
     protected void copyConversationIdGeneratorAndConversationsToSession() {
         final R request = getRequest();
         if (request == null) {
@@ -279,7 +298,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                                 .getId());
 
                         getBeanStore().attach();
-                        getConversationMap().put(getCurrentConversation().getId(), getCurrentConversation());
+                        registerConversation(getCurrentConversation());
+                    } else if (!getCurrentConversation().isTransient()) {
+                        getConversationMap().scheduleExpiration(getCurrentConversation().getId(), getCurrentConversation());
                     }
                 }
             } finally {
@@ -299,21 +320,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private void cleanUpConversationMap() {
         ManagedConversation currentConversation = getCurrentConversation();
-        Map<String, ManagedConversation> conversations = getConversationMap();
-        Map<String, ManagedConversation> toClear = new HashMap<>();
-        S session = getSessionFromRequest(getRequest(), false);
-        // while synced, extract a map of conversations that we'll need to clean up, already removing them from map
-        synchronized (conversations) {
-            Iterator<Entry<String, ManagedConversation>> entryIterator = conversations.entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                Entry<String, ManagedConversation> entry = entryIterator.next();
-                if (entry.getValue().isTransient()) {
-                    toClear.put(entry.getKey(), entry.getValue());
-                    entryIterator.remove();
-                }
-            }
+        // extract a map of conversations that we'll need to clean up, already removing them from the registry
+        Map<String, ManagedConversation> toClear = getConversationMap().drainEnded();
+        if (toClear.isEmpty()) {
+            return;
         }
-        // let the lock go, now destroy the conversation contexts, this will trigger locking on session
+        statistics.conversationsDestroyed(toClear.size());
+        S session = getSessionFromRequest(getRequest(), false);
+        // now destroy the conversation contexts, this will trigger locking on session
         Iterator<Entry<String, ManagedConversation>> toClearIterator = toClear.entrySet().iterator();
         while (toClearIterator.hasNext()) {
             Entry<String, ManagedConversation> entry = toClearIterator.next();
@@ -325,24 +339,43 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     }
 
     public void conversationPromotedToLongRunning(ConversationImpl conversation) {
-        getConversationMap().put(conversation.getId(), conversation);
+        registerConversation(conversation);
+    }
+
+    /**
+     * Called when a long-running conversation was ended, i.e. it is transient now and should be destroyed at the end of the request.
+     *
+     * @param id the id of the conversation
+     */
+    public void conversationEnded(String id) {
+        if (isAssociated()) {
+            getConversationMap().conversationEnded(id);
+        }
+    }
+
+    private void registerConversation(ManagedConversation conversation) {
+        if (getConversationMap().register(conversation.getId(), conversation)) {
+            statistics.conversationStarted();
+        }
     }
 
     @Override
     public void invalidate() {
         ManagedConversation currentConversation = getCurrentConversation();
-        Map<String, ManagedConversation> conversations = getConversationMap();
-        synchronized (conversations) {
-            for (Entry<String, ManagedConversation> stringManagedConversationEntry : conversations.entrySet()) {
-                ManagedConversation conversation = stringManagedConversationEntry.getValue();
-                if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)) {
-                    // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
-                    if (!conversation.lock(0)) {
-                        ConversationLogger.LOG.endLockedConversation(conversation.getId());
-                    }
-                    conversation.end();
-                }
+        ConversationRegistry conversations = getConversationMap();
+        // Only the conversations whose deadline is due are inspected
+        for (ManagedConversation conversation : conversations.pollExpired(System.currentTimeMillis())) {
+            if (currentConversation.equals(conversation)) {
+                // The current conversation is touched when the context is deactivated
+                conversations.scheduleExpiration(conversation.getId(), conversation);
+                continue;
+            }
+            // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
+            if (!conversation.lock(0)) {
+                ConversationLogger.LOG.endLockedConversation(conversation.getId());
             }
+            conversation.end();
+            statistics.conversationExpired();
         }
     }
 
@@ -361,16 +394,20 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 synchronized (conversations) {
                     if (!conversations.isEmpty()) {
                         // There are some conversations to destroy
-                        setActive(true);
+                        setActiveInternally(true);
                         if (beanStore == null) {
                             // There is no request associated - destroy conversation contexts immediately
                             for (Entry<String, ManagedConversation> entry : conversations.entrySet()) {
                                 destroyConversation(session, entry.getKey(), true);
                             }
+                            statistics.conversationsDestroyed(conversations.size());
                         } else {
                             // All conversation contexts created during the current session should be destroyed after the servlet service() completes
                             // However, at that time the session will not be available - store all remaining contextual instances in the request
                             setDestructionQueue(conversations, session);
+                            statistics.conversationsDestroyed(conversations.size());
+                            // The conversations must not be destroyed and counted again when the context is deactivated
+                            conversations.clear();
                         }
                     }
                 }
@@ -378,7 +415,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             return true;
         } finally {
             setBeanStore(beanStore);
-            setActive(active);
+            setActiveInternally(active);
             if (beanStore != null) {
                 beanStore.attach();
             } else if (!active) {
@@ -460,16 +497,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     @Override
     public ManagedConversation getConversation(String id) {
-        return getConversationMap().get(id);
+        return id != null ? getConversationMap().get(id) : null;
     }
 
     @Override
     public Collection<ManagedConversation> getConversations() {
         // Don't return the map view to avoid concurrency issues
-        Map<String, ManagedConversation> conversations = getConversationMap();
-        synchronized (conversations) {
-            return new HashSet<ManagedConversation>(conversations.values());
-        }
+        return new HashSet<ManagedConversation>(getConversationMap().values());
     }
 
     private void checkIsAssociated() {
@@ -478,7 +512,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
-    private synchronized Map<String, ManagedConversation> getConversationMap() {
+    private synchronized ConversationRegistry getConversationMap() {
         checkIsAssociated();
         checkContextInitialized();
         final R request = getRequest();
@@ -486,7 +520,12 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         if (conversationMap == null) {
             conversationMap = getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false);
             if (conversationMap == null) {
-                conversationMap = Collections.synchronizedMap(new HashMap<String, ManagedConversation>());
+                conversationMap = new ConversationRegistry();
+                setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap);
+                setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap, false);
+            } else if (!(conversationMap instanceof ConversationRegistry) && conversationMap instanceof Map) {
+                // The session holds a plain conversation map, e.g. stored by a previous version
+                conversationMap = ConversationRegistry.of(cast(conversationMap));
                 setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap);
                 setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap, false);
             } else if (resetHttpSessionAttributeOnBeanAccess) {
@@ -496,10 +535,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap);
             }
         }
-        if (conversationMap == null || !(conversationMap instanceof Map)) {
+        if (!(conversationMap instanceof ConversationRegistry)) {
             throw ConversationLogger.LOG.unableToLoadConversations(CONVERSATIONS_ATTRIBUTE_NAME, conversationMap, request);
         }
-        return cast(conversationMap);
+        return (ConversationRegistry) conversationMap;
     }
 
     @Override
@@ -17,7 +17,13 @@
 package org.jboss.weld.contexts;
 
 import org.jboss.weld.context.ManagedContext;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.CopyOnWriteBeanStore;
+import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
 import org.jboss.weld.logging.ContextLogger;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.jfr.FlightRecorder;
 
 /**
  *
@@ -38,6 +44,20 @@ public abstract class AbstractManagedContext extends AbstractContext implements
     }
 
     protected void setActive(boolean active) {
+        ManagedState managedState = getManagedState();
+        if (managedState.isActive() != active) {
+            managedState.setActive(active);
+            activationChanged(active);
+        }
+    }
+
+    /**
+     * Unlike {@link #setActive(boolean)}, the change is not considered an activation or deactivation of the context, e.g. if the context is only active
+     * while the instances of a destroyed session are destroyed.
+     *
+     * @param active
+     */
+    void setActiveInternally(boolean active) {
         getManagedState().setActive(active);
     }
 
@@ -67,7 +87,124 @@ public abstract class AbstractManagedContext extends AbstractContext implements
      */
     protected void removeState() {
         ContextLogger.LOG.tracev("State thread-local removed: {0}", this);
+        ManagedState managedState = state.get();
         state.remove();
+        if (isActive(managedState)) {
+            activationChanged(false);
+        }
+    }
+
+    /**
+     * Captures the state of this context associated with the current thread. The bean store of a context which is not multithreaded is not thread-safe
+     * and the original thread keeps modifying it, therefore the captured instances are copied while still on the original thread.
+     *
+     * @return the captured state or <code>null</code> if the context is not active on the current thread
+     * @see ContextSnapshot
+     */
+    CapturedState capture() {
+        if (!isActive()) {
+            return null;
+        }
+        BeanStore beanStore = getBeanStore();
+        if (beanStore == null) {
+            return null;
+        }
+        return new CapturedState(this, isMultithreaded() ? beanStore : copyOf(beanStore), captureAssociation());
+    }
+
+    /**
+     *
+     * @param beanStore
+     * @return a bean store holding the current instances of the given bean store which is never modified afterwards
+     */
+    private static BeanStore copyOf(BeanStore beanStore) {
+        HashMapBeanStore copy = new HashMapBeanStore();
+        for (BeanIdentifier id : beanStore) {
+            ContextualInstance<Object> instance = beanStore.get(id);
+            if (instance != null) {
+                copy.put(id, instance);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Associates the captured state with the current thread. The captured bean store of a context which is not multithreaded is wrapped in a
+     * {@link CopyOnWriteBeanStore} so that the original bean store is never modified. Closing the returned handle destroys the instances created meanwhile
+     * and restores the previous state of the current thread.
+     *
+     * @param captured
+     * @return the handle
+     * @see ContextSnapshot
+     */
+    AutoCloseable restore(CapturedState captured) {
+        final ManagedState previousState = state.get();
+        final BeanStore previousBeanStore = getBeanStore();
+        final Object previousAssociation = captureAssociation();
+        final BeanStore beanStore = isMultithreaded() ? captured.beanStore : new CopyOnWriteBeanStore(captured.beanStore);
+        restoreBeanStore(beanStore);
+        restoreAssociation(captured.association);
+        ManagedState restoredState = new ManagedState();
+        restoredState.setActive(true);
+        state.set(restoredState);
+        if (!isActive(previousState)) {
+            activationChanged(true);
+        }
+        return () -> {
+            try {
+                if (beanStore instanceof CopyOnWriteBeanStore) {
+                    BeanStore localBeanStore = ((CopyOnWriteBeanStore) beanStore).getLocalBeanStore();
+                    if (localBeanStore != null) {
+                        destroyInstances(localBeanStore);
+                    }
+                }
+            } finally {
+                restoreBeanStore(previousBeanStore);
+                restoreAssociation(previousAssociation);
+                // The restored context might have been deactivated meanwhile
+                boolean active = isActive(state.get());
+                if (previousState != null) {
+                    state.set(previousState);
+                } else {
+                    state.remove();
+                }
+                if (active != isActive(previousState)) {
+                    activationChanged(isActive(previousState));
+                }
+            }
+        };
+    }
+
+    /**
+     * Associates the given bean store with the current thread. Used when restoring a {@link ContextSnapshot}.
+     *
+     * @param beanStore the bean store, <code>null</code> removes the association
+     */
+    protected abstract void restoreBeanStore(BeanStore beanStore);
+
+    /**
+     * Allows contexts to capture additional thread-bound state, e.g. the associated storage, when a {@link ContextSnapshot} is taken.
+     *
+     * @return the state associated with the current thread
+     */
+    protected Object captureAssociation() {
+        return null;
+    }
+
+    /**
+     * Associates the state previously obtained from {@link #captureAssociation()} with the current thread.
+     *
+     * @param association
+     */
+    protected void restoreAssociation(Object association) {
+    }
+
+    private void activationChanged(boolean active) {
+        FlightRecorder.instance().contextActivationChanged(getScope(), active);
+    }
+
+    private static boolean isActive(ManagedState managedState) {
+        return managedState != null && managedState.isActive();
     }
 
     private ManagedState getManagedState() {
@@ -79,6 +216,22 @@ public abstract class AbstractManagedContext extends AbstractContext implements
         return managedState;
     }
 
+    static final class CapturedState {
+
+        final AbstractManagedContext context;
+
+        final BeanStore beanStore;
+
+        final Object association;
+
+        private CapturedState(AbstractManagedContext context, BeanStore beanStore, Object association) {
+            this.context = context;
+            this.beanStore = beanStore;
+            this.association = association;
+        }
+
+    }
+
     private static class ManagedState {
 
         private boolean isActive;
@@ -0,0 +1,217 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import jakarta.enterprise.context.ConversationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.context.spi.Context;
+
+import org.jboss.weld.contexts.AbstractManagedContext.CapturedState;
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * A snapshot of the managed contexts active on the current thread. The snapshot can be restored on another thread so that the contextual instances of the
+ * original thread are shared and no instances are recreated, e.g. when request handling is moved across threads of a reactive or virtual-thread pipeline.
+ *
+ * <p>
+ * If a context is not multithreaded, e.g. the request context, its bean store is not thread-safe. Therefore, the references to the current instances are
+ * copied when the snapshot is taken (the instances themselves are shared) and the restored bean store is copy-on-write: the instances created while the
+ * snapshot is restored are kept local and destroyed when the returned {@link Restored} handle is closed, neither the original bean store nor the copy is
+ * ever modified. Instances created on the original thread after the snapshot was taken are not visible to the restored context. Multithreaded contexts,
+ * e.g. the session or conversation context, share the original bean store which is designed for concurrent access.
+ * </p>
+ *
+ * <p>
+ * A snapshot must only be restored while the contexts are still active on the original thread, e.g. until the original request ends.
+ * </p>
+ *
+ * <pre>
+ * ContextSnapshot snapshot = ContextSnapshot.capture(beanManager);
+ * executor.execute(snapshot.wrap(() -&gt; requestScopedBean.ping()));
+ * </pre>
+ *
+ * @see AbstractManagedContext
+ */
+public final class ContextSnapshot {
+
+    private static final ContextSnapshot EMPTY = new ContextSnapshot(Collections.emptyList());
+
+    private final List<CapturedState> states;
+
+    private ContextSnapshot(List<CapturedState> states) {
+        this.states = states;
+    }
+
+    /**
+     * Captures the request, session and conversation contexts active on the current thread.
+     *
+     * @param manager
+     * @return the snapshot
+     */
+    public static ContextSnapshot capture(BeanManagerImpl manager) {
+        return capture(getActiveContext(manager, RequestScoped.class), getActiveContext(manager, SessionScoped.class),
+                getActiveContext(manager, ConversationScoped.class));
+    }
+
+    /**
+     * Captures the given contexts. Contexts which are not active on the current thread or which do not extend {@link AbstractManagedContext} are ignored.
+     *
+     * @param contexts
+     * @return the snapshot
+     */
+    public static ContextSnapshot capture(Context... contexts) {
+        List<CapturedState> states = null;
+        for (Context context : contexts) {
+            if (context == null) {
+                continue;
+            }
+            context = PassivatingContextWrapper.unwrap(context);
+            if (context instanceof AbstractManagedContext) {
+                CapturedState state = ((AbstractManagedContext) context).capture();
+                if (state != null) {
+                    if (states == null) {
+                        states = new ArrayList<>(contexts.length);
+                    }
+                    states.add(state);
+                }
+            }
+        }
+        return states != null ? new ContextSnapshot(states) : EMPTY;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if no context was captured, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return states.isEmpty();
+    }
+
+    /**
+     * Associates the captured contexts with the current thread. The returned handle must be closed on the same thread, typically in a finally block.
+     *
+     * @return the handle which restores the previous state of the current thread
+     */
+    public Restored restore() {
+        if (states.isEmpty()) {
+            return Restored.NOOP;
+        }
+        final boolean requestScopedCacheActive = RequestScopedCache.isActive();
+        if (requestScopedCacheActive) {
+            // Cached instances belong to the previous state
+            RequestScopedCache.invalidate();
+        } else {
+            RequestScopedCache.beginRequest();
+        }
+        final List<AutoCloseable> handles = new ArrayList<>(states.size());
+        for (CapturedState state : states) {
+            handles.add(state.context.restore(state));
+        }
+        return () -> {
+            try {
+                closeAll(handles);
+            } finally {
+                if (requestScopedCacheActive) {
+                    RequestScopedCache.invalidate();
+                } else {
+                    RequestScopedCache.endRequest();
+                }
+            }
+        };
+    }
+
+    /**
+     *
+     * @param task
+     * @return a task which runs the given task with this snapshot restored
+     */
+    public Runnable wrap(Runnable task) {
+        if (states.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            try (Restored restored = restore()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     *
+     * @param task
+     * @return a task which calls the given task with this snapshot restored
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        if (states.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            try (Restored restored = restore()) {
+                return task.call();
+            }
+        };
+    }
+
+    private static Context getActiveContext(BeanManagerImpl manager, Class<? extends Annotation> scope) {
+        return manager.isContextActive(scope) ? manager.getContext(scope) : null;
+    }
+
+    private static void closeAll(List<AutoCloseable> handles) {
+        RuntimeException failure = null;
+        // Restore the previous state in reverse order
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            try {
+                handles.get(i).close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * A handle of a restored snapshot.
+     */
+    @FunctionalInterface
+    public interface Restored extends AutoCloseable {
+
+        Restored NOOP = () -> {
+        };
+
+        /**
+         * Destroys the instances created while the snapshot was restored and restores the previous state of the current thread.
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -39,6 +39,10 @@ import org.jboss.weld.util.reflection.Reflections;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
+ * The lists of dependent instances are only allocated once a dependent instance is actually added. The dependent context does not add the instances which
+ * never need to be destroyed, e.g. of a managed bean without a {@code @PreDestroy} callback. Therefore, no list is allocated for most of the creational
+ * contexts.
+ *
  * @author Pete Muir
  * @author Ales Justin
  * @author Jozef Hartinger
@@ -54,9 +58,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    // Lazily initialized, see dependentInstances()
+    private volatile List<ContextualInstance<?>> dependentInstances;
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    // Only used if there is no parent creational context, lazily initialized
+    private volatile List<ContextualInstance<?>> parentDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -69,16 +75,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient InterceptionContext aroundConstructInterceptionContext;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
-    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances, CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -86,9 +89,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -99,11 +99,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -115,7 +115,39 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            parentCreationalContext.dependentInstances().add(contextualInstance);
+        } else {
+            parentDependentInstances().add(contextualInstance);
+        }
+    }
+
+    private List<ContextualInstance<?>> dependentInstances() {
+        List<ContextualInstance<?>> result = dependentInstances;
+        if (result == null) {
+            synchronized (this) {
+                result = dependentInstances;
+                if (result == null) {
+                    result = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                    dependentInstances = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<ContextualInstance<?>> parentDependentInstances() {
+        List<ContextualInstance<?>> result = parentDependentInstances;
+        if (result == null) {
+            synchronized (this) {
+                result = parentDependentInstances;
+                if (result == null) {
+                    result = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                    parentDependentInstances = result;
+                }
+            }
+        }
+        return result;
     }
 
     public void release() {
@@ -124,11 +156,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        synchronized (dependentInstances) {
-            for (ContextualInstance<?> dependentInstance : dependentInstances) {
-                // do not destroy contextual again, since it's just being destroyed
-                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                    destroy(dependentInstance);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                    // do not destroy contextual again, since it's just being destroyed
+                    if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                        destroy(dependentInstance);
+                    }
                 }
             }
         }
@@ -154,11 +189,17 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
-        return WeldCollections.immutableListView(dependentInstances);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        return dependentInstances != null ? WeldCollections.immutableListView(dependentInstances) : Collections.<ContextualInstance<?>> emptyList();
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            // Return a serialization proxy for an "empty" instance
+            return parentCreationalContext == null && (parentDependentInstances == null || parentDependentInstances.isEmpty()) ? SERIALIZATION_PROXY : this;
+        }
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> instance = iterator.next();
@@ -210,6 +251,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return false;
+        }
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> contextualInstance = iterator.next();
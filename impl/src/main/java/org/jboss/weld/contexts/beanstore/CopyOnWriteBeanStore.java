@@ -0,0 +1,168 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.collections.Iterators;
+
+/**
+ * A bean store which shares the instances of a captured bean store and keeps all modifications local. The captured bean store is never modified.
+ *
+ * <p>
+ * Instances added to this bean store are held by a local {@link HashMapBeanStore} which is created lazily, i.e. a bean store that is only read from costs
+ * a single allocation. Removing an instance of the captured bean store only hides the instance, the instance is not returned and so it is never destroyed by
+ * the owner of this bean store.
+ * </p>
+ *
+ * <p>
+ * This implementation is not thread-safe. The captured bean store may be shared by several threads as long as it is never modified. An instance of this
+ * class must be confined to a single thread, in particular {@link #lock(BeanIdentifier)} does not lock anything.
+ * </p>
+ *
+ * @see org.jboss.weld.contexts.ContextSnapshot
+ */
+public class CopyOnWriteBeanStore implements BoundBeanStore {
+
+    private final BeanStore captured;
+
+    private HashMapBeanStore local;
+
+    private Set<BeanIdentifier> hidden;
+
+    private boolean cleared;
+
+    private boolean attached;
+
+    public CopyOnWriteBeanStore(BeanStore captured) {
+        this.captured = captured;
+        this.attached = true;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        if (local != null) {
+            ContextualInstance<T> instance = local.get(id);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return isCapturedVisible(id) ? captured.get(id) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return (local != null && local.contains(id)) || (isCapturedVisible(id) && captured.contains(id));
+    }
+
+    @Override
+    public void clear() {
+        if (local != null) {
+            local.clear();
+        }
+        hidden = null;
+        cleared = true;
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        Set<BeanIdentifier> ids = new HashSet<BeanIdentifier>();
+        if (local != null) {
+            Iterators.addAll(ids, local.iterator());
+        }
+        if (!cleared) {
+            for (BeanIdentifier id : captured) {
+                if (hidden == null || !hidden.contains(id)) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        if (local == null) {
+            local = new HashMapBeanStore();
+        }
+        local.put(id, contextualInstance);
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        // This bean store is confined to a single thread and the captured bean store is never modified
+        return null;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        ContextualInstance<T> instance = local != null ? local.remove(id) : null;
+        if (isCapturedVisible(id) && captured.contains(id)) {
+            // The captured instance is not owned by this bean store
+            if (hidden == null) {
+                hidden = new HashSet<BeanIdentifier>();
+            }
+            hidden.add(id);
+        }
+        return instance;
+    }
+
+    @Override
+    public boolean detach() {
+        if (attached) {
+            attached = false;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean attach() {
+        if (!attached) {
+            attached = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isAttached() {
+        return attached;
+    }
+
+    /**
+     *
+     * @return the bean store holding the instances added to this bean store, or <code>null</code> if no instance was added
+     */
+    public BeanStore getLocalBeanStore() {
+        return local;
+    }
+
+    private boolean isCapturedVisible(BeanIdentifier id) {
+        return !cleared && (hidden == null || !hidden.contains(id));
+    }
+
+    @Override
+    public String toString() {
+        return "copy of [" + captured + "] with local " + (local != null ? local : "holding 0 instances");
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A bean store backed by an array which is indexed by the position of a bean identifier in a {@link BeanIdentifierIndex}, e.g. the
+ * {@link RequestBeanIdentifierIndex}. Unlike {@link HashMapBeanStore} or {@link MapBeanStore} no entries are allocated and no prefixed names are built
+ * when an instance is stored.
+ *
+ * <p>
+ * The array is only as long as the highest position stored so far. Identifiers which are not contained in the index (e.g. a custom bean which is not
+ * passivation capable) are kept in a separate map.
+ * </p>
+ *
+ * <p>
+ * If the index is a {@link RequestBeanIdentifierIndex}, the position remembered by an {@link AbstractBeanIdentifier} is used directly and the index is
+ * only consulted for other identifiers.
+ * </p>
+ *
+ * <p>
+ * The index must be built before the bean store is created. This construct is not thread safe.
+ * </p>
+ */
+public class IndexedBeanStore implements BoundBeanStore {
+
+    private static final ContextualInstance<?>[] EMPTY = new ContextualInstance<?>[0];
+
+    private static final int INITIAL_LENGTH = 16;
+
+    private final BeanIdentifierIndex index;
+
+    private final boolean positionsRemembered;
+
+    private ContextualInstance<?>[] instances;
+
+    // Lazily initialized
+    private Map<BeanIdentifier, ContextualInstance<?>> unindexed;
+
+    private boolean attached;
+
+    public IndexedBeanStore(BeanIdentifierIndex index) {
+        this.index = index;
+        this.positionsRemembered = index instanceof RequestBeanIdentifierIndex;
+        this.instances = EMPTY;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        int position = getPosition(id);
+        if (position >= 0) {
+            return position < instances.length ? cast(instances[position]) : null;
+        }
+        return unindexed != null ? cast(unindexed.get(id)) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(instances, null);
+        if (unindexed != null) {
+            unindexed.clear();
+        }
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        int position = getPosition(id);
+        if (position >= 0) {
+            if (position >= instances.length) {
+                instances = Arrays.copyOf(instances, Math.min(index.size(), Math.max(position + 1, Math.max(INITIAL_LENGTH, instances.length * 2))));
+            }
+            instances[position] = contextualInstance;
+        } else {
+            if (unindexed == null) {
+                unindexed = new HashMap<>();
+            }
+            unindexed.put(id, contextualInstance);
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        int position = getPosition(id);
+        if (position >= 0) {
+            if (position >= instances.length) {
+                return null;
+            }
+            ContextualInstance<T> instance = cast(instances[position]);
+            instances[position] = null;
+            return instance;
+        }
+        return unindexed != null ? cast(unindexed.remove(id)) : null;
+    }
+
+    private int getPosition(BeanIdentifier id) {
+        if (positionsRemembered && id instanceof AbstractBeanIdentifier) {
+            int position = ((AbstractBeanIdentifier) id).getRequestIndexPosition();
+            if (position >= 0) {
+                return position;
+            }
+        }
+        Integer position = index.getIndex(id);
+        return position != null ? position : -1;
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return null;
+    }
+
+    /**
+     * The returned iterator operates on a snapshot of identifiers, i.e. the bean store may be modified during iteration.
+     */
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        List<BeanIdentifier> identifiers = new ArrayList<>();
+        for (int i = 0; i < instances.length; i++) {
+            if (instances[i] != null) {
+                identifiers.add(index.getIdentifier(i));
+            }
+        }
+        if (unindexed != null) {
+            identifiers.addAll(unindexed.keySet());
+        }
+        return identifiers.iterator();
+    }
+
+    @Override
+    public boolean attach() {
+        if (!attached) {
+            attached = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean detach() {
+        if (attached) {
+            attached = false;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isAttached() {
+        return attached;
+    }
+
+    @Override
+    public String toString() {
+        int size = unindexed != null ? unindexed.size() : 0;
+        for (ContextualInstance<?> instance : instances) {
+            if (instance != null) {
+                size++;
+            }
+        }
+        return "holding " + size + " instances";
+    }
+
+}
@@ -18,14 +18,17 @@
 package org.jboss.weld.contexts.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 /**
  * Helper class for bean store creation locking.
+ * <p>
+ * The reference counted locks are registered in a {@link ConcurrentHashMap} and the reference count is only modified within the atomic
+ * {@code compute} operations of the map. Therefore, threads creating instances of different beans do not contend on a single monitor.
  *
  * @author Stuart Douglas
  * @author Marko Luksa
@@ -35,45 +38,55 @@ public class LockStore implements Serializable {
     private static final long serialVersionUID = -698649566870070414L;
 
     @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if(locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
-            }
-        }
+        final ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = getLocks();
+        ReferenceCountedLock refLock = locks.compute(id, (key, existing) -> existing != null ? existing.retain() : new ReferenceCountedLock(key, locks));
         refLock.lock.lock();
         return refLock;
     }
 
-    private class ReferenceCountedLock implements LockedBean {
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // The map is not restored after deserialization
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
+                    this.locks = locks;
+                }
+            }
+        }
+        return locks;
+    }
+
+    private static class ReferenceCountedLock implements LockedBean {
         private final BeanIdentifier key;
+        private final ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks;
+        // Guarded by the map entry, i.e. only accessed within compute methods
         int count = 1;
         final ReentrantLock lock = new ReentrantLock();
 
-        private ReferenceCountedLock(final BeanIdentifier key) {
+        private ReferenceCountedLock(final BeanIdentifier key, final ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks) {
             this.key = key;
+            this.locks = locks;
+        }
+
+        private ReferenceCountedLock retain() {
+            count++;
+            return this;
+        }
+
+        private ReferenceCountedLock release() {
+            return --count == 0 ? null : this;
         }
 
         public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
-            }
+            lock.unlock();
+            locks.computeIfPresent(key, (k, existing) -> existing == this ? release() : existing);
         }
     }
 
-
 }
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * An index of the identifiers of request scoped beans used by the {@link IndexedBeanStore} of the request contexts. It is registered as a separate service
+ * so that the {@link BeanIdentifierIndex} service, which only contains session and conversation scoped beans and must be consistent across a cluster, is not
+ * affected.
+ * <p>
+ * Once the index is built, each identifier created by Weld remembers its position so that the bean store does not need to look it up.
+ * </p>
+ *
+ * @see AbstractBeanIdentifier#getRequestIndexPosition()
+ */
+public class RequestBeanIdentifierIndex extends BeanIdentifierIndex {
+
+    @Override
+    public void build(Set<Bean<?>> beans) {
+        super.build(beans);
+        for (int i = 0; i < size(); i++) {
+            BeanIdentifier identifier = getIdentifier(i);
+            if (identifier instanceof AbstractBeanIdentifier) {
+                ((AbstractBeanIdentifier) identifier).setRequestIndexPosition(i);
+            }
+        }
+    }
+
+}
@@ -5,20 +5,35 @@ import java.util.Map;
 
 import jakarta.enterprise.context.RequestScoped;
 
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.contexts.AbstractBoundContext;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
 import org.jboss.weld.contexts.beanstore.MapBeanStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
 import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 
 public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Object>> implements BoundRequestContext {
 
+    private static final String INDEXED_BEAN_STORE_KEY = BoundRequestContext.class.getName() + ".indexedBeanStore";
+
     private final NamingScheme namingScheme;
 
+    // Null if the indexed bean store is not used
+    private final RequestBeanIdentifierIndex beanIdentifierIndex;
+
     public BoundRequestContextImpl(String contextId) {
         super(contextId, false);
         this.namingScheme = new SimpleNamingScheme(BoundRequestContext.class.getName());
+        this.beanIdentifierIndex = null;
+    }
+
+    public BoundRequestContextImpl(String contextId, ServiceRegistry services) {
+        super(contextId, false);
+        this.namingScheme = new SimpleNamingScheme(BoundRequestContext.class.getName());
+        this.beanIdentifierIndex = services.get(RequestBeanIdentifierIndex.class);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -27,7 +42,17 @@ public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Ob
 
     public boolean associate(Map<String, Object> storage) {
         if (getBeanStore() == null) {
-            setBeanStore(new MapBeanStore(namingScheme, storage, true));
+            if (beanIdentifierIndex != null && beanIdentifierIndex.isBuilt()) {
+                // The whole bean store is kept under a single key so that the storage can be associated again
+                Object beanStore = storage.get(INDEXED_BEAN_STORE_KEY);
+                if (!(beanStore instanceof IndexedBeanStore)) {
+                    beanStore = new IndexedBeanStore(beanIdentifierIndex);
+                    storage.put(INDEXED_BEAN_STORE_KEY, beanStore);
+                }
+                setBeanStore((IndexedBeanStore) beanStore);
+            } else {
+                setBeanStore(new MapBeanStore(namingScheme, storage, true));
+            }
             getBeanStore().attach();
             return true;
         } else {
@@ -107,6 +107,10 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         }
         ConversationLogger.LOG.demotedLongRunningConversation(id);
         _transient = true;
+        ConversationContext context = getActiveConversationContext();
+        if (context instanceof AbstractConversationContext) {
+            ((AbstractConversationContext<?, ?>) context).conversationEnded(id);
+        }
     }
 
     @Override
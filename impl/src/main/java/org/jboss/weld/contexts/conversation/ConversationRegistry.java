@@ -0,0 +1,287 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.conversation;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.context.ManagedConversation;
+
+/**
+ * The conversations of a session, keyed by conversation id. The registry is stored in the session and is also exposed as a plain {@link Map}.
+ *
+ * <p>
+ * In addition, the registry keeps the expiration deadlines of long-running conversations ordered by time, and the ids of conversations which were ended
+ * since the last cleanup. Therefore, neither the expiry check nor the cleanup needs to iterate over all conversations of the session. A conversation may
+ * also become transient without being reported as ended, e.g. if it is ended while the conversation context is not associated. Such conversations are
+ * removed by a sweep over all conversations, which is performed every {@value #SWEEP_INTERVAL} cleanups or as soon as the registry grew to twice the
+ * size it had after the previous sweep.
+ * </p>
+ */
+public class ConversationRegistry extends ConcurrentHashMap<String, ManagedConversation> {
+
+    private static final long serialVersionUID = 2526390745513519392L;
+
+    private static final int SWEEP_INTERVAL = 64;
+
+    private static final int SWEEP_MIN_SIZE = 16;
+
+    // Guarded by itself
+    private final TreeSet<Expiration> expirations;
+
+    // Guarded by expirations
+    private final Map<String, Long> deadlines;
+
+    private final Set<String> ended;
+
+    // The sweep is only a fallback, therefore racy updates of the counters are fine
+    private transient int cleanupsSinceSweep;
+
+    private transient int sizeAfterSweep;
+
+    public ConversationRegistry() {
+        this.expirations = new TreeSet<>();
+        this.deadlines = new HashMap<>();
+        this.ended = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Creates a new registry which contains all the given conversations, e.g. a conversation map stored in the session by a previous version.
+     *
+     * @param conversations
+     * @return a new registry
+     */
+    public static ConversationRegistry of(Map<String, ManagedConversation> conversations) {
+        ConversationRegistry registry = new ConversationRegistry();
+        synchronized (conversations) {
+            registry.putAll(conversations);
+        }
+        for (String id : registry.keySet()) {
+            // The actual deadline is verified in pollExpired()
+            registry.schedule(id, 0L);
+        }
+        return registry;
+    }
+
+    /**
+     * Registers a long-running conversation.
+     *
+     * @param id
+     * @param conversation
+     * @return true if no conversation with the given id was registered before
+     */
+    public boolean register(String id, ManagedConversation conversation) {
+        ended.remove(id);
+        ManagedConversation previous = put(id, conversation);
+        scheduleExpiration(id, conversation);
+        return previous == null;
+    }
+
+    /**
+     * Updates the expiration deadline of the given conversation. This method should be called whenever the conversation was used or its timeout changed.
+     *
+     * @param id
+     * @param conversation
+     */
+    public void scheduleExpiration(String id, ManagedConversation conversation) {
+        schedule(id, conversation.getLastUsed() + conversation.getTimeout());
+    }
+
+    /**
+     * Marks the conversation with the given id as ended, i.e. it will be returned by the next {@link #drainEnded()}.
+     *
+     * @param id
+     */
+    public void conversationEnded(String id) {
+        if (id != null && containsKey(id)) {
+            ended.add(id);
+        }
+    }
+
+    /**
+     * Removes all ended (i.e. transient) conversations from the registry. If a sweep is due, all the other transient conversations are removed as well.
+     *
+     * @return the map of removed conversations
+     */
+    public Map<String, ManagedConversation> drainEnded() {
+        boolean sweep = isSweepDue();
+        if (ended.isEmpty() && !sweep) {
+            return Collections.emptyMap();
+        }
+        Map<String, ManagedConversation> removed = new HashMap<>();
+        for (Iterator<String> iterator = ended.iterator(); iterator.hasNext();) {
+            String id = iterator.next();
+            iterator.remove();
+            // The conversation might have been promoted again in the meantime
+            removeIfTransient(id, get(id), removed);
+        }
+        if (sweep) {
+            for (Entry<String, ManagedConversation> entry : entrySet()) {
+                removeIfTransient(entry.getKey(), entry.getValue(), removed);
+            }
+            cleanupsSinceSweep = 0;
+            sizeAfterSweep = size();
+        }
+        return removed;
+    }
+
+    private boolean isSweepDue() {
+        return ++cleanupsSinceSweep >= SWEEP_INTERVAL || size() >= 2 * Math.max(SWEEP_MIN_SIZE, sizeAfterSweep);
+    }
+
+    private void removeIfTransient(String id, ManagedConversation conversation, Map<String, ManagedConversation> removed) {
+        if (conversation != null && conversation.isTransient() && remove(id, conversation)) {
+            removed.put(id, conversation);
+            unschedule(id);
+        }
+    }
+
+    /**
+     * Returns the long-running conversations whose timeout elapsed. Only the conversations whose deadline is due are inspected.
+     *
+     * @param now the current time in milliseconds
+     * @return the list of expired conversations
+     */
+    public List<ManagedConversation> pollExpired(long now) {
+        List<ManagedConversation> expired = null;
+        synchronized (expirations) {
+            while (!expirations.isEmpty() && expirations.first().deadline < now) {
+                Expiration expiration = expirations.pollFirst();
+                deadlines.remove(expiration.id);
+                ManagedConversation conversation = get(expiration.id);
+                if (conversation == null || conversation.isTransient()) {
+                    continue;
+                }
+                long deadline = conversation.getLastUsed() + conversation.getTimeout();
+                if (deadline < now) {
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.add(conversation);
+                } else {
+                    doSchedule(expiration.id, deadline);
+                }
+            }
+        }
+        return expired != null ? expired : Collections.emptyList();
+    }
+
+    private void schedule(String id, long deadline) {
+        synchronized (expirations) {
+            doSchedule(id, deadline);
+        }
+    }
+
+    private void doSchedule(String id, long deadline) {
+        Long previous = deadlines.put(id, deadline);
+        if (previous != null) {
+            expirations.remove(new Expiration(previous, id));
+        }
+        expirations.add(new Expiration(deadline, id));
+    }
+
+    private void unschedule(String id) {
+        synchronized (expirations) {
+            Long previous = deadlines.remove(id);
+            if (previous != null) {
+                expirations.remove(new Expiration(previous, id));
+            }
+        }
+    }
+
+    /**
+     * Removes all conversations together with their expiration deadlines.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        ended.clear();
+        synchronized (expirations) {
+            expirations.clear();
+            deadlines.clear();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // Write a consistent snapshot of the deadlines
+        synchronized (expirations) {
+            out.defaultWriteObject();
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // The conversations are written before the deadlines, i.e. a conversation registered concurrently might have no deadline
+        for (String id : keySet()) {
+            if (!deadlines.containsKey(id)) {
+                // The actual deadline is verified in pollExpired()
+                schedule(id, 0L);
+            }
+        }
+    }
+
+    private static final class Expiration implements Comparable<Expiration>, Serializable {
+
+        private static final long serialVersionUID = -1789207271587498634L;
+
+        private final long deadline;
+
+        private final String id;
+
+        Expiration(long deadline, String id) {
+            this.deadline = deadline;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Expiration other) {
+            int result = Long.compare(deadline, other.deadline);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Expiration)) {
+                return false;
+            }
+            Expiration other = (Expiration) obj;
+            return deadline == other.deadline && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(deadline) + id.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.conversation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Counters of long-running conversations handled by this container instance. Conversations which were migrated from another node (e.g. after a session
+ * failover) are not counted as started.
+ */
+public class ConversationStatistics implements Service {
+
+    private final LongAdder started = new LongAdder();
+
+    private final LongAdder destroyed = new LongAdder();
+
+    private final LongAdder expired = new LongAdder();
+
+    public void conversationStarted() {
+        started.increment();
+    }
+
+    public void conversationsDestroyed(int count) {
+        destroyed.add(count);
+    }
+
+    public void conversationExpired() {
+        expired.increment();
+    }
+
+    /**
+     *
+     * @return the number of long-running conversations which were started and not destroyed yet
+     */
+    public long getActiveConversationCount() {
+        return Math.max(0, started.sum() - destroyed.sum());
+    }
+
+    /**
+     *
+     * @return the number of long-running conversations which were ended because the timeout elapsed
+     */
+    public long getExpiredConversationCount() {
+        return expired.sum();
+    }
+
+    @Override
+    public void cleanup() {
+        started.reset();
+        destroyed.reset();
+        expired.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ConversationStatistics [active=" + getActiveConversationCount() + ", expired=" + getExpiredConversationCount() + "]";
+    }
+
+}
@@ -36,6 +36,7 @@ import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.injection.producer.BasicInjectionTarget;
 import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.jfr.FlightRecorder;
 
 /**
  * The dependent context
@@ -61,7 +62,9 @@ public class DependentContextImpl implements DependentContext {
             throw new ContextNotActiveException();
         }
         if (creationalContext != null) {
+            Object event = FlightRecorder.instance().beginBeanInstantiation();
             T instance = contextual.create(creationalContext);
+            FlightRecorder.instance().endBeanInstantiation(event, contextual);
             if (creationalContext instanceof WeldCreationalContext<?>) {
                 addDependentInstance(instance, contextual, (WeldCreationalContext<T>) creationalContext);
             }
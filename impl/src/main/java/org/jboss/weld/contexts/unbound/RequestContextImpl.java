@@ -3,6 +3,8 @@ package org.jboss.weld.contexts.unbound;
 import org.jboss.weld.contexts.AbstractUnboundContext;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
 
 import jakarta.enterprise.context.RequestScoped;
 
@@ -11,14 +13,24 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
 public class RequestContextImpl extends AbstractUnboundContext implements RequestContext {
 
+    // Null if the indexed bean store is not used
+    private final RequestBeanIdentifierIndex beanIdentifierIndex;
+
     public RequestContextImpl(String contextId) {
         super(contextId, false);
+        this.beanIdentifierIndex = null;
+    }
+
+    public RequestContextImpl(String contextId, ServiceRegistry services) {
+        super(contextId, false);
+        this.beanIdentifierIndex = services.get(RequestBeanIdentifierIndex.class);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -27,7 +39,11 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
 
     public void activate() {
         // Attach bean store (this context is unbound, so this can simply be thread-scoped
-        setBeanStore(new HashMapBeanStore());
+        if (beanIdentifierIndex != null && beanIdentifierIndex.isBuilt()) {
+            setBeanStore(new IndexedBeanStore(beanIdentifierIndex));
+        } else {
+            setBeanStore(new HashMapBeanStore());
+        }
         super.activate();
     }
 
@@ -17,6 +17,7 @@
 package org.jboss.weld.event;
 
 import static org.jboss.weld.util.collections.WeldCollections.putIfAbsent;
+import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
@@ -39,11 +40,15 @@ import org.jboss.weld.events.WeldEvent;
 import org.jboss.weld.exceptions.InvalidObjectException;
 import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Preconditions;
 import org.jboss.weld.util.Types;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.reflection.EventObjectTypeResolverBuilder;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.HierarchyDiscovery;
+import org.jboss.weld.util.reflection.Reflections;
 import org.jboss.weld.util.reflection.TypeResolver;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -63,6 +68,7 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     private static final long serialVersionUID = 656782657242515455L;
     private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_NOTIFICATION_OPTIONS = NotificationOptions.builder().build();
+    private static final long SELECT_CACHE_SIZE = 16;
 
     public static <E> EventImpl<E> of(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         return new EventImpl<E>(injectionPoint, beanManager);
@@ -71,11 +77,14 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     private final transient HierarchyDiscovery injectionPointTypeHierarchy;
     private transient volatile CachedObservers lastCachedObservers;
     private final transient Map<Class<?>, CachedObservers> cachedObservers;
+    // Child events are reused so that repeated selects do not resolve the observer methods again
+    private final transient LazyValueHolder<ComputingCache<SelectionKey, EventImpl<?>>> children;
 
     private EventImpl(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         super(injectionPoint, null, beanManager);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(getType());
         this.cachedObservers = new ConcurrentHashMap<Class<?>, CachedObservers>(DEFAULT_CACHE_CAPACITY);
+        this.children = LazyValueHolder.forSupplier(() -> ComputingCacheBuilder.newBuilder().setMaxSize(SELECT_CACHE_SIZE).build(this::createChild));
     }
 
     /**
@@ -168,8 +177,18 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     }
 
     private <U extends T> WeldEvent<U> selectEvent(Type subtype, Annotation[] newQualifiers) {
-        getBeanManager().getGlobalStrictObserverNotifier().checkEventObjectType(subtype);
-        return new EventImpl<U>(new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Event.class, subtype, getQualifiers(), newQualifiers),
+        SelectionKey key = new SelectionKey(subtype, newQualifiers);
+        if (!Reflections.isCacheable(newQualifiers)) {
+            // Do not hold a reference to a qualifier which is an instance of a non-static inner class
+            return cast(createChild(key));
+        }
+        return cast(children.get().getValue(key));
+    }
+
+    private EventImpl<?> createChild(SelectionKey key) {
+        getBeanManager().getGlobalStrictObserverNotifier().checkEventObjectType(key.getType());
+        return new EventImpl<Object>(
+                new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Event.class, key.getType(), getQualifiers(), key.getQualifiers()),
                 getBeanManager());
     }
 
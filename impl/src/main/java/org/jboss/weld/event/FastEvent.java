@@ -25,6 +25,7 @@ import jakarta.enterprise.inject.spi.ObserverMethod;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Observers;
+import org.jboss.weld.util.jfr.FlightRecorder;
 
 /**
  * An optimized internal facility for dispatching events.
@@ -91,7 +92,10 @@ public class FastEvent<T> {
 
     public void fire(T event) {
         for (ObserverMethod<? super T> observer : resolvedObserverMethods.getImmediateSyncObservers()) {
+            // No EventContext is needed here, see also Observers.notify()
+            Object notification = FlightRecorder.instance().beginObserverNotification();
             observer.notify(event);
+            FlightRecorder.instance().endObserverNotification(notification, observer, event);
         }
     }
 
@@ -60,7 +60,8 @@ public class CommonForkJoinPoolExecutorServices extends AbstractExecutorServices
     @Override
     public <T> Collection<? extends Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
         // try to detect environment, if it's SE, we want to null TCCL, otherwise leave it as it is
-        if (Container.getEnvironment().equals(Environments.SE)) {
+        // note that the environment is not known yet if the tasks are executed before the container is started, e.g. during bean archive discovery
+        if (Environments.SE.equals(Container.getEnvironment())) {
             List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
             for (Callable<T> task : tasks) {
                 wrapped.add(() -> {
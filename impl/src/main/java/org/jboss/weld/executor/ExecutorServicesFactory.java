@@ -52,6 +52,12 @@ public class ExecutorServicesFactory {
                 return new TimingOutFixedThreadPoolExecutorServices(threadPoolSize, threadPoolKeepAliveTime);
             case COMMON:
                 return new CommonForkJoinPoolExecutorServices();
+            case VIRTUAL:
+                if (VirtualThreadExecutorServices.isSupported()) {
+                    return new VirtualThreadExecutorServices();
+                }
+                BootstrapLogger.LOG.virtualThreadsNotSupported(ThreadPoolType.FIXED);
+                return new FixedThreadPoolExecutorServices(threadPoolSize);
             default:
                 return new FixedThreadPoolExecutorServices(threadPoolSize);
         }
@@ -90,6 +96,6 @@ public class ExecutorServicesFactory {
      * @author Martin Kouba
      */
     public enum ThreadPoolType {
-        FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON
+        FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON, VIRTUAL
     }
 }
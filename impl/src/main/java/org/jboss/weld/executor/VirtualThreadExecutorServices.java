@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.weld.exceptions.DeploymentException;
+
+/**
+ * Implementation of {@link org.jboss.weld.manager.api.ExecutorServices} that starts a new virtual thread for each task. Suitable for asynchronous observers
+ * performing blocking I/O which would otherwise starve a bounded thread pool.
+ *
+ * <p>
+ * Virtual threads require JDK 21 or newer. Use {@link #isSupported()} to find out whether the current runtime supports them.
+ * </p>
+ *
+ * <p>
+ * Each task runs in its own thread and so thread-bound state such as the {@link org.jboss.weld.injection.ThreadLocalStack} or the request scoped cache never
+ * outlives the task.
+ * </p>
+ */
+public class VirtualThreadExecutorServices extends AbstractExecutorServices {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private final ExecutorService executor;
+
+    public VirtualThreadExecutorServices() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new IllegalStateException("Virtual threads are not supported by the current runtime");
+        }
+        try {
+            this.executor = (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new DeploymentException(e);
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the current runtime supports virtual threads, <code>false</code> otherwise
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return executor;
+    }
+
+    /**
+     * The number of threads is not bounded. Iterative bootstrap tasks are still split by the number of available processors.
+     */
+    @Override
+    protected int getThreadPoolSize() {
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorServices";
+    }
+
+    private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // JDK 20 and older
+            return null;
+        }
+    }
+}
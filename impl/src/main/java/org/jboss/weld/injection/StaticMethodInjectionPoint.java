@@ -35,6 +35,7 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.Arrays2;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 /**
  * {@link MethodInjectionPoint} that delegates to a static method.
@@ -49,6 +50,9 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    final MethodInvoker accessibleMethodInvoker;
+    // Precomputed for each parameter, TransientReference lookup is relatively expensive
+    private final boolean[] transientReferenceParameters;
 
     StaticMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory, BeanManagerImpl manager) {
@@ -56,6 +60,26 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarkers);
+        this.accessibleMethodInvoker = createInvoker(accessibleMethod);
+        this.transientReferenceParameters = initTransientReferenceParameters(getParameterInjectionPoints());
+    }
+
+    private static <X> boolean[] initTransientReferenceParameters(List<ParameterInjectionPoint<?, X>> parameters) {
+        boolean[] transientReferenceParameters = new boolean[parameters.size()];
+        for (int i = 0; i < transientReferenceParameters.length; i++) {
+            transientReferenceParameters[i] = parameters.get(i).getAnnotated().isAnnotationPresent(TransientReference.class);
+        }
+        return transientReferenceParameters;
+    }
+
+    /**
+     * Observer methods are invoked through a method handle, other methods reflectively.
+     *
+     * @param method the accessible method
+     * @return the invoker
+     */
+    MethodInvoker createInvoker(Method method) {
+        return MethodInvoker.of(method, MethodInjectionPointType.OBSERVER.equals(type));
     }
 
     private static <X> int initSpecialInjectionPointIndex(EnhancedAnnotatedMethod<?, X> enhancedMethod, Set<Class<? extends Annotation>> specialParameterMarkers) {
@@ -82,6 +106,10 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
             transientReferenceContext = manager.createCreationalContext(null);
         }
         try {
+            if (specialInjectionPointIndex == 0 && transientReferenceParameters.length == 1) {
+                // The special parameter is the only parameter, e.g. an observer method with the event parameter only
+                return invoke(receiver, specialValue, exceptionTypeToThrow);
+            }
             return invoke(receiver, getParameterValues(specialValue, manager, ctx, transientReferenceContext), exceptionTypeToThrow);
         } finally {
             if (hasTransientReferenceParameter) {
@@ -92,7 +120,24 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
 
     public T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
         try {
-            return cast(getMethod(receiver).invoke(receiver, parameters));
+            return cast(getInvoker(receiver).invoke(receiver, parameters));
+        } catch (IllegalArgumentException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        } catch (SecurityException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        } catch (IllegalAccessException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        } catch (InvocationTargetException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        } catch (NoSuchMethodException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        }
+        return null;
+    }
+
+    private T invoke(Object receiver, Object parameter, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        try {
+            return cast(getInvoker(receiver).invoke(receiver, parameter));
         } catch (IllegalArgumentException e) {
             rethrowException(e, exceptionTypeToThrow);
         } catch (SecurityException e) {
@@ -128,7 +173,7 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
             ParameterInjectionPoint<?, ?> param = parameters.get(i);
             if (i == specialInjectionPointIndex) {
                 parameterValues[i] = specialVal;
-            } else if (hasTransientReferenceParameter && param.getAnnotated().isAnnotationPresent(TransientReference.class)) {
+            } else if (transientReferenceParameters[i]) {
                 parameterValues[i] = param.getValueToInject(manager, transientReferenceContext);
             } else {
                 parameterValues[i] = param.getValueToInject(manager, ctx);
@@ -137,8 +182,8 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return parameterValues;
     }
 
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        return accessibleMethod;
+    protected MethodInvoker getInvoker(Object receiver) throws NoSuchMethodException {
+        return accessibleMethodInvoker;
     }
 
     @Override
@@ -33,6 +33,7 @@ import org.jboss.weld.bean.AbstractClassBean;
 import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableMap;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 /**
  * {@link MethodInjectionPoint} that invokes virtual methods.
@@ -44,35 +45,36 @@ import org.jboss.weld.util.collections.ImmutableMap;
  */
 class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X> {
 
-    private volatile Map<Class<?>, Method> methods;
+    private volatile Map<Class<?>, MethodInvoker> methods;
 
     VirtualMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean,
             Class<?> declaringComponentClass, Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory,
             BeanManagerImpl manager) {
         super(methodInjectionPointType, enhancedMethod, declaringBean, declaringComponentClass, specialParameterMarkers, factory, manager);
-        this.methods = Collections.<Class<?>, Method> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethod);
+        this.methods = Collections.<Class<?>, MethodInvoker> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethodInvoker);
     }
 
     @Override
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        final Map<Class<?>, Method> methods = this.methods;
-        Method method = this.methods.get(receiver.getClass());
-        if (method == null) {
+    protected MethodInvoker getInvoker(Object receiver) throws NoSuchMethodException {
+        final Map<Class<?>, MethodInvoker> methods = this.methods;
+        MethodInvoker invoker = this.methods.get(receiver.getClass());
+        if (invoker == null) {
             // the same method may be written to the map twice, but that is ok
             // lookupMethod is very slow
             Method delegate = getAnnotated().getJavaMember();
             if ((hasDecorators() || MethodInjectionPointType.INITIALIZER.equals(type)) && (isPrivate(delegate) || isPackagePrivate(delegate.getModifiers())
                     && !Objects.equals(delegate.getDeclaringClass().getPackage(), receiver.getClass().getPackage()))) {
                 // Initializer methods and decorated beans - overriding does not apply to private methods and package-private methods where the subclass is in a different package
-                method = accessibleMethod;
+                invoker = accessibleMethodInvoker;
             } else {
-                method = SecurityActions.lookupMethod(receiver.getClass(), delegate.getName(), delegate.getParameterTypes());
+                Method method = SecurityActions.lookupMethod(receiver.getClass(), delegate.getName(), delegate.getParameterTypes());
                 SecurityActions.ensureAccessible(method);
+                invoker = method.equals(accessibleMethod) ? accessibleMethodInvoker : createInvoker(method);
             }
-            final Map<Class<?>, Method> newMethods = ImmutableMap.<Class<?>, Method>builder().putAll(methods).put(receiver.getClass(), method).build();
+            final Map<Class<?>, MethodInvoker> newMethods = ImmutableMap.<Class<?>, MethodInvoker>builder().putAll(methods).put(receiver.getClass(), invoker).build();
             this.methods = newMethods;
         }
-        return method;
+        return invoker;
     }
 
     private boolean hasDecorators() {
@@ -17,7 +17,7 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.bean.proxy.StackAwareMethodHandler;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
-import org.jboss.weld.util.reflection.Reflections;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 /**
  * @author Marius Bogoevici
@@ -42,7 +42,6 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     public Object invoke(Stack stack, Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        SecurityActions.ensureAccessible(proceed);
         if (proceed == null) {
             if (thisMethod.getName().equals(InterceptionUtils.POST_CONSTRUCT)) {
                 return executeInterception(self, null, null, null, InterceptionType.POST_CONSTRUCT, stack);
@@ -51,7 +50,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             }
         } else {
             if (isInterceptorMethod(thisMethod)) {
-                return Reflections.invokeAndUnwrap(self, proceed, args);
+                return MethodInvoker.forMethod(proceed).invokeAndUnwrap(self, args);
             }
             return executeInterception(self, thisMethod, proceed, args, InterceptionType.AROUND_INVOKE, stack);
         }
@@ -65,7 +64,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             if (proceed == null) {
                 return null;
             } else {
-                return Reflections.invokeAndUnwrap(instance, proceed, args);
+                return MethodInvoker.forMethod(proceed).invokeAndUnwrap(instance, args);
             }
         }
         if (InterceptionType.AROUND_INVOKE == interceptionType) {
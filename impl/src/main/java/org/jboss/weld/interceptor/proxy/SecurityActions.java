@@ -1,51 +0,0 @@
-/*
- * JBoss, Home of Professional Open Source
- * Copyright 2014, Red Hat, Inc., and individual contributors
- * by the @authors tag. See the copyright.txt in the distribution for a
- * full listing of individual contributors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- * http://www.apache.org/licenses/LICENSE-2.0
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.jboss.weld.interceptor.proxy;
-
-import java.lang.reflect.AccessibleObject;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-
-import org.jboss.weld.security.SetAccessibleAction;
-
-/**
- *
- * @author Martin Kouba
- */
-final class SecurityActions {
-
-    private SecurityActions() {
-    }
-
-    /**
-     * Set the {@code accessible} flag for this accessible object. Does not perform {@link PrivilegedAction} unless necessary.
-     *
-     * @param accessibleObject
-     */
-    static void ensureAccessible(AccessibleObject accessibleObject) {
-        if (accessibleObject != null) {
-            if (!accessibleObject.isAccessible()) {
-                if (System.getSecurityManager() != null) {
-                    AccessController.doPrivileged(SetAccessibleAction.of(accessibleObject));
-                } else {
-                    accessibleObject.setAccessible(true);
-                }
-            }
-        }
-    }
-
-}
@@ -24,6 +24,8 @@ import java.util.Set;
 
 import jakarta.interceptor.InvocationContext;
 
+import org.jboss.weld.util.reflection.MethodInvoker;
+
 /**
  * Simple {@link InvocationContext} implementation whose {@link #proceed()} invokes the target method directly without calling any interceptors. If this is not
  * a method interception, a call to {@link #proceed()} always returns null.
@@ -44,7 +46,7 @@ public class SimpleInvocationContext extends AbstractInvocationContext {
     @Override
     public Object proceed() throws Exception {
         if (proceed != null) {
-            return proceed.invoke(target, parameters);
+            return MethodInvoker.forMethod(proceed).invoke(target, parameters);
         } else {
             return null;
         }
@@ -25,6 +25,7 @@ import java.util.Set;
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 /**
  * The terminal {@link InvocationContext} in the interception chain. It is passed to the last interceptor in the chain and calling {@link #proceed()} invokes
@@ -48,7 +49,7 @@ class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContex
 
     @Override
     public Object proceedInternal() throws Exception {
-        return getProceed().invoke(getTarget(), getParameters());
+        return MethodInvoker.forMethod(getProceed()).invoke(getTarget(), getParameters());
     }
 
     @Override
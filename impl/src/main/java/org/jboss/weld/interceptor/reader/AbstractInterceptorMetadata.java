@@ -25,6 +25,9 @@ import java.util.Map;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableList;
+import org.jboss.weld.util.collections.ImmutableMap;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 
 /**
@@ -34,9 +37,28 @@ import org.jboss.weld.interceptor.spi.model.InterceptionType;
 public abstract class AbstractInterceptorMetadata implements InterceptorMetadata {
 
     protected final Map<InterceptionType, List<Method>> interceptorMethodMap;
+    // interceptor methods are bound once and shared by all interceptor instances
+    private final Map<InterceptionType, List<MethodInvoker>> interceptorMethodInvokers;
 
     public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
         this.interceptorMethodMap = interceptorMethodMap;
+        this.interceptorMethodInvokers = initInterceptorMethodInvokers(interceptorMethodMap);
+    }
+
+    private static Map<InterceptionType, List<MethodInvoker>> initInterceptorMethodInvokers(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        if (interceptorMethodMap == null || interceptorMethodMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ImmutableMap.Builder<InterceptionType, List<MethodInvoker>> builder = ImmutableMap.builder();
+        for (Map.Entry<InterceptionType, List<Method>> entry : interceptorMethodMap.entrySet()) {
+            ImmutableList.Builder<MethodInvoker> invokers = ImmutableList.builder();
+            for (Method method : entry.getValue()) {
+                // interceptor methods are made accessible when the metadata is built
+                invokers.add(MethodInvoker.of(method, true));
+            }
+            builder.put(entry.getKey(), invokers.build());
+        }
+        return builder.build();
     }
 
     public List<Method> getInterceptorMethods(InterceptionType interceptionType) {
@@ -60,7 +82,9 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     @Override
     public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
-        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor());
+        List<MethodInvoker> invokers = interceptorMethodInvokers.get(interceptionType);
+        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, invokers == null ? Collections.<MethodInvoker> emptyList() : invokers,
+                isTargetClassInterceptor());
     }
 
     protected abstract boolean isTargetClassInterceptor();
@@ -17,7 +17,6 @@
 
 package org.jboss.weld.interceptor.reader;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
 import jakarta.interceptor.InvocationContext;
@@ -25,7 +24,9 @@ import jakarta.interceptor.InvocationContext;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.Arrays2;
 import org.jboss.weld.util.collections.ImmutableList;
+import org.jboss.weld.util.reflection.MethodInvoker;
 
 /**
  * @author Marius Bogoevici
@@ -37,7 +38,7 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
     private final boolean targetClass;
     private final InterceptionType interceptionType;
 
-    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass) {
+    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<MethodInvoker> interceptorMethods, boolean targetClass) {
         this.instance = instance;
         this.interceptionType = interceptionType;
         this.targetClass = targetClass;
@@ -47,7 +48,7 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
             interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0)));
         } else {
             ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
-            for (Method method : interceptorMethods) {
+            for (MethodInvoker method : interceptorMethods) {
                 builder.add(new SimpleMethodInvocation(method));
             }
             interceptorMethodInvocations = builder.build();
@@ -61,9 +62,9 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
 
     class SimpleMethodInvocation implements InterceptorMethodInvocation {
 
-        private final Method method;
+        private final MethodInvoker method;
 
-        SimpleMethodInvocation(Method method) {
+        SimpleMethodInvocation(MethodInvoker method) {
             this.method = method;
         }
 
@@ -73,7 +74,7 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
                 return method.invoke(instance, invocationContext);
             }
             else {
-                return method.invoke(instance);
+                return method.invoke(instance, Arrays2.EMPTY_ARRAY);
             }
         }
 
@@ -84,7 +85,7 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
 
         @Override
         public String toString() {
-            return "SimpleMethodInvocation [method=" + method + ']';
+            return "SimpleMethodInvocation [method=" + method.getMethod() + ']';
         }
     }
 }
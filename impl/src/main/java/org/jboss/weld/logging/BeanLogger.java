@@ -546,4 +546,24 @@ public interface BeanLogger extends WeldLogger {
     @LogMessage(level = Level.INFO)
     @Message(id = 1577, value = "Detected private final method: {1}\non an intercepted bean: {0}\nWeld will ignore this method during interception.", format = Format.MESSAGE_FORMAT)
     void privateFinalMethodOnInterceptedBean(Object beanClass, Object method);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1578, value = "Loaded pre-generated proxy class {0}", format = Format.MESSAGE_FORMAT)
+    void loadedPregeneratedProxyClass(Object proxyClassName);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1579, value = "Unable to load pre-generated proxy class {0}, the proxy class will be generated at runtime", format = Format.MESSAGE_FORMAT)
+    void unableToLoadPregeneratedProxyClass(Object proxyClassName, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1580, value = "Unable to read pre-generated proxy index {0}", format = Format.MESSAGE_FORMAT)
+    void unableToReadPregeneratedProxyIndex(Object url, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1581, value = "Pre-generated proxy class {0} does not match the current version of {1}, the proxy class will be generated at runtime", format = Format.MESSAGE_FORMAT)
+    void stalePregeneratedProxyClass(Object proxyClassName, Object beanClass);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1582, value = "Ignoring invalid entry \"{0}\" of pre-generated proxy index {1}, each entry must consist of a class name and a fingerprint", format = Format.MESSAGE_FORMAT)
+    void invalidPregeneratedProxyIndexEntry(Object entry, Object url);
 }
@@ -339,4 +339,16 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 181, value = "org.jboss.weld.executor.threadPoolType=COMMON detected but ForkJoinPool.commonPool() does not work with SecurityManager enabled, switching to {0} thread pool", format = Format.MESSAGE_FORMAT)
     void commonThreadPoolWithSecurityManagerEnabled(Object threadPoolType);
 
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 182, value = "org.jboss.weld.executor.threadPoolType=VIRTUAL detected but virtual threads are not supported by the current runtime, switching to {0} thread pool", format = Format.MESSAGE_FORMAT)
+    void virtualThreadsNotSupported(Object threadPoolType);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 183, value = "Removed {0} unused beans, {1} beans retained in {2}", format = Format.MESSAGE_FORMAT)
+    void unusedBeansRemoved(Object removed, Object retained, Object beanManager);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 184, value = "{0} is set but JDK Flight Recorder events are not supported by the current runtime: {1}", format = Format.MESSAGE_FORMAT)
+    void flightRecorderNotSupported(Object property, Object reason);
+
 }
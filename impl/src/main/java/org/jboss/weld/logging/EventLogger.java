@@ -113,4 +113,12 @@ public interface EventLogger extends WeldLogger {
 
     @Message(id = 422, value = "WeldEvent.select(Type subtype, Annotation... qualifiers) can be invoked only on an instance of WeldEvent<Object>.", format = Format.MESSAGE_FORMAT)
     IllegalStateException selectByTypeOnlyWorksOnObject();
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 423, value = "TransactionSynchronizationRegistry is not available in JNDI under {0} - a transaction synchronization is registered for each event fired within a transaction", format = Format.MESSAGE_FORMAT)
+    void transactionSynchronizationRegistryNotAvailable(Object jndiName);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 424, value = "Transactional observer notifications: {0} synchronizations registered, {1} notifications deferred, {2} notifications coalesced", format = Format.MESSAGE_FORMAT)
+    void transactionalEventStatistics(Object synchronizations, Object deferred, Object coalesced);
 }
@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -677,10 +678,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     public Object getReference(Bean<?> bean, Type requestedType, CreationalContext<?> creationalContext, boolean noProxy) {
-        if (creationalContext instanceof CreationalContextImpl<?>) {
-            creationalContext = ((CreationalContextImpl<?>) creationalContext).getCreationalContext(bean);
-        }
         if (!noProxy && isProxyRequired(bean)) {
+            // The client proxy is shared - there is no need to create a child creational context
             if (creationalContext != null || ContextualInstance.getIfExists(bean, this) != null) {
                 if (requestedType == null) {
                     return clientProxyProvider.getClientProxy(bean);
@@ -691,11 +690,19 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                 return null;
             }
         } else {
+            if (creationalContext instanceof CreationalContextImpl<?>) {
+                creationalContext = ((CreationalContextImpl<?>) creationalContext).getCreationalContext(bean);
+            }
             return ContextualInstance.get(bean, this, creationalContext);
         }
     }
 
-    private boolean isProxyRequired(Bean<?> bean) {
+    /**
+     *
+     * @param bean
+     * @return <code>true</code> if a contextual reference to the given bean is a client proxy, <code>false</code> otherwise
+     */
+    public boolean isProxyRequired(Bean<?> bean) {
         if (bean instanceof RIBean<?>) {
             return ((RIBean<?>) bean).isProxyRequired();
         } else {
@@ -708,9 +715,13 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         Preconditions.checkArgumentNotNull(bean, "bean");
         Preconditions.checkArgumentNotNull(requestedType, "requestedType");
         Preconditions.checkArgumentNotNull(creationalContext, CREATIONAL_CONTEXT);
-        if (!BeanTypeAssignabilityRules.instance().matches(requestedType, bean.getTypes())) {
+        if (!bean.getTypes().contains(requestedType) && !BeanTypeAssignabilityRules.instance().matches(requestedType, bean.getTypes())) {
             throw BeanManagerLogger.LOG.specifiedTypeNotBeanType(requestedType, bean);
         }
+        if (isProxyRequired(bean)) {
+            // Obtaining a client proxy never creates a contextual instance so the injection point does not matter
+            return getReference(bean, requestedType, creationalContext, false);
+        }
         // Ensure that there is no injection point associated
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(EmptyInjectionPoint.INSTANCE);
         try {
@@ -746,8 +757,9 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         Preconditions.checkArgumentNotNull(resolvedBean, "resolvedBean");
         Preconditions.checkArgumentNotNull(creationalContext, CREATIONAL_CONTEXT);
 
-        boolean registerInjectionPoint = isRegisterableInjectionPoint(injectionPoint);
         boolean delegateInjectionPoint = injectionPoint != null && injectionPoint.isDelegate();
+        // The injection point is not needed if a client proxy is returned
+        boolean registerInjectionPoint = isRegisterableInjectionPoint(injectionPoint) && (delegateInjectionPoint || !isProxyRequired(resolvedBean));
 
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.pushConditionally(injectionPoint, registerInjectionPoint);
         try {
@@ -1586,6 +1598,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
             // Init exclude patterns
             Pattern excludeAnnotation = excludeAnnotationProperty.isEmpty() ? null : Pattern.compile(excludeAnnotationProperty);
             Pattern excludeType = UnusedBeans.excludeNone(excludeTypeProperty) ? null : Pattern.compile(excludeTypeProperty);
+            boolean reachability = getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.UNUSED_BEANS_REACHABILITY);
             Validator validator = getServices().get(Validator.class);
             // Build bean to declared producers and declared observers maps
             SetMultimap<Bean<?>, AbstractProducerBean<?, ?, ?>> beanToDeclaredProducers = SetMultimap.newSetMultimap();
@@ -1629,8 +1642,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                 if (beanToDeclaredProducers.containsKey(bean)) {
                     continue;
                 }
-                // Is resolved for an injection point
-                if (validator.isResolved(bean) || (metadataExtension != null
+                // Is resolved for an injection point - if reachability is enabled, injection points of beans are considered later
+                if ((reachability ? validator.isResolvedForNonContextual(bean) : validator.isResolved(bean)) || (metadataExtension != null
                         && (metadataExtension.isInjectedByEEComponent(bean, this) || metadataExtension.isInstanceResolvedBean(bean, this)))) {
                     continue;
                 }
@@ -1642,7 +1655,6 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                 if (bean instanceof AbstractProducerBean) {
                     unusedProducers.add(bean);
                 }
-                BootstrapLogger.LOG.dropUnusedBeanMetadata(bean);
                 removable.add(bean);
             }
 
@@ -1653,12 +1665,30 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                     if (!unusedProducers.containsAll(beanToDeclaredProducers.get(bean))) {
                         continue;
                     }
-                    BootstrapLogger.LOG.dropUnusedBeanMetadata(bean);
                     removable.add(bean);
                 }
             }
 
+            if (reachability) {
+                // A candidate is used if it is injected into a bean which is not removable or if it declares a producer which is not removable
+                boolean changed;
+                do {
+                    changed = false;
+                    for (Iterator<Bean<?>> iterator = removable.iterator(); iterator.hasNext();) {
+                        Bean<?> bean = iterator.next();
+                        if (isUsedByRetainedBean(bean, removable, validator, beanToDeclaredProducers)) {
+                            iterator.remove();
+                            changed = true;
+                        }
+                    }
+                } while (changed);
+            }
+
             if (!removable.isEmpty()) {
+                for (Bean<?> bean : removable) {
+                    BootstrapLogger.LOG.dropUnusedBeanMetadata(bean);
+                }
+                BootstrapLogger.LOG.unusedBeansRemoved(removable.size(), enabledBeans.size() - removable.size(), this);
                 // First remove unused beans from BeanManager
                 enabledBeans.removeAll(removable);
                 sharedBeans.removeAll(removable);
@@ -1672,6 +1702,23 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         }
     }
 
+    private boolean isUsedByRetainedBean(Bean<?> bean, Set<Bean<?>> removable, Validator validator,
+            SetMultimap<Bean<?>, AbstractProducerBean<?, ?, ?>> beanToDeclaredProducers) {
+        for (Bean<?> injectionPointBean : validator.getInjectionPointBeans(bean)) {
+            if (!removable.contains(Beans.unwrap(injectionPointBean))) {
+                return true;
+            }
+        }
+        if (beanToDeclaredProducers.containsKey(bean)) {
+            for (AbstractProducerBean<?, ?, ?> producer : beanToDeclaredProducers.get(bean)) {
+                if (!removable.contains(producer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private void cleanupBeansAfterBoot(Iterable<Bean<?>> beans) {
         for (Bean<?> bean : beans) {
             if (bean instanceof RIBean<?>) {
@@ -22,12 +22,15 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -59,14 +62,26 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     // The beans to search
     private final Iterable<? extends T> allBeans;
     private final ResolvableToBeanCollection<R, T, C, F> resolverFunction;
+    // Incremented whenever the cached resolutions are reset
+    private final AtomicLong version;
 
     /**
      * Constructor
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
-        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .setEvictionPolicy(EvictionPolicy.LRU).recordStats().build(resolverFunction);
         this.allBeans = allBeans;
+        this.version = new AtomicLong();
+    }
+
+    /**
+     *
+     * @return the statistics of the resolution cache
+     */
+    public CacheStatistics getCacheStatistics() {
+        return resolved.getStatistics();
     }
 
     /**
@@ -74,6 +89,17 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      */
     public void clear() {
         this.resolved.clear();
+        this.version.incrementAndGet();
+    }
+
+    /**
+     * The version changes whenever the cached resolutions are reset, e.g. because a bean was added. Components which cache the result of a resolution
+     * may use the version to detect that the result is stale.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     /**
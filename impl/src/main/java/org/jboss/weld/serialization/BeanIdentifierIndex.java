@@ -152,6 +152,14 @@ public class BeanIdentifierIndex implements Service {
         return indexBuilt.get();
     }
 
+    /**
+     * @return the number of identifiers in the index
+     */
+    public int size() {
+        checkIsBuilt();
+        return index.length;
+    }
+
     /**
      * @return <code>true</code> if the index is empty, <code>false</code> otherwise
      */
@@ -57,6 +57,7 @@ import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.security.GetDeclaredMethodsAction;
 import org.jboss.weld.util.collections.ImmutableSet;
+import org.jboss.weld.util.jfr.FlightRecorder;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -163,7 +164,9 @@ public class Observers {
      * @param metadata May be null
      */
     public static <T> void notify(ObserverMethod<? super T> observerMethod, T event, EventMetadata metadata) {
+        Object notification = FlightRecorder.instance().beginObserverNotification();
         observerMethod.notify(new EventContextImpl<>(event, metadata));
+        FlightRecorder.instance().endObserverNotification(notification, observerMethod, event);
     }
 
     private static boolean hasNotifyOverriden(Class<?> clazz, ObserverMethod<?> observerMethod) {
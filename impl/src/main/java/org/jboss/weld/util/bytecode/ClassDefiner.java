@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.bytecode;
+
+import java.security.ProtectionDomain;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.serialization.spi.ProxyServices;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Implementations of this interface are capable of defining a generated class (e.g. a client proxy or an enhanced subclass) in a given class loader.
+ * A class definer is only used if the {@link ProxyServices} implementation does not support class defining, otherwise the integrator is responsible
+ * for defining the class.
+ *
+ * @see ReflectiveClassDefiner
+ * @see LookupClassDefiner
+ */
+public interface ClassDefiner extends Service {
+
+    /**
+     * Defines a new class. The generated class must remain loadable by its name through the given class loader.
+     *
+     * @param originalClass the class the generated class is derived from
+     * @param className the binary name of the generated class
+     * @param bytecode the bytecode of the generated class
+     * @param loader the class loader used to define the class
+     * @param domain the protection domain for the class, may be null
+     * @return the defined class
+     */
+    Class<?> defineClass(Class<?> originalClass, String className, byte[] bytecode, ClassLoader loader, ProtectionDomain domain);
+
+    @Override
+    default void cleanup() {
+    }
+
+    class Factory {
+
+        private Factory() {
+        }
+
+        /**
+         * Obtains a ClassDefiner based on given {@link WeldConfiguration}.
+         *
+         * @param configuration
+         * @return class definer
+         */
+        public static ClassDefiner create(WeldConfiguration configuration) {
+            ClassDefiner result;
+            String definer = configuration.getStringProperty(ConfigurationKey.PROXY_CLASS_DEFINER);
+            if (definer.isEmpty() || ReflectiveClassDefiner.class.getName().equals(definer)) {
+                result = ReflectiveClassDefiner.INSTANCE;
+            } else if (LookupClassDefiner.class.getName().equals(definer)) {
+                result = new LookupClassDefiner();
+            } else {
+                Class<? extends ClassDefiner> clazz = Reflections.loadClass(definer, new ClassLoaderResourceLoader(ClassDefiner.class.getClassLoader()));
+                if (clazz == null) {
+                    throw new WeldException("Unable to load ClassDefiner implementation: " + definer);
+                }
+                try {
+                    result = clazz.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new WeldException("Unable to instantiate ClassDefiner implementation: " + definer, e);
+                }
+            }
+            BootstrapLogger.LOG.debugv("Using class definer: {0}", result.getClass().getName());
+            return result;
+        }
+    }
+
+}
@@ -97,16 +97,37 @@ public class ClassFileUtils {
      *               <code>java.lang.ClassLoader</code> is
      */
     public static Class<?> toClass(ClassFile ct, ClassLoader loader, ProtectionDomain domain) {
+        byte[] b;
+        try {
+            b = ct.toBytecode();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return toClass(ct.getName(), b, loader, domain);
+    }
+
+    /**
+     * Defines a class from the given bytecode using the given class loader. Since a private method on the class loader is invoked through the
+     * reflection API, {@link #makeClassLoaderMethodsAccessible()} must be called first.
+     *
+     * @param name the binary name of the class
+     * @param b the bytecode
+     * @param loader the class loader used to define the class
+     * @param domain the protection domain for the class, may be null
+     * @see #toClass(ClassFile, ClassLoader, ProtectionDomain)
+     */
+    public static Class<?> toClass(String name, byte[] b, ClassLoader loader, ProtectionDomain domain) {
         try {
-            byte[] b = ct.toBytecode();
             java.lang.reflect.Method method;
             Object[] args;
             if (domain == null) {
                 method = defineClass1;
-                args = new Object[] { ct.getName(), b, 0, b.length };
+                args = new Object[] { name, b, 0, b.length };
             } else {
                 method = defineClass2;
-                args = new Object[] { ct.getName(), b, 0, b.length, domain };
+                args = new Object[] { name, b, 0, b.length, domain };
             }
 
             return toClass2(method, loader, args);
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.bytecode;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.security.AccessController;
+import java.security.ProtectionDomain;
+
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.security.GetProtectionDomainAction;
+
+/**
+ * A {@link ClassDefiner} which defines a class through {@code MethodHandles.privateLookupIn(originalClass, lookup).defineClass(bytecode)}, i.e. without
+ * cracking open {@code ClassLoader#defineClass()}. This is only possible on Java 9+ and if the generated class has the same package, class loader and
+ * protection domain as the original class. Otherwise the definition is delegated to {@link ReflectiveClassDefiner}.
+ *
+ * <p>
+ * Hidden classes are not used on purpose - a generated proxy class must be loadable by its name, e.g. during deserialization.
+ * </p>
+ */
+public class LookupClassDefiner implements ClassDefiner {
+
+    private final MethodHandle privateLookupIn;
+
+    private final MethodHandle defineClass;
+
+    public LookupClassDefiner() {
+        MethodHandle privateLookupIn = null;
+        MethodHandle defineClass = null;
+        try {
+            Lookup lookup = MethodHandles.publicLookup();
+            privateLookupIn = lookup.findStatic(MethodHandles.class, "privateLookupIn", MethodType.methodType(Lookup.class, Class.class, Lookup.class));
+            defineClass = lookup.findVirtual(Lookup.class, "defineClass", MethodType.methodType(Class.class, byte[].class));
+        } catch (ReflectiveOperationException e) {
+            // Java 8
+            BootstrapLogger.LOG.catchingDebug(e);
+        }
+        this.privateLookupIn = privateLookupIn;
+        this.defineClass = defineClass;
+    }
+
+    @Override
+    public Class<?> defineClass(Class<?> originalClass, String className, byte[] bytecode, ClassLoader loader, ProtectionDomain domain) {
+        if (isApplicable(originalClass, className, loader, domain)) {
+            try {
+                Lookup lookup = (Lookup) privateLookupIn.invoke(originalClass, MethodHandles.lookup());
+                return (Class<?>) defineClass.invoke(lookup, bytecode);
+            } catch (IllegalAccessException e) {
+                // The package of the original class is not open to Weld
+                BootstrapLogger.LOG.catchingDebug(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return ReflectiveClassDefiner.INSTANCE.defineClass(originalClass, className, bytecode, loader, domain);
+    }
+
+    private boolean isApplicable(Class<?> originalClass, String className, ClassLoader loader, ProtectionDomain domain) {
+        if (defineClass == null || originalClass.isArray() || originalClass.isPrimitive() || originalClass.getClassLoader() != loader) {
+            return false;
+        }
+        if (!getPackageName(originalClass.getName()).equals(getPackageName(className))) {
+            return false;
+        }
+        return domain == null || domain == AccessController.doPrivileged(new GetProtectionDomainAction(originalClass));
+    }
+
+    private static String getPackageName(String className) {
+        int idx = className.lastIndexOf('.');
+        return idx == -1 ? "" : className.substring(0, idx);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+/**
+ * An immutable snapshot of {@link ComputingCache} statistics. Hits, misses and evictions are only counted if the cache was built with
+ * {@link ComputingCacheBuilder#recordStats()}, otherwise these values are always zero.
+ *
+ * @see ComputingCache#getStatistics()
+ */
+public final class CacheStatistics {
+
+    private final long size;
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    CacheStatistics(long size, long hitCount, long missCount, long evictionCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     *
+     * @return the number of entries at the time the snapshot was taken
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     *
+     * @return the number of lookups which found a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     *
+     * @return the number of lookups which had to compute the value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     *
+     * @return the number of entries discarded because the cache exceeded its maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     *
+     * @return the ratio of hits to all lookups, or {@code 1.0} if there were no lookups at all
+     */
+    public double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [size=" + size + ", hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+    }
+
+}
@@ -79,4 +79,11 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     *
+     * @return a snapshot of the cache statistics
+     * @see ComputingCacheBuilder#recordStats()
+     */
+    CacheStatistics getStatistics();
+
 }
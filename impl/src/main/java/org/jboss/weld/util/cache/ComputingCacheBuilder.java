@@ -19,6 +19,7 @@ package org.jboss.weld.util.cache;
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
 
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +34,10 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    private boolean recordStats;
+
     private ComputingCacheBuilder() {
     }
 
@@ -54,6 +59,29 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * The policy is only taken into account if the maximum size is set.
+     *
+     * @param evictionPolicy
+     * @return self
+     * @see #setMaxSize(long)
+     */
+    public ComputingCacheBuilder setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
+    /**
+     * Hits, misses and evictions should be counted.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStats() {
+        this.recordStats = true;
+        return this;
+    }
+
     /**
      * Values stored in the cache should be wrapped in a {@link WeakReference}.
      *
@@ -71,8 +99,8 @@ public final class ComputingCacheBuilder {
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
         if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize, evictionPolicy, recordStats);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, LazyValueHolder::forSupplier, maxSize, evictionPolicy, recordStats);
     }
 }
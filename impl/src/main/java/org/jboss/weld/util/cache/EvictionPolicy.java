@@ -0,0 +1,37 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+/**
+ * Determines what happens when a bounded {@link ComputingCache} exceeds its maximum size.
+ *
+ * @see ComputingCacheBuilder#setEvictionPolicy(EvictionPolicy)
+ */
+public enum EvictionPolicy {
+
+    /**
+     * The least recently used entries are discarded. Eviction is performed in small batches so that a cache which keeps hitting its bound does not
+     * pay for the eviction on every miss. This is the default policy.
+     */
+    LRU,
+
+    /**
+     * All the entries are discarded at once.
+     */
+    CLEAR,
+
+}
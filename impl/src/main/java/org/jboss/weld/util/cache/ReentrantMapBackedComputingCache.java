@@ -16,11 +16,16 @@
  */
 package org.jboss.weld.util.cache;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -31,6 +36,12 @@ import org.jboss.weld.util.ValueHolder;
 /**
  * A {@link ComputingCache} backed by a {@link ConcurrentHashMap} which intentionally does not use {@link Map#computeIfAbsent(Object, Function)}
  * and is reentrant.
+ * <p>
+ * If the cache is bounded and the {@link EvictionPolicy#LRU} policy is used, each value holder is wrapped so that it remembers the logical time of
+ * its last access. The logical clock only advances on a miss, a hit merely reads it and stamps the entry with a time between the preceding and the
+ * next miss. Therefore, a hit is always ordered after the preceding misses but the hits in between two misses are not ordered among themselves. This
+ * keeps the hit path free of contended writes. Once the cache exceeds its maximum size, one of the threads evicts the least recently used entries
+ * while other threads proceed without waiting.
  *
  * @author Jozef Hartinger
  *
@@ -41,24 +52,55 @@ import org.jboss.weld.util.ValueHolder;
  */
 class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
 
+    // An LRU cache evicts this fraction of its maximum size at once so that the eviction cost is amortized
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
     private final ConcurrentMap<K, ValueHolder<V>> map;
     private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
+    private final EvictionPolicy evictionPolicy;
 
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
+    // LRU only, a miss advances the clock by two so that a hit may use the time in between
+    private final AtomicLong clock;
+    private final Lock evictionLock;
+
+    // null if stats are not recorded
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
 
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize,
+            EvictionPolicy evictionPolicy, boolean recordStats) {
         this.map = new ConcurrentHashMap<>();
         this.maxSize = maxSize;
-        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.evictionPolicy = maxSize != null ? evictionPolicy : null;
+        if (EvictionPolicy.LRU.equals(this.evictionPolicy)) {
+            this.clock = new AtomicLong();
+            this.evictionLock = new ReentrantLock();
+            this.function = (key) -> new AccessOrderedValueHolder<>(valueHolderFunction.apply(() -> computingFunction.apply(key)), clock.addAndGet(2));
+        } else {
+            this.clock = null;
+            this.evictionLock = null;
+            this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        }
+        if (recordStats) {
+            this.hitCount = new LongAdder();
+            this.missCount = new LongAdder();
+            this.evictionCount = new LongAdder();
+        } else {
+            this.hitCount = null;
+            this.missCount = null;
+            this.evictionCount = null;
+        }
     }
 
     @Override
     public V getValue(final K key) {
         ValueHolder<V> value = map.get(key);
         if (value == null) {
+            if (missCount != null) {
+                missCount.increment();
+            }
             value = function.apply(key);
             ValueHolder<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
@@ -66,12 +108,69 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             }
             // finally, check that we are not over the bound
             if (maxSize != null && size() > maxSize) {
-                clear();
+                evict();
+            }
+        } else {
+            if (hitCount != null) {
+                hitCount.increment();
+            }
+            if (clock != null) {
+                ((AccessOrderedValueHolder<V>) value).touch(clock.get() + 1);
             }
         }
         return value.get();
     }
 
+    private void evict() {
+        if (EvictionPolicy.CLEAR.equals(evictionPolicy)) {
+            long size = size();
+            clear();
+            if (evictionCount != null) {
+                evictionCount.add(size);
+            }
+            return;
+        }
+        // Only one thread evicts, the others do not wait for it
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int size = map.size();
+            if (size <= maxSize) {
+                return;
+            }
+            long target = Math.max(0, maxSize - Math.max(1, maxSize / EVICTION_BATCH_DIVISOR));
+            // Access times may change concurrently so take a snapshot first and find the newest access time to be evicted
+            long[] accessTimes = new long[size];
+            int idx = 0;
+            for (ValueHolder<V> holder : map.values()) {
+                if (idx == size) {
+                    break;
+                }
+                accessTimes[idx++] = ((AccessOrderedValueHolder<V>) holder).lastAccess;
+            }
+            Arrays.sort(accessTimes, 0, idx);
+            int toEvict = (int) Math.min(idx, size - target);
+            if (toEvict <= 0) {
+                return;
+            }
+            long threshold = accessTimes[toEvict - 1];
+            long evicted = 0;
+            for (Iterator<Map.Entry<K, ValueHolder<V>>> iterator = map.entrySet().iterator(); iterator.hasNext() && evicted < toEvict;) {
+                Map.Entry<K, ValueHolder<V>> entry = iterator.next();
+                // Do not remove the entry if it was replaced or accessed in the meantime
+                if (((AccessOrderedValueHolder<V>) entry.getValue()).lastAccess <= threshold && map.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+            if (evictionCount != null) {
+                evictionCount.add(evicted);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getCastValue(Object key) {
@@ -122,6 +221,14 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         }
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        if (hitCount == null) {
+            return new CacheStatistics(size(), 0, 0, 0);
+        }
+        return new CacheStatistics(size(), hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
     @Override
     public Iterator<V> iterator() {
         return new Iterator<V>() {
@@ -155,4 +262,43 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             }
         };
     }
+
+    /**
+     * Wraps the original value holder and keeps the logical time of the last access.
+     *
+     * @param <V> the value type
+     */
+    private static final class AccessOrderedValueHolder<V> implements ValueHolder<V> {
+
+        private final ValueHolder<V> delegate;
+
+        private volatile long lastAccess;
+
+        AccessOrderedValueHolder(ValueHolder<V> delegate, long lastAccess) {
+            this.delegate = delegate;
+            this.lastAccess = lastAccess;
+        }
+
+        void touch(long time) {
+            // Avoid the write if a hot entry was already accessed since the last miss
+            if (lastAccess < time) {
+                lastAccess = time;
+            }
+        }
+
+        @Override
+        public V get() {
+            return delegate.get();
+        }
+
+        @Override
+        public V getIfPresent() {
+            return delegate.getIfPresent();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(delegate.getIfPresent());
+        }
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Creation of a contextual instance, including injection and post construct callbacks.
+ */
+@Name("org.jboss.weld.BeanInstantiation")
+@Label("Bean Instantiation")
+@Category({ "Weld", "Runtime" })
+@Description("Creation of a contextual instance, including injection and post construct callbacks.")
+@StackTrace(false)
+final class BeanInstantiationEvent extends Event {
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Scope")
+    Class<?> scope;
+
+}
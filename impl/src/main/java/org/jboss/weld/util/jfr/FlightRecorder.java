@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.jfr;
+
+import java.lang.annotation.Annotation;
+import java.security.AccessController;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.security.GetSystemPropertyAction;
+
+/**
+ * Emits JDK Flight Recorder events for bootstrap operations, bean instantiation, context activation, observer notification and proxy class generation.
+ *
+ * <p>
+ * The events are only emitted if the {@value #ENABLED_SYSTEM_PROPERTY} system property is set to <code>true</code> and the runtime supports JDK Flight
+ * Recorder. Otherwise, a no-op implementation is used. The duration events follow the same pattern: the <code>begin</code> method returns a token which
+ * is then passed to the corresponding <code>end</code> method. The token is <code>null</code> if the event is not recorded at the moment, so that no
+ * event object is allocated unless a recording is running.
+ * </p>
+ *
+ * <pre>
+ * Object event = FlightRecorder.instance().beginBeanInstantiation();
+ * T instance = contextual.create(creationalContext);
+ * FlightRecorder.instance().endBeanInstantiation(event, contextual);
+ * </pre>
+ */
+public abstract class FlightRecorder {
+
+    public static final String ENABLED_SYSTEM_PROPERTY = "org.jboss.weld.flightRecorder.enabled";
+
+    private static final FlightRecorder NOOP = new NoopFlightRecorder();
+
+    private static final FlightRecorder INSTANCE = create(Boolean.parseBoolean(AccessController.doPrivileged(new GetSystemPropertyAction(
+            ENABLED_SYSTEM_PROPERTY))));
+
+    /**
+     *
+     * @return the shared instance
+     */
+    public static FlightRecorder instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Most callers should use {@link #instance()} instead.
+     *
+     * @param enabled
+     * @return a new recorder emitting JDK Flight Recorder events if enabled and supported, a no-op recorder otherwise
+     */
+    public static FlightRecorder create(boolean enabled) {
+        if (!enabled) {
+            return NOOP;
+        }
+        try {
+            // jdk.jfr is not available on every Java 8 runtime
+            return JfrFlightRecorder.create();
+        } catch (LinkageError | RuntimeException e) {
+            BootstrapLogger.LOG.flightRecorderNotSupported(ENABLED_SYSTEM_PROPERTY, e.toString());
+            return NOOP;
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if this recorder emits JDK Flight Recorder events, <code>false</code> otherwise
+     */
+    public abstract boolean isEnabled();
+
+    /**
+     *
+     * @return the token passed to {@link #endBootstrapOperation(Object, String)}
+     */
+    public abstract Object beginBootstrapOperation();
+
+    /**
+     *
+     * @param token
+     * @param operation the name of the operation, including the names of the enclosing operations
+     */
+    public abstract void endBootstrapOperation(Object token, String operation);
+
+    /**
+     *
+     * @return the token passed to {@link #endBeanInstantiation(Object, Contextual)}
+     */
+    public abstract Object beginBeanInstantiation();
+
+    public abstract void endBeanInstantiation(Object token, Contextual<?> contextual);
+
+    /**
+     *
+     * @return the token passed to {@link #endObserverNotification(Object, ObserverMethod, Object)}
+     */
+    public abstract Object beginObserverNotification();
+
+    public abstract void endObserverNotification(Object token, ObserverMethod<?> observerMethod, Object event);
+
+    /**
+     *
+     * @return the token passed to {@link #endProxyClassGeneration(Object, String)}
+     */
+    public abstract Object beginProxyClassGeneration();
+
+    public abstract void endProxyClassGeneration(Object token, String proxyClassName);
+
+    /**
+     *
+     * @param scope
+     * @param activated <code>true</code> if the context was activated, <code>false</code> if it was deactivated
+     */
+    public abstract void contextActivationChanged(Class<? extends Annotation> scope, boolean activated);
+
+    private static class NoopFlightRecorder extends FlightRecorder {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public Object beginBootstrapOperation() {
+            return null;
+        }
+
+        @Override
+        public void endBootstrapOperation(Object token, String operation) {
+        }
+
+        @Override
+        public Object beginBeanInstantiation() {
+            return null;
+        }
+
+        @Override
+        public void endBeanInstantiation(Object token, Contextual<?> contextual) {
+        }
+
+        @Override
+        public Object beginObserverNotification() {
+            return null;
+        }
+
+        @Override
+        public void endObserverNotification(Object token, ObserverMethod<?> observerMethod, Object event) {
+        }
+
+        @Override
+        public Object beginProxyClassGeneration() {
+            return null;
+        }
+
+        @Override
+        public void endProxyClassGeneration(Object token, String proxyClassName) {
+        }
+
+        @Override
+        public void contextActivationChanged(Class<? extends Annotation> scope, boolean activated) {
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.jfr;
+
+import java.lang.annotation.Annotation;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import jdk.jfr.EventType;
+
+/**
+ * {@link FlightRecorder} backed by JDK Flight Recorder custom events. This class must not be loaded unless the {@code jdk.jfr} module is available.
+ */
+final class JfrFlightRecorder extends FlightRecorder {
+
+    private final EventType bootstrapOperation;
+
+    private final EventType beanInstantiation;
+
+    private final EventType observerNotification;
+
+    private final EventType proxyClassGeneration;
+
+    private final EventType contextActivation;
+
+    private JfrFlightRecorder() {
+        this.bootstrapOperation = EventType.getEventType(BootstrapOperationEvent.class);
+        this.beanInstantiation = EventType.getEventType(BeanInstantiationEvent.class);
+        this.observerNotification = EventType.getEventType(ObserverNotificationEvent.class);
+        this.proxyClassGeneration = EventType.getEventType(ProxyClassGenerationEvent.class);
+        this.contextActivation = EventType.getEventType(ContextActivationEvent.class);
+    }
+
+    static FlightRecorder create() {
+        if (!jdk.jfr.FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("JDK Flight Recorder is not available");
+        }
+        return new JfrFlightRecorder();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Object beginBootstrapOperation() {
+        if (!bootstrapOperation.isEnabled()) {
+            return null;
+        }
+        BootstrapOperationEvent event = new BootstrapOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endBootstrapOperation(Object token, String operation) {
+        if (token != null) {
+            BootstrapOperationEvent event = (BootstrapOperationEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public Object beginBeanInstantiation() {
+        if (!beanInstantiation.isEnabled()) {
+            return null;
+        }
+        BeanInstantiationEvent event = new BeanInstantiationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endBeanInstantiation(Object token, Contextual<?> contextual) {
+        if (token != null) {
+            BeanInstantiationEvent event = (BeanInstantiationEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                if (contextual instanceof Bean<?>) {
+                    Bean<?> bean = (Bean<?>) contextual;
+                    event.beanClass = bean.getBeanClass();
+                    event.scope = bean.getScope();
+                } else {
+                    event.beanClass = contextual.getClass();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public Object beginObserverNotification() {
+        if (!observerNotification.isEnabled()) {
+            return null;
+        }
+        ObserverNotificationEvent event = new ObserverNotificationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endObserverNotification(Object token, ObserverMethod<?> observerMethod, Object event) {
+        if (token != null) {
+            ObserverNotificationEvent notification = (ObserverNotificationEvent) token;
+            notification.end();
+            if (notification.shouldCommit()) {
+                notification.observerClass = observerMethod.getBeanClass();
+                notification.eventClass = event != null ? event.getClass() : null;
+                notification.async = observerMethod.isAsync();
+                notification.commit();
+            }
+        }
+    }
+
+    @Override
+    public Object beginProxyClassGeneration() {
+        if (!proxyClassGeneration.isEnabled()) {
+            return null;
+        }
+        ProxyClassGenerationEvent event = new ProxyClassGenerationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endProxyClassGeneration(Object token, String proxyClassName) {
+        if (token != null) {
+            ProxyClassGenerationEvent event = (ProxyClassGenerationEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.proxyClassName = proxyClassName;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void contextActivationChanged(Class<? extends Annotation> scope, boolean activated) {
+        if (contextActivation.isEnabled()) {
+            ContextActivationEvent event = new ContextActivationEvent();
+            event.scope = scope;
+            event.activated = activated;
+            event.commit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JfrFlightRecorder [bootstrapOperation=" + bootstrapOperation.isEnabled() + ", beanInstantiation=" + beanInstantiation.isEnabled()
+                + ", observerNotification=" + observerNotification.isEnabled() + ", proxyClassGeneration=" + proxyClassGeneration.isEnabled()
+                + ", contextActivation=" + contextActivation.isEnabled() + "]";
+    }
+
+}
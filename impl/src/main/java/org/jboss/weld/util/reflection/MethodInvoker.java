@@ -0,0 +1,223 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.security.SetAccessibleAction;
+import org.jboss.weld.util.Primitives;
+
+/**
+ * Invokes a method either reflectively or through a {@link MethodHandle} bound to the method. The method handle is adapted to a generic
+ * signature so that the invocation of a method with a single parameter (typically an observer method with the event parameter only)
+ * does not require a parameter array. If the method handle cannot be created, the method is invoked reflectively.
+ *
+ * <p>
+ * Exceptions thrown by the method are wrapped in {@link InvocationTargetException} in both cases. The receiver and the parameters are checked before the
+ * method handle is invoked. If the check fails, e.g. because of a parameter of a wrong type, the method is invoked reflectively so that the failure is
+ * reported in the same way, i.e. as {@link IllegalArgumentException} or {@link NullPointerException}, and a widening conversion of a primitive
+ * parameter is still supported.
+ * </p>
+ */
+public final class MethodInvoker {
+
+    /**
+     * Invokers of methods which are invoked repeatedly, e.g. the {@code $$super} methods of intercepted subclasses. Stored per declaring class so that
+     * the invokers do not outlive the class.
+     */
+    private static final ClassValue<ConcurrentMap<Method, MethodInvoker>> INVOKERS = new ClassValue<ConcurrentMap<Method, MethodInvoker>>() {
+        @Override
+        protected ConcurrentMap<Method, MethodInvoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<Method, MethodInvoker>();
+        }
+    };
+
+    private static final MethodType SINGLE_PARAMETER_TYPE = MethodType.genericMethodType(2);
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+
+    private final boolean isStatic;
+
+    private final Class<?>[] parameterTypes;
+
+    private final MethodHandle singleParameterHandle;
+
+    private final MethodHandle spreadHandle;
+
+    /**
+     *
+     * @param method the accessible method
+     * @param useMethodHandle if set to false, the method is always invoked reflectively
+     * @return a new invoker
+     */
+    public static MethodInvoker of(Method method, boolean useMethodHandle) {
+        if (useMethodHandle) {
+            try {
+                return new MethodInvoker(method, MethodHandles.lookup().unreflect(method));
+            } catch (IllegalAccessException e) {
+                // Fall back to reflection
+            }
+        }
+        return new MethodInvoker(method, null);
+    }
+
+    /**
+     * Returns the cached invoker for the given method. The method is made accessible first if needed.
+     *
+     * @param method the method
+     * @return the invoker bound to the method
+     */
+    public static MethodInvoker forMethod(Method method) {
+        ConcurrentMap<Method, MethodInvoker> invokers = INVOKERS.get(method.getDeclaringClass());
+        MethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            if (!method.isAccessible()) {
+                if (System.getSecurityManager() != null) {
+                    AccessController.doPrivileged(SetAccessibleAction.of(method));
+                } else {
+                    method.setAccessible(true);
+                }
+            }
+            invoker = of(method, true);
+            MethodInvoker previous = invokers.putIfAbsent(method, invoker);
+            if (previous != null) {
+                invoker = previous;
+            }
+        }
+        return invoker;
+    }
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.parameterTypes = method.getParameterTypes();
+        if (handle == null) {
+            this.singleParameterHandle = null;
+            this.spreadHandle = null;
+        } else {
+            if (isStatic) {
+                // Ignore the receiver
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            int parameterCount = parameterTypes.length;
+            MethodHandle generic = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+            this.singleParameterHandle = parameterCount == 1 ? generic.asType(SINGLE_PARAMETER_TYPE) : null;
+            this.spreadHandle = generic.asSpreader(Object[].class, parameterCount).asType(SPREAD_TYPE);
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     *
+     * @param receiver the instance to receive the method invocation or null if this is a static method
+     * @param parameter the single parameter value
+     * @return the value returned from the method
+     * @throws InvocationTargetException if the method throws an exception
+     * @throws IllegalAccessException
+     */
+    public Object invoke(Object receiver, Object parameter) throws InvocationTargetException, IllegalAccessException {
+        if (singleParameterHandle == null || !isValidReceiver(receiver) || !isValidParameter(0, parameter)) {
+            return invoke(receiver, new Object[] { parameter });
+        }
+        try {
+            return singleParameterHandle.invokeExact(receiver, parameter);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     *
+     * @param receiver the instance to receive the method invocation or null if this is a static method
+     * @param parameters the parameter values
+     * @return the value returned from the method
+     * @throws InvocationTargetException if the method throws an exception
+     * @throws IllegalAccessException
+     */
+    public Object invoke(Object receiver, Object[] parameters) throws InvocationTargetException, IllegalAccessException {
+        if (spreadHandle == null || !isValidReceiver(receiver) || !areValidParameters(parameters)) {
+            return method.invoke(receiver, parameters);
+        }
+        try {
+            return spreadHandle.invokeExact(receiver, parameters);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private boolean isValidReceiver(Object receiver) {
+        return isStatic || method.getDeclaringClass().isInstance(receiver);
+    }
+
+    private boolean areValidParameters(Object[] parameters) {
+        if (parameters == null) {
+            return parameterTypes.length == 0;
+        }
+        if (parameters.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (!isValidParameter(i, parameters[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isValidParameter(int position, Object parameter) {
+        Class<?> type = parameterTypes[position];
+        if (type.isPrimitive()) {
+            // Widening conversions are left to reflection
+            return parameter != null && Primitives.wrap(type) == parameter.getClass();
+        }
+        return parameter == null || type.isInstance(parameter);
+    }
+
+    /**
+     * Invokes the method and unwraps the exception thrown by the method, if any.
+     *
+     * @param receiver the instance to receive the method invocation or null if this is a static method
+     * @param parameters the parameter values
+     * @return the value returned from the method
+     * @throws Throwable the exception thrown by the method
+     * @see Reflections#invokeAndUnwrap(Object, Method, Object...)
+     */
+    public Object invokeAndUnwrap(Object receiver, Object[] parameters) throws Throwable {
+        try {
+            return invoke(receiver, parameters);
+        } catch (IllegalAccessException e) {
+            throw new WeldException(e);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
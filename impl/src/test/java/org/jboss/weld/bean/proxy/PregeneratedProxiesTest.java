@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.jboss.weld.bean.proxy.PregeneratedProxies.Fingerprint;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PregeneratedProxiesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPregeneratedClassLoaded() throws IOException {
+        PregeneratedProxies proxies = new PregeneratedProxies(index(FooProxy.class.getName() + " " + fingerprint(Foo.class)));
+        assertTrue(proxies.contains(FooProxy.class.getName()));
+        assertSame(FooProxy.class, proxies.loadProxyClass(Foo.class, FooProxy.class.getName(), new Fingerprint().addType(Foo.class)));
+    }
+
+    @Test
+    public void testClassNotListed() throws IOException {
+        PregeneratedProxies proxies = new PregeneratedProxies(index(FooProxy.class.getName() + " " + fingerprint(Foo.class)));
+        assertFalse(proxies.contains(BarProxy.class.getName()));
+        assertNull(proxies.loadProxyClass(Bar.class, BarProxy.class.getName(), new Fingerprint().addType(Bar.class)));
+        // The listed class does not exist
+        proxies = new PregeneratedProxies(index("org.jboss.weld.Missing " + fingerprint(Foo.class)));
+        assertNull(proxies.loadProxyClass(Foo.class, "org.jboss.weld.Missing", new Fingerprint().addType(Foo.class)));
+    }
+
+    @Test
+    public void testStaleClassNotLoaded() throws IOException {
+        // The class was generated for a different version of the proxied type
+        PregeneratedProxies proxies = new PregeneratedProxies(index(FooProxy.class.getName() + " " + fingerprint(Bar.class)));
+        assertTrue(proxies.contains(FooProxy.class.getName()));
+        assertNull(proxies.loadProxyClass(Foo.class, FooProxy.class.getName(), new Fingerprint().addType(Foo.class)));
+        // The class remains stale
+        assertNull(proxies.loadProxyClass(Foo.class, FooProxy.class.getName(), new Fingerprint().addType(Bar.class)));
+    }
+
+    @Test
+    public void testEntryWithoutFingerprintIgnored() throws IOException {
+        PregeneratedProxies proxies = new PregeneratedProxies(index("# comment", "", FooProxy.class.getName()));
+        assertTrue(proxies.isEmpty());
+        assertFalse(proxies.contains(FooProxy.class.getName()));
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertEquals(fingerprint(Foo.class), fingerprint(Foo.class));
+        assertNotEquals(fingerprint(Foo.class), fingerprint(Bar.class));
+        assertNotEquals(fingerprint(Foo.class), new Fingerprint().addType(Foo.class).add("intercepted").get());
+        // Supertypes are included
+        assertNotEquals(fingerprint(Foo.class), fingerprint(FooProxy.class));
+        assertEquals(new Fingerprint().addType(FooProxy.class).get(), new Fingerprint().addType(FooProxy.class).addType(Foo.class).get());
+    }
+
+    @Test
+    public void testRecording() {
+        PregeneratedProxies proxies = PregeneratedProxies.recording();
+        assertTrue(proxies.isRecording());
+        assertTrue(proxies.isEmpty());
+        proxies.recordFingerprint(FooProxy.class.getName(), new Fingerprint().addType(Foo.class));
+        assertEquals(Collections.singletonMap(FooProxy.class.getName(), fingerprint(Foo.class)), proxies.getRecordedFingerprints());
+        assertFalse(new PregeneratedProxies(new IndexResourceLoader(Collections.emptyList())).isRecording());
+    }
+
+    private static String fingerprint(Class<?> type) {
+        return new Fingerprint().addType(type).get();
+    }
+
+    private ResourceLoader index(String... lines) throws IOException {
+        File index = folder.newFile();
+        Files.write(index.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return new IndexResourceLoader(Collections.singletonList(index.toURI().toURL()));
+    }
+
+    private static class IndexResourceLoader implements ResourceLoader {
+
+        private final Collection<URL> indexes;
+
+        IndexResourceLoader(Collection<URL> indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public Class<?> classForName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URL getResource(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<URL> getResources(String name) {
+            assertEquals(PregeneratedProxies.INDEX, name);
+            return indexes;
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+    }
+
+    public static class Foo {
+
+        public String ping() {
+            return "foo";
+        }
+
+    }
+
+    public static class FooProxy extends Foo {
+    }
+
+    public static class Bar {
+
+        public String ping(String value) {
+            return value;
+        }
+
+    }
+
+    public static class BarProxy extends Bar {
+    }
+
+}
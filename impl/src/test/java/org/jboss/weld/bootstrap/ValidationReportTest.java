@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bootstrap.ValidationReport.BeanValidationTime;
+import org.junit.Test;
+
+public class ValidationReportTest {
+
+    @Test
+    public void testSlowestBeans() {
+        ValidationReport report = new ValidationReport();
+        List<Bean<?>> beans = new ArrayList<>();
+        List<Integer> times = new ArrayList<>();
+        for (int i = 1; i <= ValidationReport.SLOWEST_BEANS_LIMIT + 5; i++) {
+            beans.add(newBean());
+            times.add(i);
+        }
+        Collections.shuffle(times);
+        for (int i = 0; i < times.size(); i++) {
+            report.record(i % 2 == 0 ? "a" : "b", beans.get(times.get(i) - 1), times.get(i));
+        }
+        List<BeanValidationTime> slowest = report.getSlowestBeans();
+        assertEquals(ValidationReport.SLOWEST_BEANS_LIMIT, slowest.size());
+        // The slowest first
+        for (int i = 0; i < slowest.size(); i++) {
+            long expectedTime = ValidationReport.SLOWEST_BEANS_LIMIT + 5 - i;
+            assertEquals(expectedTime, slowest.get(i).getTime());
+            assertSame(beans.get((int) expectedTime - 1), slowest.get(i).getBean());
+        }
+
+        // Faster beans are recorded again once the report is cleared
+        report.clear();
+        report.record("a", newBean(), 1);
+        assertEquals(1, report.getSlowestBeans().size());
+    }
+
+    @Test
+    public void testArchiveTimes() {
+        ValidationReport report = new ValidationReport();
+        report.record("a", newBean(), 10);
+        report.record("a", null, 5);
+        report.record("b", newBean(), 7);
+        report.record("a", newBean(), 1);
+        Map<String, Long> archiveTimes = report.getArchiveTimes();
+        assertEquals(2, archiveTimes.size());
+        assertEquals(Long.valueOf(16), archiveTimes.get("a"));
+        assertEquals(Long.valueOf(7), archiveTimes.get("b"));
+        // The time which does not belong to a bean is not listed
+        assertEquals(3, report.getSlowestBeans().size());
+        assertEquals("b", report.getSlowestBeans().get(1).getArchiveId());
+
+        report.clear();
+        assertEquals(0, report.getArchiveTimes().size());
+        assertEquals(0, report.getSlowestBeans().size());
+    }
+
+    private static Bean<?> newBean() {
+        return (Bean<?>) Proxy.newProxyInstance(ValidationReportTest.class.getClassLoader(), new Class<?>[] { Bean.class }, (proxy, method, args) -> {
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.contexts.conversation.ConversationRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ConversationRegistry}.
+ */
+public class ConversationRegistryTest {
+
+    @Test
+    public void testPollExpired() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation first = new SimpleConversation("1", 100, 10);
+        SimpleConversation second = new SimpleConversation("2", 100, 50);
+        Assert.assertTrue(registry.register("1", first));
+        Assert.assertTrue(registry.register("2", second));
+        Assert.assertFalse(registry.register("2", second));
+
+        Assert.assertTrue(registry.pollExpired(110).isEmpty());
+        List<ManagedConversation> expired = registry.pollExpired(111);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertSame(first, expired.get(0));
+        // An expired conversation is only returned once
+        Assert.assertTrue(registry.pollExpired(111).isEmpty());
+
+        // The deadline is updated when the conversation is used
+        second.lastUsed = 200;
+        registry.scheduleExpiration("2", second);
+        Assert.assertTrue(registry.pollExpired(200).isEmpty());
+        Assert.assertSame(second, registry.pollExpired(251).get(0));
+    }
+
+    @Test
+    public void testDeadlineVerifiedOnPoll() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation conversation = new SimpleConversation("1", 100, 10);
+        registry.register("1", conversation);
+        // Touched without rescheduling
+        conversation.lastUsed = 150;
+        Assert.assertTrue(registry.pollExpired(120).isEmpty());
+        Assert.assertSame(conversation, registry.pollExpired(161).get(0));
+    }
+
+    @Test
+    public void testDrainEnded() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation first = new SimpleConversation("1", 100, 10);
+        SimpleConversation second = new SimpleConversation("2", 100, 10);
+        registry.register("1", first);
+        registry.register("2", second);
+        Assert.assertTrue(registry.drainEnded().isEmpty());
+
+        first.end();
+        registry.conversationEnded("1");
+        Map<String, ManagedConversation> ended = registry.drainEnded();
+        Assert.assertEquals(1, ended.size());
+        Assert.assertSame(first, ended.get("1"));
+        Assert.assertFalse(registry.containsKey("1"));
+        Assert.assertTrue(registry.containsKey("2"));
+        // A removed conversation does not expire
+        List<ManagedConversation> expired = registry.pollExpired(1000);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertSame(second, expired.get(0));
+    }
+
+    @Test
+    public void testConversationPromotedAgain() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation conversation = new SimpleConversation("1", 100, 10);
+        registry.register("1", conversation);
+        conversation.end();
+        registry.conversationEnded("1");
+        conversation.begin();
+        registry.register("1", conversation);
+        Assert.assertTrue(registry.drainEnded().isEmpty());
+        Assert.assertTrue(registry.containsKey("1"));
+    }
+
+    @Test
+    public void testSweepRemovesUnreportedTransientConversations() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation first = new SimpleConversation("1", 100, 10);
+        SimpleConversation second = new SimpleConversation("2", 100, 10);
+        registry.register("1", first);
+        registry.register("2", second);
+        // Ended without notifying the registry
+        first.end();
+        Assert.assertTrue(registry.drainEnded().isEmpty());
+        Map<String, ManagedConversation> removed = null;
+        for (int i = 0; i < 64 && (removed == null || removed.isEmpty()); i++) {
+            removed = registry.drainEnded();
+        }
+        Assert.assertEquals(1, removed.size());
+        Assert.assertSame(first, removed.get("1"));
+        Assert.assertFalse(registry.containsKey("1"));
+        Assert.assertTrue(registry.containsKey("2"));
+    }
+
+    @Test
+    public void testSweepWhenRegistryGrows() {
+        ConversationRegistry registry = new ConversationRegistry();
+        for (int i = 0; i < 32; i++) {
+            String id = String.valueOf(i);
+            registry.register(id, new SimpleConversation(id, 100, 10));
+        }
+        registry.get("0").end();
+        Map<String, ManagedConversation> removed = registry.drainEnded();
+        Assert.assertEquals(1, removed.size());
+        Assert.assertTrue(removed.containsKey("0"));
+        Assert.assertEquals(31, registry.size());
+    }
+
+    @Test
+    public void testClear() {
+        ConversationRegistry registry = new ConversationRegistry();
+        SimpleConversation conversation = new SimpleConversation("1", 100, 10);
+        registry.register("1", conversation);
+        registry.clear();
+        Assert.assertTrue(registry.isEmpty());
+        // No deadline is left behind
+        registry.put("1", conversation);
+        Assert.assertTrue(registry.pollExpired(1000).isEmpty());
+    }
+
+    @Test
+    public void testOf() {
+        ConversationRegistry legacy = new ConversationRegistry();
+        SimpleConversation conversation = new SimpleConversation("1", 100, 10);
+        legacy.put("1", conversation);
+        ConversationRegistry registry = ConversationRegistry.of(legacy);
+        Assert.assertSame(conversation, registry.get("1"));
+        Assert.assertTrue(registry.pollExpired(110).isEmpty());
+        Assert.assertSame(conversation, registry.pollExpired(111).get(0));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        ConversationRegistry registry = new ConversationRegistry();
+        registry.register("1", new SimpleConversation("1", 100, 10));
+        registry.register("2", new SimpleConversation("2", 100, 50));
+        // Simulate a conversation registered while the registry was serialized
+        registry.put("3", new SimpleConversation("3", 100, 20));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(registry);
+        }
+        ConversationRegistry deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (ConversationRegistry) in.readObject();
+        }
+        Assert.assertEquals(3, deserialized.size());
+        Assert.assertTrue(deserialized.pollExpired(110).isEmpty());
+        Assert.assertEquals("1", deserialized.pollExpired(111).get(0).getId());
+        Assert.assertEquals("3", deserialized.pollExpired(121).get(0).getId());
+        Assert.assertEquals("2", deserialized.pollExpired(151).get(0).getId());
+    }
+
+    private static class SimpleConversation implements ManagedConversation, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String id;
+
+        private final long timeout;
+
+        private long lastUsed;
+
+        private boolean isTransient;
+
+        SimpleConversation(String id, long lastUsed, long timeout) {
+            this.id = id;
+            this.lastUsed = lastUsed;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public void begin() {
+            isTransient = false;
+        }
+
+        @Override
+        public void begin(String id) {
+            isTransient = false;
+        }
+
+        @Override
+        public void end() {
+            isTransient = true;
+        }
+
+        @Override
+        public String getId() {
+            return isTransient ? null : id;
+        }
+
+        @Override
+        public long getTimeout() {
+            return timeout;
+        }
+
+        @Override
+        public void setTimeout(long milliseconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isTransient() {
+            return isTransient;
+        }
+
+        @Override
+        public boolean unlock() {
+            return true;
+        }
+
+        @Override
+        public boolean lock(long timeout) {
+            return true;
+        }
+
+        @Override
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        @Override
+        public void touch() {
+            lastUsed = System.currentTimeMillis();
+        }
+
+    }
+
+}
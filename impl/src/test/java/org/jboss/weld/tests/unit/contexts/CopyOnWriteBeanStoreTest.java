@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.CopyOnWriteBeanStore;
+import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.collections.Iterables;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link CopyOnWriteBeanStore}.
+ */
+public class CopyOnWriteBeanStoreTest {
+
+    private static final BeanIdentifier FOO = new StringBeanIdentifier("foo");
+    private static final BeanIdentifier BAR = new StringBeanIdentifier("bar");
+
+    @Test
+    public void testCapturedInstancesShared() {
+        HashMapBeanStore captured = new HashMapBeanStore();
+        ContextualInstance<String> foo = new SimpleInstance("foo");
+        captured.put(FOO, foo);
+        CopyOnWriteBeanStore beanStore = new CopyOnWriteBeanStore(captured);
+        Assert.assertSame(foo, beanStore.get(FOO));
+        Assert.assertTrue(beanStore.contains(FOO));
+        // Nothing was written
+        Assert.assertNull(beanStore.getLocalBeanStore());
+    }
+
+    @Test
+    public void testModificationsAreLocal() {
+        HashMapBeanStore captured = new HashMapBeanStore();
+        captured.put(FOO, new SimpleInstance("foo"));
+        CopyOnWriteBeanStore beanStore = new CopyOnWriteBeanStore(captured);
+        ContextualInstance<String> bar = new SimpleInstance("bar");
+        beanStore.put(BAR, bar);
+        Assert.assertSame(bar, beanStore.get(BAR));
+        Assert.assertFalse(captured.contains(BAR));
+        Assert.assertEquals(ids(FOO, BAR), toSet(beanStore));
+
+        // Captured instances are hidden but never returned for destruction
+        Assert.assertNull(beanStore.remove(FOO));
+        Assert.assertFalse(beanStore.contains(FOO));
+        Assert.assertTrue(captured.contains(FOO));
+        Assert.assertEquals(ids(BAR), toSet(beanStore));
+
+        BeanStore local = beanStore.getLocalBeanStore();
+        Assert.assertEquals(ids(BAR), toSet(local));
+
+        beanStore.clear();
+        Assert.assertFalse(beanStore.iterator().hasNext());
+        Assert.assertTrue(captured.contains(FOO));
+    }
+
+    private static Set<BeanIdentifier> ids(BeanIdentifier... ids) {
+        Set<BeanIdentifier> result = new HashSet<>();
+        for (BeanIdentifier id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static Set<BeanIdentifier> toSet(BeanStore beanStore) {
+        Set<BeanIdentifier> result = new HashSet<>();
+        Iterables.addAll(result, beanStore);
+        return result;
+    }
+
+    private static class SimpleInstance implements ContextualInstance<String> {
+
+        private final String instance;
+
+        SimpleInstance(String instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.CreationalContextImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link CreationalContextImpl}.
+ */
+public class CreationalContextImplTest {
+
+    @Test
+    public void testDependentInstancesOfChild() {
+        SimpleContextual contextual = new SimpleContextual();
+        CreationalContextImpl<String> parent = new CreationalContextImpl<String>(contextual);
+        Assert.assertTrue(parent.getDependentInstances().isEmpty());
+
+        CreationalContextImpl<String> child = parent.getCreationalContext(contextual);
+        Assert.assertTrue(child.getDependentInstances().isEmpty());
+        child.addDependentInstance(new SimpleContextualInstance(contextual, "foo", child));
+        Assert.assertEquals(1, parent.getDependentInstances().size());
+        Assert.assertTrue(child.getDependentInstances().isEmpty());
+
+        Assert.assertFalse(parent.destroyDependentInstance("bar"));
+        Assert.assertTrue(parent.destroyDependentInstance("foo"));
+        Assert.assertEquals(1, contextual.destroyed.size());
+        Assert.assertTrue(parent.getDependentInstances().isEmpty());
+
+        child.addDependentInstance(new SimpleContextualInstance(contextual, "baz", child));
+        parent.release();
+        Assert.assertEquals(2, contextual.destroyed.size());
+        Assert.assertEquals("baz", contextual.destroyed.get(1));
+    }
+
+    @Test
+    public void testReleaseWithoutDependentInstances() {
+        SimpleContextual contextual = new SimpleContextual();
+        CreationalContextImpl<String> creationalContext = new CreationalContextImpl<String>(contextual);
+        creationalContext.getCreationalContext(contextual).release();
+        creationalContext.release();
+        Assert.assertFalse(creationalContext.destroyDependentInstance("foo"));
+        Assert.assertTrue(contextual.destroyed.isEmpty());
+    }
+
+    @Test
+    public void testSerializeEmptyContext() throws IOException, ClassNotFoundException {
+        CreationalContextImpl<?> creationalContext = deserialize(serialize(new CreationalContextImpl<String>(null)));
+        Assert.assertTrue(creationalContext.getDependentInstances().isEmpty());
+        // The deserialized context must still accept dependent instances
+        SimpleContextual contextual = new SimpleContextual();
+        creationalContext.getCreationalContext(contextual).addDependentInstance(new SimpleContextualInstance(contextual, "foo", null));
+        Assert.assertEquals(1, creationalContext.getDependentInstances().size());
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CreationalContextImpl<?> deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (CreationalContextImpl<?>) in.readObject();
+        }
+    }
+
+    private static class SimpleContextual implements Contextual<String> {
+
+        private final List<String> destroyed = new ArrayList<>();
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+        }
+
+    }
+
+    private static class SimpleContextualInstance implements ContextualInstance<String> {
+
+        private final Contextual<String> contextual;
+
+        private final String instance;
+
+        private final CreationalContext<String> creationalContext;
+
+        SimpleContextualInstance(Contextual<String> contextual, String instance, CreationalContext<String> creationalContext) {
+            this.contextual = contextual;
+            this.instance = instance;
+            this.creationalContext = creationalContext;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return creationalContext;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return contextual;
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanAttributes;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.RequestBeanIdentifierIndex;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.collections.Iterables;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link IndexedBeanStore}.
+ */
+public class IndexedBeanStoreTest {
+
+    @Test
+    public void testIndexedAndUnindexedInstances() {
+        BeanIdentifierIndex index = new BeanIdentifierIndex();
+        Set<Bean<?>> beans = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            beans.add(DummyBean.of(String.format("%02d.foo", i)));
+        }
+        index.build(beans);
+        IndexedBeanStore beanStore = new IndexedBeanStore(index);
+
+        BeanIdentifier first = new StringBeanIdentifier("00.foo");
+        BeanIdentifier last = new StringBeanIdentifier("39.foo");
+        BeanIdentifier unindexed = new StringBeanIdentifier("bar");
+        Assert.assertNull(beanStore.get(last));
+        Assert.assertNull(beanStore.remove(last));
+
+        ContextualInstance<String> firstInstance = new SimpleInstance("first");
+        ContextualInstance<String> lastInstance = new SimpleInstance("last");
+        ContextualInstance<String> unindexedInstance = new SimpleInstance("bar");
+        beanStore.put(first, firstInstance);
+        beanStore.put(last, lastInstance);
+        beanStore.put(unindexed, unindexedInstance);
+        Assert.assertSame(firstInstance, beanStore.get(first));
+        Assert.assertSame(lastInstance, beanStore.get(last));
+        Assert.assertSame(unindexedInstance, beanStore.get(unindexed));
+        Assert.assertFalse(beanStore.contains(new StringBeanIdentifier("01.foo")));
+        Assert.assertEquals(ids(first, last, unindexed), toSet(beanStore));
+
+        Assert.assertSame(lastInstance, beanStore.remove(last));
+        Assert.assertFalse(beanStore.contains(last));
+        Assert.assertEquals(ids(first, unindexed), toSet(beanStore));
+
+        beanStore.clear();
+        Assert.assertFalse(beanStore.iterator().hasNext());
+        Assert.assertNull(beanStore.get(first));
+        Assert.assertNull(beanStore.get(unindexed));
+    }
+
+    @Test
+    public void testRequestIndexPositionRemembered() {
+        RequestBeanIdentifierIndex index = new RequestBeanIdentifierIndex();
+        DummyBean<?> foo = DummyBean.of("foo");
+        DummyBean<?> bar = DummyBean.of("bar");
+        Set<Bean<?>> beans = new HashSet<>();
+        beans.add(foo);
+        beans.add(bar);
+        index.build(beans);
+        AbstractBeanIdentifier fooId = (AbstractBeanIdentifier) foo.getIdentifier();
+        AbstractBeanIdentifier barId = (AbstractBeanIdentifier) bar.getIdentifier();
+        Assert.assertEquals(0, barId.getRequestIndexPosition());
+        Assert.assertEquals(1, fooId.getRequestIndexPosition());
+        Assert.assertEquals(-1, new StringBeanIdentifier("foo").getRequestIndexPosition());
+
+        IndexedBeanStore beanStore = new IndexedBeanStore(index);
+        ContextualInstance<String> fooInstance = new SimpleInstance("foo");
+        beanStore.put(fooId, fooInstance);
+        Assert.assertSame(fooInstance, beanStore.get(fooId));
+        // An equal identifier which does not know its position is looked up in the index
+        Assert.assertSame(fooInstance, beanStore.get(new StringBeanIdentifier("foo")));
+        Assert.assertNull(beanStore.get(barId));
+        Assert.assertEquals(ids(fooId), toSet(beanStore));
+        Assert.assertSame(fooInstance, beanStore.remove(new StringBeanIdentifier("foo")));
+        Assert.assertNull(beanStore.get(fooId));
+    }
+
+    private static Set<BeanIdentifier> ids(BeanIdentifier... ids) {
+        Set<BeanIdentifier> result = new HashSet<>();
+        for (BeanIdentifier id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static Set<BeanIdentifier> toSet(IndexedBeanStore beanStore) {
+        Set<BeanIdentifier> result = new HashSet<>();
+        Iterables.addAll(result, beanStore);
+        return result;
+    }
+
+    private static class SimpleInstance implements ContextualInstance<String> {
+
+        private final String instance;
+
+        SimpleInstance(String instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return null;
+        }
+
+    }
+
+    private static class DummyBean<T> extends CommonBean<T> {
+
+        static <T> DummyBean<T> of(String id) {
+            return new DummyBean<>(null, new StringBeanIdentifier(id));
+        }
+
+        protected DummyBean(BeanAttributes<T> attributes, BeanIdentifier identifier) {
+            super(attributes, identifier);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return null;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return null;
+        }
+
+        @Override
+        public T create(CreationalContext<T> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(T instance, CreationalContext<T> creationalContext) {
+        }
+    }
+
+}
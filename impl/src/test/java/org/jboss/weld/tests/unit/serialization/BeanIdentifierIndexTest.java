@@ -103,6 +103,7 @@ public class BeanIdentifierIndexTest {
         BeanIdentifierIndex index = new BeanIdentifierIndex();
         index.build(Collections.<Bean<?>> emptySet());
         assertTrue(index.isEmpty());
+        assertEquals(0, index.size());
     }
 
     @Test
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.bytecode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.jboss.classfilewriter.ClassFile;
+import org.jboss.weld.util.bytecode.ClassFileUtils;
+import org.jboss.weld.util.bytecode.LookupClassDefiner;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class LookupClassDefinerTest {
+
+    @BeforeClass
+    public static void init() {
+        // required by the fallback
+        ClassFileUtils.makeClassLoaderMethodsAccessible();
+    }
+
+    @Test
+    public void testDefineClassInPackageOfOriginalClass() throws ClassNotFoundException {
+        ClassLoader loader = LookupClassDefinerTest.class.getClassLoader();
+        String name = LookupClassDefinerTest.class.getPackage().getName() + ".Generated$Same";
+        Class<?> clazz = new LookupClassDefiner().defineClass(LookupClassDefinerTest.class, name, generate(name), loader, null);
+        assertEquals(name, clazz.getName());
+        assertSame(loader, clazz.getClassLoader());
+        // The class must be loadable by name
+        assertSame(clazz, Class.forName(name, false, loader));
+    }
+
+    @Test
+    public void testDefineClassInDifferentPackage() throws ClassNotFoundException {
+        ClassLoader loader = LookupClassDefinerTest.class.getClassLoader();
+        String name = "org.jboss.weld.tests.unit.util.Generated$Other";
+        Class<?> clazz = new LookupClassDefiner().defineClass(LookupClassDefinerTest.class, name, generate(name), loader, null);
+        assertEquals(name, clazz.getName());
+        assertSame(clazz, Class.forName(name, false, loader));
+    }
+
+    private static byte[] generate(String name) {
+        return new ClassFile(name, Object.class.getName()).toBytecode();
+    }
+
+}
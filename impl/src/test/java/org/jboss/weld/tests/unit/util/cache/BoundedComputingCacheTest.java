@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import java.util.function.Function;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for bounded {@link ComputingCache} instances.
+ */
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testLruEviction() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).recordStats().build(Function.<Integer> identity()
+                .andThen(String::valueOf));
+        for (int i = 0; i < 10; i++) {
+            cache.getValue(i);
+        }
+        // Keep the first entry hot
+        Assert.assertEquals("0", cache.getValue(0));
+        cache.getValue(10);
+        // A batch of the least recently used entries is evicted (10% of the maximum size plus the entry over the bound), not the whole cache
+        Assert.assertEquals(9, cache.size());
+        Assert.assertEquals("0", cache.getValueIfPresent(0));
+        Assert.assertNull(cache.getValueIfPresent(1));
+        Assert.assertNull(cache.getValueIfPresent(2));
+        Assert.assertEquals("3", cache.getValueIfPresent(3));
+        Assert.assertEquals("10", cache.getValueIfPresent(10));
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(11, statistics.getMissCount());
+        Assert.assertEquals(2, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testHitIsNewerThanPrecedingMiss() {
+        ComputingCache<Integer, Integer> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).build(Function.identity());
+        cache.getValue(0);
+        cache.getValue(1);
+        cache.getValue(2);
+        // The hit must be ordered after the miss of 2
+        cache.getValue(0);
+        cache.getValue(3);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(Integer.valueOf(0), cache.getValueIfPresent(0));
+        Assert.assertEquals(Integer.valueOf(3), cache.getValueIfPresent(3));
+    }
+
+    @Test
+    public void testClearEviction() {
+        ComputingCache<Integer, Integer> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).setEvictionPolicy(EvictionPolicy.CLEAR).recordStats()
+                .build(Function.identity());
+        for (int i = 0; i <= 10; i++) {
+            cache.getValue(i);
+        }
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(11, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testStatsNotRecordedByDefault() {
+        ComputingCache<Integer, Integer> cache = ComputingCacheBuilder.newBuilder().build(Function.identity());
+        cache.getValue(1);
+        cache.getValue(1);
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(1, statistics.getSize());
+        Assert.assertEquals(0, statistics.getHitCount());
+        Assert.assertEquals(0, statistics.getMissCount());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.util.jfr.FlightRecorder;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Testcase for {@link FlightRecorder}.
+ */
+public class FlightRecorderTest {
+
+    @Test
+    public void testDisabled() {
+        FlightRecorder recorder = FlightRecorder.create(false);
+        Assert.assertFalse(recorder.isEnabled());
+        Assert.assertNull(recorder.beginBootstrapOperation());
+        Assert.assertNull(recorder.beginBeanInstantiation());
+        Assert.assertNull(recorder.beginObserverNotification());
+        Assert.assertNull(recorder.beginProxyClassGeneration());
+    }
+
+    @Test
+    public void testEvents() throws IOException {
+        FlightRecorder recorder = FlightRecorder.create(true);
+        Assume.assumeTrue("JDK Flight Recorder not supported", recorder.isEnabled());
+
+        // No recording is running
+        Assert.assertNull(recorder.beginBeanInstantiation());
+
+        Path dump = Files.createTempFile("weld", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.jboss.weld.BootstrapOperation");
+            recording.enable("org.jboss.weld.BeanInstantiation");
+            recording.enable("org.jboss.weld.ContextActivation");
+            recording.disable("org.jboss.weld.ProxyClassGeneration");
+            recording.disable("org.jboss.weld.ObserverNotification");
+            recording.start();
+
+            Object operation = recorder.beginBootstrapOperation();
+            Object instantiation = recorder.beginBeanInstantiation();
+            Assert.assertNotNull(instantiation);
+            recorder.endBeanInstantiation(instantiation, new SimpleContextual());
+            recorder.endBootstrapOperation(operation, "startContainer > deployBeans");
+            recorder.contextActivationChanged(RequestScoped.class, true);
+            // Disabled in the recording
+            Assert.assertNull(recorder.beginProxyClassGeneration());
+
+            recording.stop();
+            recording.dump(dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            Assert.assertEquals(3, events.size());
+            for (RecordedEvent event : events) {
+                String name = event.getEventType().getName();
+                if (name.equals("org.jboss.weld.BootstrapOperation")) {
+                    Assert.assertEquals("startContainer > deployBeans", event.getString("operation"));
+                } else if (name.equals("org.jboss.weld.BeanInstantiation")) {
+                    Assert.assertEquals(SimpleContextual.class.getName(), event.getClass("beanClass").getName());
+                } else if (name.equals("org.jboss.weld.ContextActivation")) {
+                    Assert.assertEquals(RequestScoped.class.getName(), event.getClass("scope").getName());
+                    Assert.assertTrue(event.getBoolean("activated"));
+                } else {
+                    Assert.fail("Unexpected event: " + name);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static class SimpleContextual implements Contextual<String> {
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return "foo";
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.reflection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.jboss.weld.util.reflection.MethodInvoker;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link MethodInvoker}.
+ */
+public class MethodInvokerTest {
+
+    @Test
+    public void testInvoke() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("echo", String.class));
+        assertEquals("foo", invoker.invoke(new Target(), "foo"));
+        assertEquals("bar", invoker.invoke(new Target(), new Object[] { "bar" }));
+        assertEquals(null, invoker.invoke(new Target(), (Object) null));
+    }
+
+    @Test
+    public void testExceptionThrownByMethod() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("fail", Object.class));
+        try {
+            invoker.invoke(new Target(), "foo");
+            fail();
+        } catch (InvocationTargetException expected) {
+            assertTrue(expected.getCause() instanceof ClassCastException);
+        }
+    }
+
+    @Test
+    public void testWrongParameterType() throws Exception {
+        // A conversion failure must not be reported as an exception thrown by the method
+        MethodInvoker invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("echo", String.class));
+        try {
+            invoker.invoke(new Target(), 1);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("sum", int.class, long.class));
+        try {
+            invoker.invoke(new Target(), new Object[] { 1, "foo" });
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            invoker.invoke(new Target(), new Object[] { 1 });
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testPrimitiveParameters() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("sum", int.class, long.class));
+        assertEquals(3L, invoker.invoke(new Target(), new Object[] { 1, 2L }));
+        // Widening conversion
+        assertEquals(3L, invoker.invoke(new Target(), new Object[] { 1, 2 }));
+        try {
+            invoker.invoke(new Target(), new Object[] { 1, null });
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testWrongReceiver() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(Target.class.getDeclaredMethod("echo", String.class));
+        try {
+            invoker.invoke("foo", "foo");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            invoker.invoke(null, "foo");
+            fail();
+        } catch (NullPointerException expected) {
+        }
+    }
+
+    static class Target {
+
+        String echo(String value) {
+            return value;
+        }
+
+        long sum(int a, long b) {
+            return a + b;
+        }
+
+        void fail(Object value) {
+            throw new ClassCastException();
+        }
+
+    }
+
+}
@@ -87,6 +87,18 @@ class DeferredEventNotification<T> implements Runnable {
         }
     }
 
+    T getEvent() {
+        return event;
+    }
+
+    ObserverMethod<? super T> getObserver() {
+        return observer;
+    }
+
+    EventMetadata getMetadata() {
+        return metadata;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -16,25 +16,82 @@
  */
 package org.jboss.weld.module.jta;
 
-import java.util.List;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 
 import jakarta.transaction.Synchronization;
 
 /**
  * A JTA transaction synchronization which wraps all defferred transactional event notifications.
  *
+ * <p>
+ * Notifications are kept in an array-backed queue in the order they were deferred. Before completion all {@link Status#BEFORE_COMPLETION} notifications are
+ * run, after completion all other notifications matching the transaction status are run. Notifications may be added until the transaction completes, i.e. a
+ * notification deferred by an observer called before completion is also dispatched by this synchronization.
+ * </p>
+ *
  * @author David Allen
  */
 class TransactionNotificationSynchronization implements Synchronization {
 
-    private final List<DeferredEventNotification<?>> notifications;
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final TransactionalEventStatistics statistics;
+
+    // Only used if equal events should be coalesced
+    private final Set<NotificationKey> keys;
+
+    private DeferredEventNotification<?>[] notifications;
+
+    private int size;
+
+    private boolean completed;
+
+    /**
+     *
+     * @param statistics the statistics to record deferred and coalesced notifications
+     * @param coalesce if set to true, a notification equal to an already deferred notification is ignored
+     */
+    TransactionNotificationSynchronization(TransactionalEventStatistics statistics, boolean coalesce) {
+        this.statistics = statistics;
+        this.keys = coalesce ? new HashSet<>() : null;
+        this.notifications = new DeferredEventNotification<?>[DEFAULT_CAPACITY];
+    }
 
     /**
+     * Appends the given notifications to the queue.
      *
-     * @param notifications The ordered list of notifications
+     * @param deferred the notifications of a single event
+     * @return <code>false</code> if the transaction already completed and the notifications were not added, <code>true</code> otherwise
      */
-    public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
-        this.notifications = notifications;
+    synchronized boolean add(DeferredEventNotification<?>[] deferred) {
+        if (completed) {
+            return false;
+        }
+        for (DeferredEventNotification<?> notification : deferred) {
+            // Without metadata the qualifiers of the event are not known
+            if (keys != null && notification.getMetadata() != null && !keys.add(new NotificationKey(notification))) {
+                statistics.notificationCoalesced();
+                continue;
+            }
+            if (size == notifications.length) {
+                notifications = Arrays.copyOf(notifications, size << 1);
+            }
+            notifications[size++] = notification;
+            statistics.notificationDeferred();
+        }
+        return true;
+    }
+
+    private synchronized DeferredEventNotification<?> get(int index) {
+        return index < size ? notifications[index] : null;
+    }
+
+    private synchronized void complete() {
+        completed = true;
     }
 
     /*
@@ -43,7 +100,9 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
-        for (DeferredEventNotification<?> notification : notifications) {
+        complete();
+        DeferredEventNotification<?> notification;
+        for (int i = 0; (notification = get(i)) != null; i++) {
             if (!notification.isBefore() && notification.getStatus().matches(status)) {
                 notification.run();
             }
@@ -56,10 +115,51 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // Notifications deferred by observers notified here are appended and dispatched as well
+        DeferredEventNotification<?> notification;
+        for (int i = 0; (notification = get(i)) != null; i++) {
             if (notification.isBefore()) {
                 notification.run();
             }
         }
     }
+
+    /**
+     * Two notifications are equal if they notify the same observer method of equal events with the same qualifiers.
+     */
+    private static final class NotificationKey {
+
+        private final Object observer;
+
+        private final Object event;
+
+        private final Set<Annotation> qualifiers;
+
+        private final int hashCode;
+
+        NotificationKey(DeferredEventNotification<?> notification) {
+            this.observer = notification.getObserver();
+            this.event = notification.getEvent();
+            this.qualifiers = notification.getMetadata().getQualifiers();
+            this.hashCode = Objects.hash(observer, event, qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotificationKey)) {
+                return false;
+            }
+            NotificationKey that = (NotificationKey) obj;
+            return observer.equals(that.observer) && Objects.equals(event, that.event) && qualifiers.equals(that.qualifiers);
+        }
+
+    }
 }
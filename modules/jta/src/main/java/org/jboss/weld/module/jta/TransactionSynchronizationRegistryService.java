@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.EventLogger;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.jboss.weld.util.LazyValueHolder;
+
+/**
+ * Provides the {@link TransactionSynchronizationRegistry} which allows to collect all transactional observer notifications of a transaction in a single
+ * synchronization. {@link TransactionServices} cannot identify the current transaction.
+ *
+ * <p>
+ * An integrator may register this service with the registry of its transaction manager. Otherwise, the registry is looked up in JNDI when it's first needed.
+ * The result of the lookup is kept for the lifetime of the container, no matter whether the lookup succeeded or not.
+ * </p>
+ *
+ * @see TransactionalObserverNotifier
+ */
+public class TransactionSynchronizationRegistryService implements Service {
+
+    static final String JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
+
+    private final LazyValueHolder<Optional<TransactionSynchronizationRegistry>> registry;
+
+    /**
+     * The registry is looked up in JNDI.
+     */
+    public TransactionSynchronizationRegistryService() {
+        this(TransactionSynchronizationRegistryService::lookup);
+    }
+
+    /**
+     *
+     * @param registry the registry, may be null if not available
+     */
+    public TransactionSynchronizationRegistryService(TransactionSynchronizationRegistry registry) {
+        this(() -> registry);
+    }
+
+    private TransactionSynchronizationRegistryService(Supplier<TransactionSynchronizationRegistry> supplier) {
+        this.registry = LazyValueHolder.forSupplier(() -> Optional.ofNullable(supplier.get()));
+    }
+
+    /**
+     *
+     * @return the registry or null if not available
+     */
+    public TransactionSynchronizationRegistry getRegistry() {
+        return registry.get().orElse(null);
+    }
+
+    private static TransactionSynchronizationRegistry lookup() {
+        TransactionSynchronizationRegistry registry = null;
+        try {
+            InitialContext context = new InitialContext();
+            try {
+                registry = (TransactionSynchronizationRegistry) context.lookup(JNDI_NAME);
+            } finally {
+                context.close();
+            }
+        } catch (NamingException | ClassCastException e) {
+            EventLogger.LOG.catchingDebug(e);
+        }
+        if (registry == null) {
+            // A synchronization is registered for each event fired within a transaction
+            EventLogger.LOG.transactionSynchronizationRegistryNotAvailable(JNDI_NAME);
+        }
+        return registry;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+}
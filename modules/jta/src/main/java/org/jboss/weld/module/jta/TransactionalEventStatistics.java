@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.EventLogger;
+
+/**
+ * Counters of deferred transactional observer notifications. An instance is registered as a service if JTA integration is enabled. The counters are logged
+ * at DEBUG level when the container is shut down.
+ */
+public class TransactionalEventStatistics implements Service {
+
+    private final LongAdder synchronizations = new LongAdder();
+
+    private final LongAdder deferredNotifications = new LongAdder();
+
+    private final LongAdder coalescedNotifications = new LongAdder();
+
+    void synchronizationRegistered() {
+        synchronizations.increment();
+    }
+
+    void notificationDeferred() {
+        deferredNotifications.increment();
+    }
+
+    void notificationCoalesced() {
+        coalescedNotifications.increment();
+    }
+
+    /**
+     *
+     * @return the number of synchronizations registered with the transaction manager
+     */
+    public long getSynchronizationCount() {
+        return synchronizations.sum();
+    }
+
+    /**
+     *
+     * @return the number of deferred notifications of transactional observer methods
+     */
+    public long getDeferredNotificationCount() {
+        return deferredNotifications.sum();
+    }
+
+    /**
+     *
+     * @return the number of notifications which were not deferred because an equal event was already deferred for the same observer method
+     */
+    public long getCoalescedNotificationCount() {
+        return coalescedNotifications.sum();
+    }
+
+    @Override
+    public void cleanup() {
+        EventLogger.LOG.transactionalEventStatistics(getSynchronizationCount(), getDeferredNotificationCount(), getCoalescedNotificationCount());
+        synchronizations.reset();
+        deferredNotifications.reset();
+        coalescedNotifications.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionalEventStatistics [synchronizations=" + getSynchronizationCount() + ", deferredNotifications=" + getDeferredNotificationCount()
+                + ", coalescedNotifications=" + getCoalescedNotificationCount() + "]";
+    }
+
+}
@@ -16,7 +16,6 @@
  */
 package org.jboss.weld.module.jta;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,8 +23,11 @@ import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.spi.EventMetadata;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.RollbackException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
@@ -34,6 +36,11 @@ import org.jboss.weld.transaction.spi.TransactionServices;
 /**
  * {@link ObserverNotifier} with support for transactional observer methods.
  *
+ * <p>
+ * If the {@link TransactionSynchronizationRegistry} is available, all notifications deferred within a transaction are collected by a single
+ * {@link TransactionNotificationSynchronization} per container. Otherwise, a synchronization is registered for each fired event.
+ * </p>
+ *
  * @author Jozef Hartinger
  */
 class TransactionalObserverNotifier extends ObserverNotifier {
@@ -46,12 +53,25 @@ class TransactionalObserverNotifier extends ObserverNotifier {
     };
 
     private final TransactionServices transactionServices;
+    private final TransactionSynchronizationRegistryService synchronizationRegistryService;
     private final String contextId;
+    private final TransactionalEventStatistics statistics;
+    private final boolean coalesce;
+    // The key of the synchronization of this container bound to the current transaction
+    private final SynchronizationKey synchronizationKey;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
+        this(contextId, resolver, services, strict, services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.TRANSACTIONAL_EVENTS_COALESCE));
+    }
+
+    TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict, boolean coalesce) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        this.synchronizationRegistryService = services.get(TransactionSynchronizationRegistryService.class);
+        this.statistics = services.get(TransactionalEventStatistics.class);
+        this.coalesce = coalesce;
+        this.synchronizationKey = new SynchronizationKey(contextId);
     }
 
     /**
@@ -60,12 +80,33 @@ class TransactionalObserverNotifier extends ObserverNotifier {
      *
      * @param metadata The event object
      */
-    private <T> void deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer,
-            final List<DeferredEventNotification<?>> notifications) {
+    private <T> DeferredEventNotification<T> deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer) {
         TransactionPhase transactionPhase = observer.getTransactionPhase();
         boolean before = transactionPhase.equals(TransactionPhase.BEFORE_COMPLETION);
         Status status = Status.valueOf(transactionPhase);
-        notifications.add(new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
+        return new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before);
+    }
+
+    /**
+     * Adds the notifications to the synchronization bound to the current transaction. If there is no such synchronization yet a new one is registered.
+     *
+     * @param notifications the notifications of a single event
+     */
+    private void registerNotifications(DeferredEventNotification<?>[] notifications) {
+        TransactionSynchronizationRegistry registry = synchronizationRegistryService != null ? synchronizationRegistryService.getRegistry() : null;
+        if (registry != null) {
+            TransactionNotificationSynchronization synchronization = (TransactionNotificationSynchronization) registry.getResource(synchronizationKey);
+            if (synchronization != null && synchronization.add(notifications)) {
+                return;
+            }
+        }
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(statistics, coalesce);
+        transactionServices.registerSynchronization(synchronization);
+        statistics.synchronizationRegistered();
+        synchronization.add(notifications);
+        if (registry != null) {
+            registry.putResource(synchronizationKey, synchronization);
+        }
     }
 
     @Override
@@ -78,12 +119,13 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             // Transaction is not active - no deferred notifications
             notifySyncObservers(observers, event, metadata, handler);
         } else {
-            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>();
+            DeferredEventNotification<?>[] notifications = new DeferredEventNotification<?>[observers.size()];
+            int i = 0;
             for (ObserverMethod<? super T> observer : observers) {
-                deferNotification(event, metadata, observer, notifications);
+                notifications[i++] = deferNotification(event, metadata, observer);
             }
             try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+                registerNotifications(notifications);
             } catch (Exception e) {
                 if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                     List<ObserverMethod<? super T>> filteredObservers = observers.stream()
@@ -101,4 +143,33 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             }
         }
     }
+
+    /**
+     * Multiple containers may join the same transaction - each of them needs its own synchronization.
+     */
+    private static final class SynchronizationKey {
+
+        private final String contextId;
+
+        private SynchronizationKey(String contextId) {
+            this.contextId = contextId;
+        }
+
+        @Override
+        public int hashCode() {
+            return contextId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SynchronizationKey && contextId.equals(((SynchronizationKey) obj).contextId);
+        }
+
+        @Override
+        public String toString() {
+            return "TransactionNotificationSynchronization [" + contextId + "]";
+        }
+
+    }
+
 }
@@ -37,6 +37,10 @@ public class WeldTransactionsModule implements WeldModule {
     public void postServiceRegistration(PostServiceRegistrationContext ctx) {
         if (ctx.getServices().contains(TransactionServices.class)) {
             ctx.getServices().add(ObserverNotifierFactory.class, TransactionalObserverNotifier.FACTORY);
+            ctx.getServices().add(TransactionalEventStatistics.class, new TransactionalEventStatistics());
+            if (!ctx.getServices().contains(TransactionSynchronizationRegistryService.class)) {
+                ctx.getServices().add(TransactionSynchronizationRegistryService.class, new TransactionSynchronizationRegistryService());
+            }
         }
     }
 
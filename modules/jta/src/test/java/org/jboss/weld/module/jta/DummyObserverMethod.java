@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.enterprise.event.Reception;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * A transactional observer method which does nothing.
+ */
+class DummyObserverMethod implements ObserverMethod<Object> {
+
+    private final String name;
+
+    private final TransactionPhase transactionPhase;
+
+    DummyObserverMethod(String name, TransactionPhase transactionPhase) {
+        this.name = name;
+        this.transactionPhase = transactionPhase;
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return DummyObserverMethod.class;
+    }
+
+    @Override
+    public Type getObservedType() {
+        return Object.class;
+    }
+
+    @Override
+    public Set<Annotation> getObservedQualifiers() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Reception getReception() {
+        return Reception.ALWAYS;
+    }
+
+    @Override
+    public TransactionPhase getTransactionPhase() {
+        return transactionPhase;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    static EventMetadata metadata(Set<Annotation> qualifiers) {
+        return new EventMetadata() {
+
+            @Override
+            public Set<Annotation> getQualifiers() {
+                return qualifiers;
+            }
+
+            @Override
+            public InjectionPoint getInjectionPoint() {
+                return null;
+            }
+
+            @Override
+            public Type getType() {
+                return Object.class;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import static jakarta.transaction.Status.STATUS_COMMITTED;
+import static jakarta.transaction.Status.STATUS_ROLLEDBACK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.EventMetadata;
+
+import org.junit.Test;
+
+public class TransactionNotificationSynchronizationTest {
+
+    private static final EventMetadata METADATA = DummyObserverMethod.metadata(Collections.<Annotation> emptySet());
+
+    private final List<String> notified = new ArrayList<>();
+
+    @Test
+    public void testNotificationsRunInPhaseOrder() {
+        TransactionalEventStatistics statistics = new TransactionalEventStatistics();
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(statistics, false);
+        DummyObserverMethod afterSuccess = new DummyObserverMethod("afterSuccess", TransactionPhase.AFTER_SUCCESS);
+        DummyObserverMethod afterFailure = new DummyObserverMethod("afterFailure", TransactionPhase.AFTER_FAILURE);
+        DummyObserverMethod afterCompletion = new DummyObserverMethod("afterCompletion", TransactionPhase.AFTER_COMPLETION);
+        DummyObserverMethod beforeCompletion = new DummyObserverMethod("beforeCompletion", TransactionPhase.BEFORE_COMPLETION);
+
+        assertTrue(synchronization.add(notifications("1", afterSuccess, afterFailure, afterCompletion, beforeCompletion)));
+        assertTrue(synchronization.add(notifications("2", afterCompletion, beforeCompletion)));
+
+        synchronization.beforeCompletion();
+        assertEquals(Arrays.asList("beforeCompletion:1", "beforeCompletion:2"), notified);
+
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Arrays.asList("beforeCompletion:1", "beforeCompletion:2", "afterSuccess:1", "afterCompletion:1", "afterCompletion:2"), notified);
+        assertEquals(6, statistics.getDeferredNotificationCount());
+        // The transaction completed
+        assertFalse(synchronization.add(notifications("3", afterCompletion)));
+    }
+
+    @Test
+    public void testRollback() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(new TransactionalEventStatistics(), false);
+        synchronization.add(notifications("1", new DummyObserverMethod("afterSuccess", TransactionPhase.AFTER_SUCCESS),
+                new DummyObserverMethod("afterFailure", TransactionPhase.AFTER_FAILURE)));
+        synchronization.beforeCompletion();
+        synchronization.afterCompletion(STATUS_ROLLEDBACK);
+        assertEquals(Collections.singletonList("afterFailure:1"), notified);
+    }
+
+    @Test
+    public void testNotificationDeferredBeforeCompletionIsDispatched() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(new TransactionalEventStatistics(), false);
+        DummyObserverMethod afterCompletion = new DummyObserverMethod("afterCompletion", TransactionPhase.AFTER_COMPLETION);
+        DummyObserverMethod beforeCompletion = new DummyObserverMethod("beforeCompletion", TransactionPhase.BEFORE_COMPLETION);
+        synchronization.add(new DeferredEventNotification<?>[] { new RecordingNotification(beforeCompletion, "1") {
+            @Override
+            public void run() {
+                super.run();
+                // An observer notified before completion fires another event
+                synchronization.add(notifications("2", beforeCompletion, afterCompletion));
+            }
+        } });
+        synchronization.beforeCompletion();
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Arrays.asList("beforeCompletion:1", "beforeCompletion:2", "afterCompletion:2"), notified);
+    }
+
+    @Test
+    public void testCoalesce() {
+        TransactionalEventStatistics statistics = new TransactionalEventStatistics();
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(statistics, true);
+        DummyObserverMethod observer = new DummyObserverMethod("afterCompletion", TransactionPhase.AFTER_COMPLETION);
+        DummyObserverMethod other = new DummyObserverMethod("other", TransactionPhase.AFTER_COMPLETION);
+        synchronization.add(notifications("1", observer, other));
+        synchronization.add(notifications("1", observer));
+        synchronization.add(notifications("2", observer));
+        synchronization.add(notifications("1", other));
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Arrays.asList("afterCompletion:1", "other:1", "afterCompletion:2"), notified);
+        assertEquals(3, statistics.getDeferredNotificationCount());
+        assertEquals(2, statistics.getCoalescedNotificationCount());
+    }
+
+    private DeferredEventNotification<?>[] notifications(String event, DummyObserverMethod... observers) {
+        DeferredEventNotification<?>[] notifications = new DeferredEventNotification<?>[observers.length];
+        for (int i = 0; i < observers.length; i++) {
+            notifications[i] = new RecordingNotification(observers[i], event);
+        }
+        return notifications;
+    }
+
+    private class RecordingNotification extends DeferredEventNotification<Object> {
+
+        RecordingNotification(DummyObserverMethod observer, String event) {
+            super("test", event, METADATA, observer, null, Status.valueOf(observer.getTransactionPhase()),
+                    observer.getTransactionPhase() == TransactionPhase.BEFORE_COMPLETION);
+        }
+
+        @Override
+        public void run() {
+            notified.add(observer + ":" + getEvent());
+        }
+
+    }
+
+}
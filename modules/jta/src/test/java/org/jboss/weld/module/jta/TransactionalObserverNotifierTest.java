@@ -0,0 +1,213 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.UserTransaction;
+
+import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
+import org.jboss.weld.security.NoopSecurityServices;
+import org.jboss.weld.security.spi.SecurityServices;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.junit.Test;
+
+public class TransactionalObserverNotifierTest {
+
+    private static final EventMetadata METADATA = DummyObserverMethod.metadata(Collections.<Annotation> emptySet());
+
+    private final List<ObserverMethod<? super Object>> observers = Arrays.asList(
+            new DummyObserverMethod("beforeCompletion", TransactionPhase.BEFORE_COMPLETION),
+            new DummyObserverMethod("afterSuccess", TransactionPhase.AFTER_SUCCESS));
+
+    private final DummyTransactionServices transactionServices = new DummyTransactionServices();
+
+    private final TransactionalEventStatistics statistics = new TransactionalEventStatistics();
+
+    @Test
+    public void testSingleSynchronizationPerTransaction() {
+        DummySynchronizationRegistry registry = new DummySynchronizationRegistry();
+        TransactionalObserverNotifier notifier = createNotifier(new TransactionSynchronizationRegistryService(registry), true);
+
+        fire(notifier, "foo");
+        fire(notifier, "bar");
+        fire(notifier, "foo");
+        assertEquals(1, transactionServices.synchronizations.size());
+        assertEquals(1, statistics.getSynchronizationCount());
+        assertEquals(4, statistics.getDeferredNotificationCount());
+        assertEquals(2, statistics.getCoalescedNotificationCount());
+        assertEquals(1, registry.resources.size());
+        assertSame(transactionServices.synchronizations.get(0), registry.resources.values().iterator().next());
+
+        // Next transaction
+        registry.resources.clear();
+        fire(notifier, "foo");
+        assertEquals(2, transactionServices.synchronizations.size());
+        assertEquals(6, statistics.getDeferredNotificationCount());
+    }
+
+    @Test
+    public void testContainersDoNotShareSynchronization() {
+        DummySynchronizationRegistry registry = new DummySynchronizationRegistry();
+        TransactionSynchronizationRegistryService registryService = new TransactionSynchronizationRegistryService(registry);
+        fire(createNotifier("foo", registryService, false), "foo");
+        fire(createNotifier("bar", registryService, false), "foo");
+        assertEquals(2, transactionServices.synchronizations.size());
+        assertEquals(2, registry.resources.size());
+    }
+
+    @Test
+    public void testSynchronizationPerEventIfRegistryNotAvailable() {
+        TransactionalObserverNotifier notifier = createNotifier(new TransactionSynchronizationRegistryService(null), true);
+        fire(notifier, "foo");
+        fire(notifier, "bar");
+        fire(notifier, "foo");
+        assertEquals(3, transactionServices.synchronizations.size());
+        assertEquals(3, statistics.getSynchronizationCount());
+        // Each synchronization only sees its own event
+        assertEquals(6, statistics.getDeferredNotificationCount());
+        assertEquals(0, statistics.getCoalescedNotificationCount());
+    }
+
+    @Test
+    public void testRegistryNotAvailableInJndi() {
+        TransactionSynchronizationRegistryService registryService = new TransactionSynchronizationRegistryService();
+        // There is no initial context in this environment
+        assertNull(registryService.getRegistry());
+        TransactionalObserverNotifier notifier = createNotifier(registryService, false);
+        fire(notifier, "foo");
+        fire(notifier, "bar");
+        assertEquals(2, transactionServices.synchronizations.size());
+    }
+
+    @Test
+    public void testNoTransactionActive() {
+        DummySynchronizationRegistry registry = new DummySynchronizationRegistry();
+        TransactionalObserverNotifier notifier = createNotifier(new TransactionSynchronizationRegistryService(registry), false);
+        transactionServices.active = false;
+        fire(notifier, "foo");
+        assertTrue(transactionServices.synchronizations.isEmpty());
+        assertTrue(registry.resources.isEmpty());
+    }
+
+    private TransactionalObserverNotifier createNotifier(TransactionSynchronizationRegistryService registryService, boolean coalesce) {
+        return createNotifier("test", registryService, coalesce);
+    }
+
+    private TransactionalObserverNotifier createNotifier(String contextId, TransactionSynchronizationRegistryService registryService, boolean coalesce) {
+        SimpleServiceRegistry services = new SimpleServiceRegistry();
+        services.add(SecurityServices.class, NoopSecurityServices.INSTANCE);
+        services.add(TransactionServices.class, transactionServices);
+        services.add(TransactionalEventStatistics.class, statistics);
+        services.add(TransactionSynchronizationRegistryService.class, registryService);
+        return new TransactionalObserverNotifier(contextId, null, services, false, coalesce);
+    }
+
+    private void fire(TransactionalObserverNotifier notifier, Object event) {
+        notifier.notifyTransactionObservers(observers, event, METADATA, null);
+    }
+
+    private static class DummyTransactionServices implements TransactionServices {
+
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+
+        private boolean active = true;
+
+        @Override
+        public void registerSynchronization(Synchronization synchronizedObserver) {
+            assertNotNull(synchronizedObserver);
+            synchronizations.add(synchronizedObserver);
+        }
+
+        @Override
+        public boolean isTransactionActive() {
+            return active;
+        }
+
+        @Override
+        public UserTransaction getUserTransaction() {
+            return null;
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+    }
+
+    /**
+     * The resources of the current transaction.
+     */
+    private static class DummySynchronizationRegistry implements TransactionSynchronizationRegistry {
+
+        private final Map<Object, Object> resources = new HashMap<>();
+
+        @Override
+        public Object getTransactionKey() {
+            return this;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return resources.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return jakarta.transaction.Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+
+    }
+
+}
@@ -37,6 +37,16 @@ public abstract class AbstractWeldELResolver extends ELResolver {
 
     protected abstract BeanManagerImpl getManager(ELContext context);
 
+    /**
+     * Subclasses which always resolve against the same bean manager may cache the name resolution.
+     *
+     * @param context the EL context
+     * @return the cache of resolved bean names or null if names should not be cached
+     */
+    protected NamedBeanCache getNamedBeanCache(ELContext context) {
+        return null;
+    }
+
     @Override
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return null;
@@ -60,8 +70,8 @@ public abstract class AbstractWeldELResolver extends ELResolver {
             ElLogger.LOG.propertyLookup(propertyString);
             Namespace namespace = null;
             if (base == null) {
-                if (getRootNamespace().contains(propertyString)) {
-                    Object value = getRootNamespace().get(propertyString);
+                Namespace value = getRootNamespace().get(propertyString);
+                if (value != null) {
                     context.setPropertyResolved(true);
                     ElLogger.LOG.propertyResolved(propertyString, value);
                     return value;
@@ -70,9 +80,9 @@ public abstract class AbstractWeldELResolver extends ELResolver {
                 namespace = (Namespace) base;
                 // We're definitely the responsible party
                 context.setPropertyResolved(true);
-                if (namespace.contains(propertyString)) {
+                Namespace value = namespace.get(propertyString);
+                if (value != null) {
                     // There is a child namespace
-                    Object value = namespace.get(propertyString);
                     ElLogger.LOG.propertyResolved(propertyString, value);
                     return value;
                 }
@@ -98,7 +108,8 @@ public abstract class AbstractWeldELResolver extends ELResolver {
     }
 
     private Object lookup(BeanManagerImpl beanManager, ELContext context, String name) {
-        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+        final NamedBeanCache cache = getNamedBeanCache(context);
+        final Bean<?> bean = cache != null ? cache.get(name) : beanManager.resolve(beanManager.getBeans(name));
         if (bean == null) {
             return null;
         }
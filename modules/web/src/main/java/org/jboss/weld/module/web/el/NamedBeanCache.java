@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+
+/**
+ * Caches the result of bean name resolution for a single {@link BeanManagerImpl}. Only the resolved {@link Bean} is cached, the EL resolver still obtains
+ * the contextual instance for each evaluation.
+ *
+ * <p>
+ * Results are only cached once the container is initialized, i.e. the set of named beans cannot change anymore. Names which cannot be resolved are not
+ * cached so that the size of the cache is bounded by the number of named beans, no matter which identifiers are evaluated.
+ * </p>
+ */
+public class NamedBeanCache {
+
+    private final BeanManagerImpl manager;
+
+    private final ComputingCache<String, Bean<?>> cache;
+
+    private volatile boolean containerInitialized;
+
+    public NamedBeanCache(BeanManagerImpl manager) {
+        this.manager = manager;
+        this.cache = ComputingCacheBuilder.newBuilder().build(this::resolve);
+    }
+
+    /**
+     *
+     * @param name the bean name
+     * @return the resolved bean or null if no bean with the given name exists
+     */
+    public Bean<?> get(String name) {
+        if (!isContainerInitialized()) {
+            return resolve(name);
+        }
+        Bean<?> bean = cache.getValue(name);
+        if (bean == null) {
+            cache.invalidate(name);
+        }
+        return bean;
+    }
+
+    /**
+     *
+     * @return true if the container is initialized, i.e. the set of named beans cannot change anymore
+     */
+    public boolean isContainerInitialized() {
+        if (!containerInitialized) {
+            if (!ContainerState.INITIALIZED.equals(Container.instance(manager).getState())) {
+                return false;
+            }
+            containerInitialized = true;
+        }
+        return true;
+    }
+
+    private Bean<?> resolve(String name) {
+        return manager.resolve(manager.getBeans(name));
+    }
+
+}
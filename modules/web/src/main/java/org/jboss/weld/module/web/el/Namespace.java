@@ -28,6 +28,8 @@ public class Namespace {
     private final String qualifiedName;
     private final String name;
     private final Map<String, Namespace> children;
+    // Simple names of the beans in this namespace mapped to their qualified names
+    private final Map<String, String> beanNames;
 
     /**
      * Create a new namespace hierarchy
@@ -35,7 +37,7 @@ public class Namespace {
      * @param namespace
      */
     public Namespace(Iterable<String> namespaces) {
-        this(null, null);
+        this((String) null, null);
         for (String namespace : namespaces) {
             String[] hierarchy = namespace.split("\\.");
             Namespace n = this;
@@ -45,10 +47,42 @@ public class Namespace {
         }
     }
 
+    /**
+     * Create a new namespace hierarchy which also knows the qualified names of the given beans, i.e. {@link #qualifyName(String)} does not need to build a
+     * new string for a bean name.
+     *
+     * @param namespaces
+     * @param beanNames
+     */
+    public Namespace(Iterable<String> namespaces, Iterable<String> beanNames) {
+        this(namespaces);
+        for (String beanName : beanNames) {
+            int lastDot = beanName.lastIndexOf('.');
+            if (lastDot > 0) {
+                Namespace n = find(beanName.substring(0, lastDot));
+                if (n != null) {
+                    n.beanNames.put(beanName.substring(lastDot + 1), beanName);
+                }
+            }
+        }
+    }
+
     protected Namespace(String name, String qualifiedName) {
         this.name = name;
         this.qualifiedName = qualifiedName;
         this.children = new HashMap<String, Namespace>();
+        this.beanNames = new HashMap<String, String>();
+    }
+
+    private Namespace find(String namespace) {
+        Namespace n = this;
+        for (String s : namespace.split("\\.")) {
+            n = n.get(s);
+            if (n == null) {
+                return null;
+            }
+        }
+        return n;
     }
 
     private Namespace putIfAbsent(String key) {
@@ -77,7 +111,11 @@ public class Namespace {
     }
 
     public String qualifyName(String suffix) {
-        return qualifiedName == null ? suffix : qualifiedName + "." + suffix;
+        if (qualifiedName == null) {
+            return suffix;
+        }
+        String beanName = beanNames.get(suffix);
+        return beanName != null ? beanName : qualifiedName + "." + suffix;
     }
 
     @Override
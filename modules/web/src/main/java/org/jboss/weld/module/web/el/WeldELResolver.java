@@ -16,7 +16,11 @@
  */
 package org.jboss.weld.module.web.el;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.el.ELContext;
+import jakarta.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.LazyValueHolder;
@@ -29,10 +33,14 @@ public class WeldELResolver extends AbstractWeldELResolver {
 
     private final BeanManagerImpl beanManager;
     private final LazyValueHolder<Namespace> rootNamespace;
+    private final NamedBeanCache namedBeanCache;
+    // Built once the container is initialized
+    private volatile Namespace precomputedRootNamespace;
 
     public WeldELResolver(BeanManagerImpl manager) {
         this.beanManager = manager;
         this.rootNamespace = LazyValueHolder.forSupplier(() -> new Namespace(manager.getDynamicAccessibleNamespaces()));
+        this.namedBeanCache = new NamedBeanCache(manager);
     }
 
     @Override
@@ -40,9 +48,32 @@ public class WeldELResolver extends AbstractWeldELResolver {
         return beanManager;
     }
 
+    @Override
+    protected NamedBeanCache getNamedBeanCache(ELContext context) {
+        return namedBeanCache;
+    }
+
     @Override
     protected Namespace getRootNamespace() {
-        return rootNamespace.get();
+        Namespace namespace = precomputedRootNamespace;
+        if (namespace == null) {
+            if (!namedBeanCache.isContainerInitialized()) {
+                return rootNamespace.get();
+            }
+            namespace = new Namespace(beanManager.getDynamicAccessibleNamespaces(), getBeanNames(beanManager));
+            precomputedRootNamespace = namespace;
+        }
+        return namespace;
+    }
+
+    private static List<String> getBeanNames(BeanManagerImpl manager) {
+        List<String> names = new ArrayList<>();
+        for (Bean<?> bean : manager.getDynamicAccessibleBeans()) {
+            if (bean.getName() != null) {
+                names.add(bean.getName());
+            }
+        }
+        return names;
     }
 
 }
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.weld.module.web.el.Namespace;
+import org.junit.Test;
+
+public class NamespaceTest {
+
+    @Test
+    public void testBeanNamesPrecomputed() {
+        String beanName = "org.example.foo";
+        Namespace root = new Namespace(Arrays.asList("org", "org.example"), Collections.singletonList(beanName));
+        Namespace example = root.get("org").get("example");
+        assertNotNull(example);
+        assertEquals("org.example", example.getQualifiedName());
+        // The precomputed name is returned
+        assertSame(beanName, example.qualifyName("foo"));
+        // Unknown names are still qualified
+        assertEquals("org.example.bar", example.qualifyName("bar"));
+        assertEquals("org.foo", root.get("org").qualifyName("foo"));
+        assertEquals("foo", root.qualifyName("foo"));
+        assertNull(root.get("foo"));
+    }
+
+}
@@ -28,6 +28,8 @@ import jakarta.enterprise.inject.spi.ProcessInjectionTarget;
 import jakarta.enterprise.inject.spi.ProcessObserverMethod;
 import jakarta.enterprise.inject.spi.ProcessProducer;
 
+import org.jboss.weld.bootstrap.ValidationReport;
+
 /**
  *
  * @author Martin Kouba
@@ -38,6 +40,8 @@ class BootstrapStats {
 
     private final EnumMap<EventType, AtomicInteger> counts;
 
+    private volatile ValidationReport validationReport;
+
     BootstrapStats() {
         this.counts = new EnumMap<>(EventType.class);
         for (EventType type : EventType.values()) {
@@ -56,6 +60,17 @@ class BootstrapStats {
         return counts;
     }
 
+    /**
+     * @return the validation report or {@code null} if not available
+     */
+    ValidationReport getValidationReport() {
+        return validationReport;
+    }
+
+    void setValidationReport(ValidationReport validationReport) {
+        this.validationReport = validationReport;
+    }
+
     enum EventType {
 
         PAT(ProcessAnnotatedType.class, 1), PP(ProcessProducer.class, 6), PB(ProcessBean.class, 5), PIP(ProcessInjectionPoint.class,
@@ -21,6 +21,7 @@ import static org.jboss.weld.probe.Strings.ERROR;
 import static org.jboss.weld.probe.Strings.QUALIFIERS;
 import static org.jboss.weld.probe.Strings.REMOVED_EVENTS;
 import static org.jboss.weld.probe.Strings.REMOVED_INVOCATIONS;
+import static org.jboss.weld.probe.Strings.REMOVED_LATENCIES;
 import static org.jboss.weld.probe.Strings.REQUIRED_TYPE;
 import static org.jboss.weld.probe.Strings.RESOLVE;
 
@@ -158,6 +159,16 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
         return JsonObjects.createMonitoringStatsJson(probe).build();
     }
 
+    @Override
+    public String receiveLatencies() {
+        return JsonObjects.createLatenciesJson(probe).build();
+    }
+
+    @Override
+    public String clearLatencies() {
+        return Json.objectBuilder().add(REMOVED_LATENCIES, probe.clearLatencyHistograms()).build();
+    }
+
     @Override
     public String receiveAvailableBeans(int pageIndex, int pageSize, String filters, String representation) {
         Map<String, String> filterValues = Queries.Filters.parseFilters(filters);
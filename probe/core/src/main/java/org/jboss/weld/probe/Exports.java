@@ -45,6 +45,7 @@ final class Exports {
         addEntry(out, "beans", jsonDataProvider.receiveBeans(0, 0, null, Representation.FULL.toString()));
         addEntry(out, "fired-events", jsonDataProvider.receiveEvents(0, 0, null));
         addEntry(out, "invocation-trees", jsonDataProvider.receiveInvocations(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, "latencies", jsonDataProvider.receiveLatencies());
         addEntry(out, "contexts", jsonDataProvider.receiveContexts());
         for (String contextKey : Components.INSPECTABLE_SCOPES.keySet()) {
             addEntry(out, "context-" + contextKey, jsonDataProvider.receiveContext(contextKey));
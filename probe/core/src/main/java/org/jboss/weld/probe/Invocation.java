@@ -148,6 +148,33 @@ public final class Invocation {
 
     }
 
+    /**
+     *
+     * @param ctx
+     * @return the guessed type of the intercepted method
+     */
+    static Type guessType(InvocationContext ctx) {
+        // This will only work for "unmodified" discovered types
+        if (ctx.getMethod().isAnnotationPresent(Produces.class)) {
+            return Type.PRODUCER;
+        } else {
+            Annotation[][] parameterAnnotations = ctx.getMethod().getParameterAnnotations();
+            if (parameterAnnotations.length > 0) {
+                for (Annotation[] annotations : parameterAnnotations) {
+                    for (Annotation annotation : annotations) {
+                        Class<? extends Annotation> type = annotation.annotationType();
+                        if (Observes.class.equals(type)) {
+                            return Type.OBSERVER;
+                        } else if (Disposes.class.equals(type)) {
+                            return Type.DISPOSER;
+                        }
+                    }
+                }
+            }
+        }
+        return Type.BUSINESS;
+    }
+
     static enum Comparators implements Comparator<Invocation> {
 
         /**
@@ -256,6 +283,10 @@ public final class Invocation {
             return this;
         }
 
+        Type getType() {
+            return type;
+        }
+
         Builder setDescription(String description) {
             this.description = description;
             return this;
@@ -271,25 +302,7 @@ public final class Invocation {
         }
 
         Builder guessType(InvocationContext ctx) {
-            // This will only work for "unmodified" discovered types
-            if (ctx.getMethod().isAnnotationPresent(Produces.class)) {
-                return setType(Type.PRODUCER);
-            } else {
-                Annotation[][] parameterAnnotations = ctx.getMethod().getParameterAnnotations();
-                if (parameterAnnotations.length > 0) {
-                    for (Annotation[] annotations : parameterAnnotations) {
-                        for (Annotation annotation : annotations) {
-                            Class<? extends Annotation> type = annotation.annotationType();
-                            if (Observes.class.equals(type)) {
-                                return setType(Type.OBSERVER);
-                            } else if (Disposes.class.equals(type)) {
-                                return setType(Type.DISPOSER);
-                            }
-                        }
-                    }
-                }
-            }
-            return setType(Type.BUSINESS);
+            return setType(Invocation.guessType(ctx));
         }
 
         Builder getParent() {
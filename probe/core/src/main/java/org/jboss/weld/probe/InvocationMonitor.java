@@ -62,23 +62,37 @@ public class InvocationMonitor implements Serializable {
 
     private static final InterceptorAction INTERCEPTOR_ACTION = new InterceptorAction();
 
+    /**
+     * Returned for an entry point which is not sampled. It is bound to the current thread until the entry point completes so that no builders are
+     * created for the nested invocations either.
+     */
+    static final Invocation.Builder NOT_SAMPLED = Invocation.Builder.newBuilder(null);
+
     /**
      *
-     * @return a new entry point or a child
+     * @param probe
+     * @return a new entry point or a child, {@link #NOT_SAMPLED} or <code>null</code>
+     * @see #initBuilder(Probe, boolean)
      */
-    static Invocation.Builder initBuilder() {
-        return initBuilder(true);
+    static Invocation.Builder initBuilder(Probe probe) {
+        return initBuilder(probe, true);
     }
 
     /**
+     * The sampling decision is made when an entry point is invoked, i.e. before any builder is created. If an invocation tree is not sampled,
+     * {@link #NOT_SAMPLED} is returned for the entry point and <code>null</code> for the nested invocations.
      *
-     * @return a new entry point or a child or <code>null</code>
+     * @param probe
+     * @param initChild
+     * @return a new entry point or a child, {@link #NOT_SAMPLED} or <code>null</code>
      */
-    static Invocation.Builder initBuilder(boolean initChild) {
+    static Invocation.Builder initBuilder(Probe probe, boolean initChild) {
         Invocation.Builder builder = INVOCATIONS.get();
         if (builder == null) {
-            builder = Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet());
+            builder = probe.isInvocationSampled() ? Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet()) : NOT_SAMPLED;
             INVOCATIONS.set(builder);
+        } else if (builder == NOT_SAMPLED) {
+            return null;
         } else if (initChild) {
             builder = builder.newChild();
             INVOCATIONS.set(builder);
@@ -86,6 +100,15 @@ public class InvocationMonitor implements Serializable {
         return builder;
     }
 
+    /**
+     *
+     * @param builder
+     * @return <code>true</code> if the given builder records an invocation, <code>false</code> otherwise
+     */
+    static boolean isRecorded(Invocation.Builder builder) {
+        return builder != null && builder != NOT_SAMPLED;
+    }
+
     @Intercepted
     @Inject
     @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "According to specification, injected bean has to be serializable.")
@@ -101,16 +124,18 @@ public class InvocationMonitor implements Serializable {
     @AroundConstruct
     public void monitorCreation(InvocationContext ctx) {
         init();
-        final Invocation.Builder builder = initBuilder();
+        final Invocation.Builder builder = initBuilder(probe);
 
-        if (interceptedBean != null) {
-            builder.setInterceptedBean(interceptedBean);
-        } else {
-            builder.setDeclaringClassName(ctx.getConstructor().getDeclaringClass().getName());
+        if (isRecorded(builder)) {
+            if (interceptedBean != null) {
+                builder.setInterceptedBean(interceptedBean);
+            } else {
+                builder.setDeclaringClassName(ctx.getConstructor().getDeclaringClass().getName());
+            }
+            builder.setType(Type.CONSTRUCTOR);
+            builder.setStart(System.currentTimeMillis());
+            builder.setMethodName(ctx.getConstructor().toString());
         }
-        builder.setType(Type.CONSTRUCTOR);
-        builder.setStart(System.currentTimeMillis());
-        builder.setMethodName(ctx.getConstructor().toString());
         try {
             INTERCEPTOR_ACTION.perform(builder, probe, ctx);
         } catch (Exception e) {
@@ -125,18 +150,20 @@ public class InvocationMonitor implements Serializable {
             return ctx.proceed();
         }
         init();
-        final Invocation.Builder builder = initBuilder();
+        final Invocation.Builder builder = initBuilder(probe);
 
-        if (interceptedBean != null) {
-            builder.setInterceptedBean(interceptedBean);
-        } else {
-            builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+        if (isRecorded(builder)) {
+            if (interceptedBean != null) {
+                builder.setInterceptedBean(interceptedBean);
+            } else {
+                builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+            }
+            builder.guessType(ctx);
+            builder.setStart(System.currentTimeMillis());
+            builder.setMethodName(ctx.getMethod().getName());
         }
-        builder.guessType(ctx);
-        builder.setStart(System.currentTimeMillis());
-        builder.setMethodName(ctx.getMethod().getName());
 
-        return INTERCEPTOR_ACTION.perform(builder, probe, ctx);
+        return INTERCEPTOR_ACTION.perform(builder, probe, ctx, interceptedBean != null ? probe.getLatencyHistogram(interceptedBean, ctx) : null);
     }
 
     private void init() {
@@ -169,10 +196,28 @@ public class InvocationMonitor implements Serializable {
     abstract static class Action<T> {
 
         Object perform(Invocation.Builder builder, Probe probe, T context) throws Exception {
+            return perform(builder, probe, context, null);
+        }
+
+        Object perform(Invocation.Builder builder, Probe probe, T context, LatencyHistogram histogram) throws Exception {
+            if (!isRecorded(builder)) {
+                // The invocation tree is not sampled, only the latency is recorded
+                try {
+                    return proceed(context, histogram);
+                } finally {
+                    if (builder == NOT_SAMPLED) {
+                        INVOCATIONS.remove();
+                    }
+                }
+            }
             try {
                 long start = System.nanoTime();
                 Object result = proceed(context);
-                builder.setDuration(System.nanoTime() - start);
+                long duration = System.nanoTime() - start;
+                builder.setDuration(duration);
+                if (histogram != null) {
+                    histogram.record(duration);
+                }
                 if (builder.isEntryPoint()) {
                     if (!builder.isIgnored()) {
                         probe.addInvocation(builder.build());
@@ -188,6 +233,16 @@ public class InvocationMonitor implements Serializable {
             }
         }
 
+        private Object proceed(T context, LatencyHistogram histogram) throws Exception {
+            if (histogram == null) {
+                return proceed(context);
+            }
+            long start = System.nanoTime();
+            Object result = proceed(context);
+            histogram.record(System.nanoTime() - start);
+            return result;
+        }
+
         protected abstract Object proceed(T context) throws Exception;
 
     }
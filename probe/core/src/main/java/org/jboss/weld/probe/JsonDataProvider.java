@@ -171,6 +171,22 @@ public interface JsonDataProvider {
     @Description("Receives monitoring stats.")
     String receiveMonitoringStats();
 
+    /**
+     *
+     * @return the JSON data
+     * @see Resource#LATENCIES
+     */
+    @Description("Receives latency histograms (count, mean, max, p50, p90, p99, p999 in nanoseconds and throughput per second) of monitored bean methods and observer methods.")
+    String receiveLatencies();
+
+    /**
+     *
+     * @return the JSON result
+     * @see Resource#LATENCIES
+     */
+    @Description("Removes all monitoring data - latency histograms.")
+    String clearLatencies();
+
     /**
      *
      * @param pageIndex
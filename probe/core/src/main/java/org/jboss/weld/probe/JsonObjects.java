@@ -18,6 +18,7 @@ package org.jboss.weld.probe;
 
 import static org.jboss.weld.probe.Strings.ACCESSIBLE_BDAS;
 import static org.jboss.weld.probe.Strings.ACTIVATIONS;
+import static org.jboss.weld.probe.Strings.ACTIVE;
 import static org.jboss.weld.probe.Strings.ALTERNATIVES;
 import static org.jboss.weld.probe.Strings.ANNOTATED_METHOD;
 import static org.jboss.weld.probe.Strings.APPLICATION;
@@ -41,6 +42,8 @@ import static org.jboss.weld.probe.Strings.CONFLICTS;
 import static org.jboss.weld.probe.Strings.CONTAINER;
 import static org.jboss.weld.probe.Strings.CONTEXTS;
 import static org.jboss.weld.probe.Strings.CONTEXT_ID;
+import static org.jboss.weld.probe.Strings.CONVERSATIONS;
+import static org.jboss.weld.probe.Strings.COUNT;
 import static org.jboss.weld.probe.Strings.DASHBOARD;
 import static org.jboss.weld.probe.Strings.DATA;
 import static org.jboss.weld.probe.Strings.DECLARED_OBSERVERS;
@@ -61,6 +64,7 @@ import static org.jboss.weld.probe.Strings.EMPTY;
 import static org.jboss.weld.probe.Strings.ENABLEMENT;
 import static org.jboss.weld.probe.Strings.EVENT_INFO;
 import static org.jboss.weld.probe.Strings.EXCLUDE;
+import static org.jboss.weld.probe.Strings.EXPIRED;
 import static org.jboss.weld.probe.Strings.FIRED;
 import static org.jboss.weld.probe.Strings.HASH;
 import static org.jboss.weld.probe.Strings.ID;
@@ -79,13 +83,20 @@ import static org.jboss.weld.probe.Strings.IS_POTENTIAL;
 import static org.jboss.weld.probe.Strings.IS_UNSATISFIED;
 import static org.jboss.weld.probe.Strings.KIND;
 import static org.jboss.weld.probe.Strings.LAST_PAGE;
+import static org.jboss.weld.probe.Strings.LATENCIES;
 import static org.jboss.weld.probe.Strings.MARKER;
+import static org.jboss.weld.probe.Strings.MAX;
+import static org.jboss.weld.probe.Strings.MEAN;
 import static org.jboss.weld.probe.Strings.METHOD;
 import static org.jboss.weld.probe.Strings.METHOD_NAME;
 import static org.jboss.weld.probe.Strings.NAME;
 import static org.jboss.weld.probe.Strings.OBJECT_TO_STRING;
 import static org.jboss.weld.probe.Strings.OBSERVED_TYPE;
 import static org.jboss.weld.probe.Strings.OBSERVERS;
+import static org.jboss.weld.probe.Strings.P50;
+import static org.jboss.weld.probe.Strings.P90;
+import static org.jboss.weld.probe.Strings.P999;
+import static org.jboss.weld.probe.Strings.P99;
 import static org.jboss.weld.probe.Strings.PAGE;
 import static org.jboss.weld.probe.Strings.PRIORITY;
 import static org.jboss.weld.probe.Strings.PRIORITY_RANGE;
@@ -100,17 +111,21 @@ import static org.jboss.weld.probe.Strings.REQUIRED_TYPE;
 import static org.jboss.weld.probe.Strings.SCAN;
 import static org.jboss.weld.probe.Strings.SCOPE;
 import static org.jboss.weld.probe.Strings.SESSION_BEAN_TYPE;
+import static org.jboss.weld.probe.Strings.SLOWEST;
 import static org.jboss.weld.probe.Strings.START;
 import static org.jboss.weld.probe.Strings.STEREOTYPES;
 import static org.jboss.weld.probe.Strings.SYS_PROPERTY;
+import static org.jboss.weld.probe.Strings.THROUGHPUT;
 import static org.jboss.weld.probe.Strings.TIME;
 import static org.jboss.weld.probe.Strings.TIMESTAMP;
 import static org.jboss.weld.probe.Strings.TOTAL;
+import static org.jboss.weld.probe.Strings.TOTAL_TIME;
 import static org.jboss.weld.probe.Strings.TRIMMED;
 import static org.jboss.weld.probe.Strings.TX_PHASE;
 import static org.jboss.weld.probe.Strings.TYPE;
 import static org.jboss.weld.probe.Strings.TYPES;
 import static org.jboss.weld.probe.Strings.UNUSED;
+import static org.jboss.weld.probe.Strings.VALIDATION_STATS;
 import static org.jboss.weld.probe.Strings.VALUE;
 import static org.jboss.weld.probe.Strings.VERSION;
 import static org.jboss.weld.probe.Strings.WARNING;
@@ -136,6 +151,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.enterprise.context.ContextNotActiveException;
@@ -163,6 +179,8 @@ import org.jboss.weld.bean.SessionBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.InstanceImpl;
 import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.bootstrap.ValidationReport;
+import org.jboss.weld.bootstrap.ValidationReport.BeanValidationTime;
 import org.jboss.weld.bootstrap.enablement.ModuleEnablement;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
@@ -175,6 +193,7 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.ManagedConversation;
 import org.jboss.weld.contexts.AbstractConversationContext;
+import org.jboss.weld.contexts.conversation.ConversationStatistics;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
 import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
@@ -387,6 +406,7 @@ final class JsonObjects {
         dashboardBuilder.add(APPLICATION, appBuilder);
         // Bootstrap
         dashboardBuilder.add(BOOSTRAP_STATS, createBootstrapStatsJson(probe));
+        dashboardBuilder.add(VALIDATION_STATS, createValidationStatsJson(probe));
         deploymentBuilder.add(DASHBOARD, dashboardBuilder);
 
         return deploymentBuilder.build();
@@ -1335,13 +1355,77 @@ final class JsonObjects {
         return builder;
     }
 
+    static JsonObjectBuilder createValidationStatsJson(Probe probe) {
+        JsonObjectBuilder builder = Json.objectBuilder(true);
+        ValidationReport report = probe.getBootstrapStats().getValidationReport();
+        if (report == null) {
+            return builder;
+        }
+        JsonArrayBuilder bdasBuilder = Json.arrayBuilder(true);
+        for (Entry<String, Long> entry : report.getArchiveTimes().entrySet()) {
+            JsonObjectBuilder bdaBuilder = createSimpleBdaJson(entry.getKey());
+            bdaBuilder.add(TIME, TimeUnit.NANOSECONDS.toMillis(entry.getValue()));
+            bdasBuilder.add(bdaBuilder);
+        }
+        builder.add(BDAS, bdasBuilder);
+        JsonArrayBuilder slowestBuilder = Json.arrayBuilder(true);
+        for (BeanValidationTime beanTime : report.getSlowestBeans()) {
+            JsonObjectBuilder beanBuilder;
+            if (probe.getBeanId(beanTime.getBean()) != null) {
+                beanBuilder = createSimpleBeanJson(beanTime.getBean(), probe);
+            } else {
+                beanBuilder = Json.objectBuilder(true);
+                beanBuilder.add(BEAN_CLASS, beanTime.getBean().getBeanClass().getName());
+                beanBuilder.add(BDA_ID, Components.getId(beanTime.getArchiveId()));
+            }
+            beanBuilder.add(TIME, TimeUnit.NANOSECONDS.toMicros(beanTime.getTime()));
+            slowestBuilder.add(beanBuilder);
+        }
+        builder.add(SLOWEST, slowestBuilder);
+        return builder;
+    }
+
     static JsonObjectBuilder createMonitoringStatsJson(Probe probe) {
         JsonObjectBuilder builder = Json.objectBuilder();
         builder.add(FIRED, probe.getFiredEventsCount());
         builder.add(INVOCATIONS, probe.getInvocationsCount());
+        ConversationStatistics conversationStatistics = probe.getConversationStatistics();
+        if (conversationStatistics != null) {
+            builder.add(CONVERSATIONS, Json.objectBuilder().add(ACTIVE, conversationStatistics.getActiveConversationCount()).add(EXPIRED,
+                    conversationStatistics.getExpiredConversationCount()));
+        }
         return builder;
     }
 
+    static JsonObjectBuilder createLatenciesJson(Probe probe) {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>();
+        for (LatencyHistogram histogram : probe.getLatencyHistograms()) {
+            snapshots.add(histogram.snapshot());
+        }
+        // The highest total time goes first
+        snapshots.sort(Comparator.comparingLong(LatencyHistogram.Snapshot::getTotalTime).reversed());
+        JsonArrayBuilder latenciesBuilder = Json.arrayBuilder();
+        for (LatencyHistogram.Snapshot snapshot : snapshots) {
+            LatencyHistogram histogram = snapshot.getHistogram();
+            JsonObjectBuilder latencyBuilder = Json.objectBuilder();
+            latencyBuilder.add(INTERCEPTED_BEAN, createSimpleBeanJson(histogram.getBean(), probe));
+            latencyBuilder.add(DECLARING_CLASS, histogram.getMethod().getDeclaringClass().getName());
+            latencyBuilder.add(METHOD_NAME, histogram.getMethod().getName());
+            latencyBuilder.add(TYPE, histogram.getType().toString());
+            latencyBuilder.add(COUNT, snapshot.getCount());
+            latencyBuilder.add(TOTAL_TIME, snapshot.getTotalTime());
+            latencyBuilder.add(MEAN, snapshot.getMean());
+            latencyBuilder.add(MAX, snapshot.getMax());
+            latencyBuilder.add(P50, snapshot.getValueAtPercentile(50));
+            latencyBuilder.add(P90, snapshot.getValueAtPercentile(90));
+            latencyBuilder.add(P99, snapshot.getValueAtPercentile(99));
+            latencyBuilder.add(P999, snapshot.getValueAtPercentile(99.9));
+            latencyBuilder.add(THROUGHPUT, Math.round(snapshot.getThroughput()));
+            latenciesBuilder.add(latencyBuilder);
+        }
+        return Json.objectBuilder().add(LATENCIES, latenciesBuilder);
+    }
+
     static String simplifiedScope(Class<? extends Annotation> scope) {
         return "@" + (Components.isBuiltinScope(scope) ? scope.getSimpleName() : scope.getName());
     }
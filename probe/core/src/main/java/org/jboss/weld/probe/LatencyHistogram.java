@@ -0,0 +1,217 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.probe.Invocation.Type;
+
+/**
+ * A latency histogram of a monitored bean method. Inspired by HdrHistogram - values are recorded in buckets with logarithmic width and a fixed number
+ * of linear sub-buckets, i.e. the relative error of a recorded value is at most {@code 1 / 16}.
+ * <p>
+ * Recording a value does not allocate and does not block. A {@link Snapshot} is needed to obtain the percentiles.
+ *
+ * @see Probe#getLatencyHistogram(Bean, jakarta.interceptor.InvocationContext)
+ */
+@Vetoed
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // Values below this limit are recorded exactly
+    private static final long EXACT_LIMIT = 2 * SUB_BUCKET_COUNT;
+
+    // Values greater than ~73 minutes are recorded in the last bucket
+    private static final long MAX_TRACKED_VALUE = (1L << 42) - 1;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKED_VALUE) + 1;
+
+    private final Bean<?> bean;
+
+    private final Method method;
+
+    private final Type type;
+
+    private final AtomicLongArray counts;
+
+    private final LongAdder totalTime;
+
+    private final AtomicLong maxValue;
+
+    private final long startTs;
+
+    /**
+     *
+     * @param bean
+     * @param method
+     * @param type
+     */
+    LatencyHistogram(Bean<?> bean, Method method, Type type) {
+        this.bean = bean;
+        this.method = method;
+        this.type = type;
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalTime = new LongAdder();
+        this.maxValue = new AtomicLong();
+        this.startTs = System.currentTimeMillis();
+    }
+
+    /**
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts.incrementAndGet(indexOf(Math.min(nanos, MAX_TRACKED_VALUE)));
+        totalTime.add(nanos);
+        long max = maxValue.get();
+        while (nanos > max && !maxValue.compareAndSet(max, nanos)) {
+            max = maxValue.get();
+        }
+    }
+
+    Bean<?> getBean() {
+        return bean;
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     *
+     * @return a snapshot of the current state
+     */
+    Snapshot snapshot() {
+        long[] snapshotCounts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotCounts[i] = counts.get(i);
+            count += snapshotCounts[i];
+        }
+        return new Snapshot(this, snapshotCounts, count, totalTime.sum(), maxValue.get(), System.currentTimeMillis() - startTs);
+    }
+
+    static int indexOf(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        // The mantissa is in the range [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT)
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < EXACT_LIMIT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * An immutable snapshot of a histogram. All the values are in nanoseconds.
+     */
+    static class Snapshot {
+
+        private final LatencyHistogram histogram;
+
+        private final long[] counts;
+
+        private final long count;
+
+        private final long totalTime;
+
+        private final long max;
+
+        private final long period;
+
+        private Snapshot(LatencyHistogram histogram, long[] counts, long count, long totalTime, long max, long period) {
+            this.histogram = histogram;
+            this.counts = counts;
+            this.count = count;
+            this.totalTime = totalTime;
+            this.max = max;
+            this.period = period;
+        }
+
+        LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        long getTotalTime() {
+            return totalTime;
+        }
+
+        long getMax() {
+            return max;
+        }
+
+        long getMean() {
+            return count == 0 ? 0 : totalTime / count;
+        }
+
+        /**
+         *
+         * @return the number of invocations per second since the histogram was created
+         */
+        double getThroughput() {
+            return period <= 0 ? count : count * 1000.0 / period;
+        }
+
+        /**
+         *
+         * @param percentile in the range [0, 100]
+         * @return the highest value such that the given percentage of recorded values is less than or equal to it
+         */
+        long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i];
+                if (total >= countAtPercentile) {
+                    return Math.min(highestEquivalentValue(i), max);
+                }
+            }
+            return max;
+        }
+    }
+
+}
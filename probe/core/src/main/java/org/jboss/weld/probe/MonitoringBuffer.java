@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.Vetoed;
+
+/**
+ * A fixed-capacity ring buffer for monitoring data. Once the capacity is reached the oldest elements are overwritten.
+ * <p>
+ * Adding an element is lock-free - a writer only claims a slot by incrementing the shared sequence and then stores the element. Readers take a
+ * weakly-consistent snapshot, i.e. an element which is being overwritten concurrently may or may not be included.
+ * <p>
+ * If a key function is set, the elements are also indexed by key. An element is removed from the index once it is overwritten in the buffer.
+ * <p>
+ * A buffer with zero capacity does not keep any elements, i.e. monitoring is disabled.
+ *
+ * @param <T> the element type
+ */
+@Vetoed
+class MonitoringBuffer<T> {
+
+    private final int capacity;
+
+    private final AtomicReferenceArray<T> slots;
+
+    private final AtomicLong sequence;
+
+    // Null if elements are not indexed
+    private final Function<? super T, ?> keyFunction;
+
+    private final ConcurrentMap<Object, T> index;
+
+    /**
+     *
+     * @param capacity
+     */
+    MonitoringBuffer(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     *
+     * @param capacity
+     * @param keyFunction
+     */
+    MonitoringBuffer(int capacity, Function<? super T, ?> keyFunction) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be a negative number: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<T>(capacity);
+        this.sequence = new AtomicLong();
+        this.keyFunction = keyFunction;
+        this.index = keyFunction != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     *
+     * @param element
+     * @return <code>true</code> if an old element was overwritten for the first time, i.e. the capacity was just exceeded
+     */
+    boolean add(T element) {
+        if (capacity == 0) {
+            return false;
+        }
+        if (index == null) {
+            long seq = sequence.getAndIncrement();
+            slots.lazySet((int) (seq % capacity), element);
+            return seq == capacity;
+        }
+        // Index the element first so that a concurrent writer which overwrites it does not leave a stale key behind
+        index.put(keyFunction.apply(element), element);
+        long seq = sequence.getAndIncrement();
+        T overwritten = slots.getAndSet((int) (seq % capacity), element);
+        if (overwritten != null) {
+            index.remove(keyFunction.apply(overwritten), overwritten);
+        }
+        return seq == capacity;
+    }
+
+    /**
+     *
+     * @param key
+     * @return the element with the given key or <code>null</code> if no such element exists or the elements are not indexed
+     */
+    T get(Object key) {
+        return index != null ? index.get(key) : null;
+    }
+
+    /**
+     *
+     * @return the elements, last added elements go first
+     */
+    List<T> getAll() {
+        long end = sequence.get();
+        long start = Math.max(0, end - capacity);
+        List<T> result = new ArrayList<T>((int) (end - start));
+        for (long seq = end - 1; seq >= start; seq--) {
+            T element = slots.get((int) (seq % capacity));
+            // The slot may be claimed but not written yet
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of elements
+     */
+    int size() {
+        return (int) Math.min(sequence.get(), capacity);
+    }
+
+    /**
+     *
+     * @return the capacity
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+}
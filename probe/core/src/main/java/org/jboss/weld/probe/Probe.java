@@ -21,20 +21,20 @@ import static org.jboss.weld.probe.Strings.WEB_INF_CLASSES;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.enterprise.inject.Vetoed;
@@ -44,6 +44,7 @@ import jakarta.enterprise.inject.spi.Decorator;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bean.AbstractProducerBean;
@@ -52,6 +53,7 @@ import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.contexts.conversation.ConversationStatistics;
 import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
@@ -73,11 +75,9 @@ import org.jboss.weld.util.reflection.Reflections;
 @Vetoed
 class Probe {
 
-    // If needed make this configurable
-    private static final int DEFAULT_INVOCATIONS_LIMIT = 5000;
+    static final int DEFAULT_INVOCATIONS_LIMIT = 5000;
 
-    // If needed make this configurable
-    private static final int DEFAULT_EVENTS_LIMIT = 5000;
+    static final int DEFAULT_EVENTS_LIMIT = 5000;
 
     // Immutable mappings
 
@@ -99,9 +99,16 @@ class Probe {
 
     // Monitoring data
 
-    private final ConcurrentMap<Integer, Invocation> invocations;
+    private volatile MonitoringBuffer<Invocation> invocations;
 
-    private final List<EventInfo> events;
+    private volatile MonitoringBuffer<EventInfo> events;
+
+    // Only every n-th entry point/event is recorded on average
+    private volatile int invocationsSampling;
+
+    private volatile int eventsSampling;
+
+    private final ConcurrentMap<Bean<?>, ConcurrentMap<Method, LatencyHistogram>> latencyHistograms;
 
     // Comparators
 
@@ -115,13 +122,18 @@ class Probe {
 
     private final BootstrapStats bootstrapStats;
 
+    private volatile ConversationStatistics conversationStatistics;
+
     /**
      *
      */
     Probe() {
         this.initTs = new AtomicLong(0);
-        this.invocations = new ConcurrentHashMap<Integer, Invocation>();
-        this.events = Collections.synchronizedList(new LinkedList<EventInfo>());
+        this.invocations = newInvocationsBuffer(DEFAULT_INVOCATIONS_LIMIT);
+        this.events = new MonitoringBuffer<EventInfo>(DEFAULT_EVENTS_LIMIT);
+        this.invocationsSampling = 1;
+        this.eventsSampling = 1;
+        this.latencyHistograms = new ConcurrentHashMap<>();
         this.beanToId = new HashMap<Bean<?>, String>();
         this.idToBean = new HashMap<String, Bean<?>>();
         this.beanToManager = new HashMap<Bean<?>, BeanManagerImpl>();
@@ -177,6 +189,7 @@ class Probe {
     void init(BeanManagerImpl beanManager) {
 
         ContextualStore contextualStore = beanManager.getServices().get(ContextualStore.class);
+        conversationStatistics = beanManager.getServices().get(ConversationStatistics.class);
         bdaToManager.putAll(Container.instance(beanManager).beanDeploymentArchives());
 
         for (Entry<BeanDeploymentArchive, BeanManagerImpl> entry : bdaToManager.entrySet()) {
@@ -328,6 +341,45 @@ class Probe {
         return beanToDeclaredProducers.containsKey(bean) ? beanToDeclaredProducers.get(bean) : Collections.emptySet();
     }
 
+    /**
+     * Replaces the monitoring data buffers if the limits differ from the current ones. A limit of zero disables the monitoring.
+     *
+     * @param invocationsLimit
+     * @param eventsLimit
+     * @param invocationsSampling
+     * @param eventsSampling
+     */
+    void configureMonitoring(int invocationsLimit, int eventsLimit, int invocationsSampling, int eventsSampling) {
+        if (invocations.getCapacity() != invocationsLimit) {
+            invocations = newInvocationsBuffer(invocationsLimit);
+        }
+        if (events.getCapacity() != eventsLimit) {
+            events = new MonitoringBuffer<EventInfo>(eventsLimit);
+        }
+        this.invocationsSampling = Math.max(1, invocationsSampling);
+        this.eventsSampling = Math.max(1, eventsSampling);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the current entry point should be recorded
+     */
+    boolean isInvocationSampled() {
+        return invocations.getCapacity() > 0 && isSampled(invocationsSampling);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the current event should be recorded
+     */
+    boolean isEventSampled() {
+        return events.getCapacity() > 0 && isSampled(eventsSampling);
+    }
+
+    private static boolean isSampled(int sampling) {
+        return sampling == 1 || ThreadLocalRandom.current().nextInt(sampling) == 0;
+    }
+
     /**
      *
      * @param invocation
@@ -336,20 +388,11 @@ class Probe {
         if (!invocation.isEntryPoint()) {
             throw new IllegalStateException("Invocation is not an entry point!");
         }
-        // Remove some old data if the limit is exceeded
-        if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-            synchronized (this) {
-                if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-                    Set<Integer> keySet = invocations.keySet();
-                    List<Integer> sorted = new ArrayList<Integer>(keySet);
-                    Collections.sort(sorted, Collections.reverseOrder());
-                    if (keySet.removeAll(sorted.subList(DEFAULT_INVOCATIONS_LIMIT / 2, sorted.size()))) {
-                        ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), DEFAULT_INVOCATIONS_LIMIT);
-                    }
-                }
-            }
+        MonitoringBuffer<Invocation> invocations = this.invocations;
+        if (invocations.add(invocation)) {
+            // Old data are overwritten from now on
+            ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), invocations.getCapacity());
         }
-        invocations.put(invocation.getEntryPointIdx(), invocation);
     }
 
     /**
@@ -357,7 +400,7 @@ class Probe {
      * @return the sorted entry points (invocation trees)
      */
     List<Invocation> getInvocations() {
-        List<Invocation> sorted = new ArrayList<Invocation>(invocations.values());
+        List<Invocation> sorted = invocations.getAll();
         Collections.sort(sorted, Invocation.Comparators.ENTRY_POINT_IDX);
         return sorted;
     }
@@ -368,33 +411,34 @@ class Probe {
      * @return the invocation tree with the given generated id
      */
     Invocation getInvocation(String id) {
+        Integer idx;
         try {
-            return invocations.get(Integer.valueOf(id));
+            idx = Integer.valueOf(id);
         } catch (NumberFormatException e) {
             return null;
         }
+        return invocations.get(idx);
     }
 
     /**
    *
    */
     int clearInvocations() {
-        int size = invocations.size();
-        invocations.clear();
-        return size;
+        MonitoringBuffer<Invocation> cleared = invocations;
+        invocations = newInvocationsBuffer(cleared.getCapacity());
+        return cleared.size();
+    }
+
+    private static MonitoringBuffer<Invocation> newInvocationsBuffer(int capacity) {
+        return new MonitoringBuffer<Invocation>(capacity, Invocation::getEntryPointIdx);
     }
 
     void addEvent(EventInfo event) {
-        // Remove some old data if the limit is exceeded
-        if (events.size() > DEFAULT_EVENTS_LIMIT) {
-            synchronized (this) {
-                if (events.size() > DEFAULT_EVENTS_LIMIT) {
-                    events.subList(0, DEFAULT_EVENTS_LIMIT / 2).clear();
-                    ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), DEFAULT_EVENTS_LIMIT);
-                }
-            }
+        MonitoringBuffer<EventInfo> events = this.events;
+        if (events.add(event)) {
+            // Old data are overwritten from now on
+            ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), events.getCapacity());
         }
-        events.add(event);
     }
 
     /**
@@ -403,13 +447,7 @@ class Probe {
      * @return mutable copy of the captured event information
      */
     List<EventInfo> getEvents() {
-        synchronized (events) {
-            List<EventInfo> result = new ArrayList<>(events.size());
-            for (ListIterator<EventInfo> iterator = events.listIterator(events.size()); iterator.hasPrevious();) {
-                result.add(iterator.previous());
-            }
-            return result;
-        }
+        return events.getAll();
     }
 
     /**
@@ -417,11 +455,53 @@ class Probe {
      * @return the number of captured events before the state is cleared.
      */
     int clearEvents() {
-        synchronized (events) {
-            int count = events.size();
-            events.clear();
-            return count;
+        MonitoringBuffer<EventInfo> cleared = events;
+        events = new MonitoringBuffer<EventInfo>(cleared.getCapacity());
+        return cleared.size();
+    }
+
+    /**
+     *
+     * @param bean
+     * @param ctx
+     * @return the latency histogram for the intercepted bean method
+     */
+    LatencyHistogram getLatencyHistogram(Bean<?> bean, InvocationContext ctx) {
+        Method method = ctx.getMethod();
+        ConcurrentMap<Method, LatencyHistogram> histograms = latencyHistograms.get(bean);
+        if (histograms == null) {
+            histograms = latencyHistograms.computeIfAbsent(bean, (b) -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = histograms.get(method);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(method, (m) -> new LatencyHistogram(bean, m, Invocation.guessType(ctx)));
         }
+        return histogram;
+    }
+
+    /**
+     *
+     * @return all the latency histograms
+     */
+    List<LatencyHistogram> getLatencyHistograms() {
+        List<LatencyHistogram> result = new ArrayList<>();
+        for (ConcurrentMap<Method, LatencyHistogram> histograms : latencyHistograms.values()) {
+            result.addAll(histograms.values());
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of removed latency histograms
+     */
+    int clearLatencyHistograms() {
+        int size = 0;
+        for (ConcurrentMap<Method, LatencyHistogram> histograms : latencyHistograms.values()) {
+            size += histograms.size();
+        }
+        latencyHistograms.clear();
+        return size;
     }
 
     /**
@@ -460,6 +540,14 @@ class Probe {
         return bootstrapStats;
     }
 
+    /**
+     *
+     * @return the conversation statistics or <code>null</code> if not initialized yet
+     */
+    ConversationStatistics getConversationStatistics() {
+        return conversationStatistics;
+    }
+
     /**
     *
     * @param id
@@ -487,9 +575,7 @@ class Probe {
     }
 
     int getFiredEventsCount() {
-        synchronized (events) {
-            return events.size();
-        }
+        return events.size();
     }
 
     boolean isUnused(Bean<?> bean) {
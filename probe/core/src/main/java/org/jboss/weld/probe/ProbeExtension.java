@@ -63,6 +63,7 @@ import javax.management.NotCompliantMBeanException;
 import javax.management.ObjectName;
 
 import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.Validator;
 import org.jboss.weld.bootstrap.events.AbstractContainerEvent;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
@@ -111,6 +112,7 @@ public class ProbeExtension implements Extension {
         manager.addValidationFailureCallback((exception, environment) -> {
             // Note that eventual problems are ignored during callback invocation
             probe.init(manager);
+            initValidationReport(manager);
             Reports.generateValidationReport(probe, exception, environment, manager);
         });
         event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(Monitored.class, beanManager), Monitored.class.getName());
@@ -121,6 +123,10 @@ public class ProbeExtension implements Extension {
         this.invocationMonitorExcludePattern = exclude.isEmpty() ? null : Pattern.compile(exclude);
         this.jsonDataProvider = new DefaultJsonDataProvider(probe, manager);
         this.eventMonitorContainerLifecycleEvents = configuration.getBooleanProperty(ConfigurationKey.PROBE_EVENT_MONITOR_CONTAINER_LIFECYCLE_EVENTS);
+        probe.configureMonitoring(getMonitoringLimit(configuration, ConfigurationKey.PROBE_INVOCATION_MONITOR_LIMIT),
+                getMonitoringLimit(configuration, ConfigurationKey.PROBE_EVENT_MONITOR_LIMIT),
+                configuration.getIntegerProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_SAMPLING),
+                configuration.getIntegerProperty(ConfigurationKey.PROBE_EVENT_MONITOR_SAMPLING));
         addContainerLifecycleEvent(event, null, beanManager);
     }
 
@@ -165,6 +171,7 @@ public class ProbeExtension implements Extension {
     public void afterDeploymentValidation(@Observes @Priority(1) AfterDeploymentValidation event, BeanManager beanManager) {
         BeanManagerImpl manager = BeanManagerProxy.unwrap(beanManager);
         probe.init(manager);
+        initValidationReport(manager);
         if (isJMXSupportEnabled(manager)) {
             try {
                 MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
@@ -254,6 +261,21 @@ public class ProbeExtension implements Extension {
         return jsonDataProvider;
     }
 
+    private void initValidationReport(BeanManagerImpl manager) {
+        Validator validator = manager.getServices().get(Validator.class);
+        if (validator != null) {
+            probe.getBootstrapStats().setValidationReport(validator.getReport());
+        }
+    }
+
+    private static int getMonitoringLimit(WeldConfiguration configuration, ConfigurationKey key) {
+        int limit = configuration.getIntegerProperty(key);
+        if (limit < 0) {
+            throw ProbeLogger.LOG.invalidMonitoringLimit(key.get(), limit);
+        }
+        return limit;
+    }
+
     private boolean isJMXSupportEnabled(BeanManagerImpl manager) {
         return manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.PROBE_JMX_SUPPORT);
     }
@@ -158,8 +158,8 @@ public class ProbeFilter implements Filter {
             final Invocation.Builder builder;
             if (!skipMonitoring) {
                 // Don't initialize a new builder if an entry point already exists
-                builder = InvocationMonitor.initBuilder(false);
-                if (builder != null) {
+                builder = InvocationMonitor.initBuilder(probe, false);
+                if (InvocationMonitor.isRecorded(builder)) {
                     builder.setDeclaringClassName(ProbeFilter.class.getName());
                     builder.setStart(System.currentTimeMillis());
                     builder.setMethodName("doFilter");
@@ -199,7 +199,7 @@ public class ProbeFilter implements Filter {
                     CharArrayWriter writer = new CharArrayWriter();
                     writer.write(captured.substring(0, idx));
                     writer.write(snippetBase);
-                    if (builder != null && !builder.isIgnored()) {
+                    if (InvocationMonitor.isRecorded(builder) && !builder.isIgnored()) {
                         writer.write("See <a style=\"color:#337ab7;text-decoration:underline;\" href=\"");
                         writer.write(req.getServletContext().getContextPath());
                         // This path must be hardcoded unless we find an easy way to reference the client-specific configuration
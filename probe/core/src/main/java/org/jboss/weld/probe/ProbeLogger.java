@@ -124,4 +124,7 @@ public interface ProbeLogger extends BasicLogger {
     @LogMessage(level = Level.WARN)
     @Message(id = 22, value = "Probe was not allowed to use customized Annotation toString(), falling back to JDK's default Annotation.toString(). The exception was: {0}", format = Format.MESSAGE_FORMAT)
     void cannotUseUnifiedAnnotationToStringConversion(Object path);
+
+    @Message(id = 23, value = "Invalid monitoring limit configured - {0} must not be a negative number: {1}", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException invalidMonitoringLimit(Object key, Object limit);
 }
@@ -189,6 +189,21 @@ enum Resource {
             append(resp, jsonDataProvider.receiveMonitoringStats());
         }
     }),
+    /**
+     * Latency histograms of monitored bean methods and observer methods.
+     */
+    LATENCIES("/latencies", new Handler() {
+        @Override
+        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveLatencies());
+        }
+
+        @Override
+        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            append(resp, jsonDataProvider.clearLatencies());
+        }
+    }),
     AVAILABLE_BEANS("/availableBeans", new Handler() {
         @Override
         protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
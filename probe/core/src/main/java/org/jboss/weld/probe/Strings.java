@@ -124,14 +124,30 @@ public final class Strings {
     public static final String INIT_TS = "initTs";
     public static final String DASHBOARD = "dashboard";
     public static final String BOOSTRAP_STATS = "bootstrapStats";
+    public static final String VALIDATION_STATS = "validationStats";
+    public static final String SLOWEST = "slowest";
     public static final String FIRED = "fired";
     public static final String INVOCATIONS = "invocations";
+    public static final String CONVERSATIONS = "conversations";
+    public static final String ACTIVE = "active";
+    public static final String EXPIRED = "expired";
     public static final String RESOLVE = "resolve";
     public static final String HASH = "hash";
     public static final String UNUSED = "unused";
     public static final String INVERTED = "inverted";
     public static final String CLASS_AVAILABILITY = "classAvailability";
     public static final String SYS_PROPERTY = "sysProperty";
+    public static final String LATENCIES = "latencies";
+    public static final String REMOVED_LATENCIES = "removedLatencies";
+    public static final String COUNT = "count";
+    public static final String TOTAL_TIME = "totalTime";
+    public static final String MEAN = "mean";
+    public static final String MAX = "max";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+    public static final String P999 = "p999";
+    public static final String THROUGHPUT = "throughput";
 
     public static final String PAGE = "page";
     public static final String PAGE_SIZE = "pageSize";
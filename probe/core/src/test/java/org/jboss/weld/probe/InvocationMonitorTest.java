@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+
+import org.jboss.weld.probe.Invocation.Type;
+import org.junit.Test;
+
+public class InvocationMonitorTest {
+
+    private static final InvocationMonitor.Action<Callable<?>> ACTION = new InvocationMonitor.Action<Callable<?>>() {
+
+        @Override
+        protected Object proceed(Callable<?> context) throws Exception {
+            return context.call();
+        }
+    };
+
+    @Test
+    public void testSampledInvocationTreeRecorded() throws Exception {
+        Probe probe = new Probe();
+        Invocation.Builder entryPoint = InvocationMonitor.initBuilder(probe);
+        assertTrue(InvocationMonitor.isRecorded(entryPoint));
+        assertTrue(entryPoint.isEntryPoint());
+        entryPoint.setMethodName("foo");
+        ACTION.perform(entryPoint, probe, () -> {
+            Invocation.Builder child = InvocationMonitor.initBuilder(probe);
+            assertTrue(InvocationMonitor.isRecorded(child));
+            assertFalse(child.isEntryPoint());
+            child.setMethodName("bar");
+            return ACTION.perform(child, probe, () -> null);
+        });
+        assertEquals(1, probe.getInvocationsCount());
+        Invocation invocation = probe.getInvocation(entryPoint.getEntryPointIdx().toString());
+        assertNotNull(invocation);
+        assertEquals("foo", invocation.getMethodName());
+        assertEquals(1, invocation.getChildren().size());
+        assertEquals("bar", invocation.getChildren().get(0).getMethodName());
+    }
+
+    @Test
+    public void testNoBuildersIfNotSampled() throws Exception {
+        Probe probe = new Probe();
+        probe.configureMonitoring(0, 0, 1, 1);
+        Invocation.Builder entryPoint = InvocationMonitor.initBuilder(probe);
+        assertSame(InvocationMonitor.NOT_SAMPLED, entryPoint);
+        assertFalse(InvocationMonitor.isRecorded(entryPoint));
+        LatencyHistogram histogram = new LatencyHistogram(null, null, Type.BUSINESS);
+        ACTION.perform(entryPoint, probe, () -> {
+            assertNull(InvocationMonitor.initBuilder(probe));
+            assertNull(InvocationMonitor.initBuilder(probe, false));
+            return null;
+        }, histogram);
+        assertEquals(0, probe.getInvocationsCount());
+        // The latency is recorded even if the invocation tree is not
+        assertEquals(1, histogram.snapshot().getCount());
+
+        // The unsampled entry point is no longer bound to the current thread
+        probe.configureMonitoring(10, 10, 1, 1);
+        Invocation.Builder next = InvocationMonitor.initBuilder(probe);
+        assertTrue(InvocationMonitor.isRecorded(next));
+        assertTrue(next.isEntryPoint());
+        ACTION.perform(next, probe, () -> null);
+        assertEquals(1, probe.getInvocationsCount());
+    }
+
+}
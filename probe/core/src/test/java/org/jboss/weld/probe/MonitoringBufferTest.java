@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class MonitoringBufferTest {
+
+    @Test
+    public void testOldestElementsOverwritten() {
+        MonitoringBuffer<Integer> buffer = new MonitoringBuffer<>(3);
+        assertFalse(buffer.add(1));
+        assertFalse(buffer.add(2));
+        assertFalse(buffer.add(3));
+        assertEquals(Arrays.asList(3, 2, 1), buffer.getAll());
+        // Capacity exceeded for the first time
+        assertTrue(buffer.add(4));
+        assertFalse(buffer.add(5));
+        assertEquals(3, buffer.size());
+        assertEquals(Arrays.asList(5, 4, 3), buffer.getAll());
+    }
+
+    @Test
+    public void testIndexEvictedWithBuffer() {
+        MonitoringBuffer<Integer> buffer = new MonitoringBuffer<>(2, i -> "key" + i);
+        buffer.add(1);
+        buffer.add(2);
+        assertEquals(Integer.valueOf(1), buffer.get("key1"));
+        assertEquals(Integer.valueOf(2), buffer.get("key2"));
+        buffer.add(3);
+        assertNull(buffer.get("key1"));
+        assertEquals(Integer.valueOf(2), buffer.get("key2"));
+        assertEquals(Integer.valueOf(3), buffer.get("key3"));
+        assertNull(new MonitoringBuffer<Integer>(2).get("key1"));
+    }
+
+    @Test
+    public void testZeroCapacityDisablesBuffer() {
+        MonitoringBuffer<Integer> buffer = new MonitoringBuffer<>(0, i -> i);
+        assertFalse(buffer.add(1));
+        assertFalse(buffer.add(2));
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.getAll().isEmpty());
+        assertNull(buffer.get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new MonitoringBuffer<Integer>(-1);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.unusedbeans.reachability;
+
+import static org.junit.Assert.assertEquals;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.ConfigurationKey.UnusedBeans;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.bootstrap.unusedbeans.TestExternalConfiguration;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class UnusedBeanReachabilityTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap
+                .create(BeanArchive.class,
+                        Utils.getDeploymentNameAsHash(UnusedBeanReachabilityTest.class))
+                .addPackage(UnusedBeanReachabilityTest.class.getPackage())
+                .addClass(TestExternalConfiguration.class)
+                .addAsServiceProvider(Service.class, TestExternalConfiguration.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.UNUSED_BEANS_EXCLUDE_TYPE.get(), UnusedBeans.NONE)
+                        .set(ConfigurationKey.UNUSED_BEANS_REACHABILITY.get(), "true")
+                        .build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManager beanManager;
+
+    @Test
+    public void testUnusedRootRemoved() {
+        assertEquals(0, beanManager.getBeans(UnusedRoot.class).size());
+    }
+
+    @Test
+    public void testDependencyOfUnusedBeanRemoved() {
+        assertEquals(0, beanManager.getBeans(UnusedDependency.class).size());
+    }
+
+    @Test
+    public void testDependencyOfUsedBeanNotRemoved() {
+        assertEquals(1, beanManager.getBeans(Observing.class).size());
+        assertEquals(1, beanManager.getBeans(UsedDependency.class).size());
+    }
+
+}
@@ -89,6 +89,18 @@ public class ELResolverTest {
         assertEquals(value2, value3);
     }
 
+    @Test
+    public void testResolveNormalScopedBeanReturnsContextualInstance() {
+        ELContext elContext = EL.createELContext(beanManager);
+        ExpressionFactory exprFactory = EL.EXPRESSION_FACTORY;
+
+        // The bean name resolution is cached but the resolver still returns the contextual instance, not the client proxy
+        for (int i = 0; i < 2; i++) {
+            Object value = exprFactory.createValueExpression(elContext, "#{lager}", Object.class).getValue(elContext);
+            assertEquals(Lager.class, value.getClass());
+        }
+    }
+
     /**
      * Test that the WeldELResolver only works to resolve the base of an EL
      * expression, in this case from a producer method. Once the base is
@@ -48,6 +48,15 @@ public class Bar {
         }).fire("");
     }
 
+    public Event<String> selectUpdated() {
+        return event.select(Updated.Literal.INSTANCE);
+    }
+
+    public Event<String> selectUpdatedWithNonStaticLiteral() {
+        return event.select(new AnnotationLiteral<Updated>() {
+        });
+    }
+
     public void fireWithNoQualifiersViaManager() {
         manager.fireEvent("");
     }
@@ -60,4 +60,22 @@ public class EventQualifierTest {
         Assert.assertTrue(bar.isUpdatedObserved());
     }
 
+    @Test
+    public void testSelectedEventReused(Bar bar) {
+        Assert.assertSame(bar.selectUpdated(), bar.selectUpdated());
+        bar.reset();
+        bar.selectUpdated().fire("");
+        Assert.assertTrue(bar.isUnqualifiedObserved());
+        Assert.assertTrue(bar.isUpdatedObserved());
+    }
+
+    @Test
+    public void testNonCacheableQualifier(Bar bar) {
+        Assert.assertNotSame(bar.selectUpdatedWithNonStaticLiteral(), bar.selectUpdatedWithNonStaticLiteral());
+        bar.reset();
+        bar.selectUpdatedWithNonStaticLiteral().fire("");
+        Assert.assertTrue(bar.isUnqualifiedObserved());
+        Assert.assertTrue(bar.isUpdatedObserved());
+    }
+
 }
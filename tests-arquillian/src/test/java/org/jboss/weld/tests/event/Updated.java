@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.tests.event;
 
+import jakarta.enterprise.util.AnnotationLiteral;
 import jakarta.inject.Qualifier;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
@@ -33,4 +34,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Documented
 @interface Updated {
 
+    @SuppressWarnings("all")
+    class Literal extends AnnotationLiteral<Updated> implements Updated {
+
+        static final Literal INSTANCE = new Literal();
+
+        private Literal() {
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2024, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.select;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class InstanceSelectReuseTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(InstanceSelectReuseTest.class))
+                .addPackage(InstanceSelectReuseTest.class.getPackage());
+    }
+
+    @Inject
+    Instance<Fruit> fruit;
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testSelectedInstanceReused() {
+        assertSame(fruit.select(Juicy.Literal.INSTANCE), fruit.select(Juicy.Literal.INSTANCE));
+        assertSame(fruit.select(Pear.class), fruit.select(Pear.class));
+        assertNotSame(fruit.select(Apple.class), fruit.select(Pear.class));
+        assertTrue(fruit.select(Juicy.Literal.INSTANCE).get() instanceof Apple);
+        assertTrue(fruit.select(Pear.class).get() instanceof Pear);
+    }
+
+    @Test
+    public void testNonCacheableQualifier() {
+        Instance<Fruit> juicy = fruit.select(new AnnotationLiteral<Juicy>() {
+        });
+        assertNotSame(juicy, fruit.select(new AnnotationLiteral<Juicy>() {
+        }));
+        assertTrue(juicy.get() instanceof Apple);
+    }
+
+    @Test
+    public void testSelectedInstanceInvalidated() {
+        Instance<Fruit> juicy = fruit.select(Juicy.Literal.INSTANCE);
+        // Simulate a change of beans
+        beanManager.getBeanResolver().clear();
+        Instance<Fruit> juicyAfterClear = fruit.select(Juicy.Literal.INSTANCE);
+        assertNotSame(juicy, juicyAfterClear);
+        assertSame(juicyAfterClear, fruit.select(Juicy.Literal.INSTANCE));
+        assertTrue(juicyAfterClear.get() instanceof Apple);
+    }
+
+}